@@ -3,6 +3,7 @@ package com.example.pos1.pos1.api;
 
 import com.example.pos1.pos1.dto.request.CustomerDto;
 import com.example.pos1.pos1.service.CustomerService;
+import com.example.pos1.pos1.util.CountMode;
 import com.example.pos1.pos1.util.StandardResponseDto;
 import lombok.RequiredArgsConstructor;
 import org.apache.coyote.Response;
@@ -84,13 +85,14 @@ public class CustomerController {
     public ResponseEntity<StandardResponseDto> getCustomer(
             @RequestParam String searchText,
             @RequestParam int page,
-            @RequestParam int size
+            @RequestParam int size,
+            @RequestParam(defaultValue = "EXACT") CountMode countMode
     ) {
         return new ResponseEntity<>(
                 StandardResponseDto.builder()
                         .code(201)
                         .message("Customer list")
-                        .data(customerService.FindAllCustomer(searchText,page,size))
+                        .data(customerService.FindAllCustomer(searchText,page,size,countMode))
                         .build(),
                 HttpStatus.OK
         ) ;
@@ -11,5 +11,6 @@ import java.util.List;
 @Builder
 public class CustomerResponsePaginatedDto {
     private Long dataCount;
+    private boolean hasNext;
     private List<CustomerResponseDto> dataList;
 }
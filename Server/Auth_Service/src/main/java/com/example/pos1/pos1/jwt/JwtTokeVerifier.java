@@ -27,10 +27,12 @@ public class JwtTokeVerifier extends OncePerRequestFilter {
 
     private final JwtConfig jwtConfig;
     private final SecretKey secretKey;
+    private final JwtVerificationCache verificationCache;
 
-    public JwtTokeVerifier(JwtConfig jwtConfig, SecretKey secretKey) {
+    public JwtTokeVerifier(JwtConfig jwtConfig, SecretKey secretKey, JwtVerificationCache verificationCache) {
         this.jwtConfig = jwtConfig;
         this.secretKey = secretKey;
+        this.verificationCache = verificationCache;
     }
 
     @Override
@@ -43,6 +45,13 @@ public class JwtTokeVerifier extends OncePerRequestFilter {
             return;
         }
         String token = authHeader.replace(jwtConfig.getTokenPrefix(), "");
+        // A token seen before skips parsing and signature verification until it expires
+        Authentication cached = verificationCache.get(token);
+        if (cached != null) {
+            SecurityContextHolder.getContext().setAuthentication(cached);
+            filterChain.doFilter(request,response);
+            return;
+        }
         try{
             Jws<Claims> claimsJws = Jwts.parser()
                     .setSigningKey(secretKey)
@@ -52,12 +61,13 @@ public class JwtTokeVerifier extends OncePerRequestFilter {
             var authorities = (List<Map<String,String>>)body.get("authorities");
             Set<SimpleGrantedAuthority> simpleGrantedAuthorities =
                     authorities.stream().map(m-> new SimpleGrantedAuthority(m.get("authority")))
-                            .collect(Collectors.toSet());
+                            .collect(Collectors.toUnmodifiableSet());
             Authentication authentication = new UsernamePasswordAuthenticationToken(
                     username,
                     null,
                     simpleGrantedAuthorities
             );
+            verificationCache.put(token, authentication, body.getExpiration());
             SecurityContextHolder.getContext().setAuthentication(authentication);
         }catch (JwtException e){
             throw new IllegalStateException(String.format("Token %s Cannot be trusted...", token));
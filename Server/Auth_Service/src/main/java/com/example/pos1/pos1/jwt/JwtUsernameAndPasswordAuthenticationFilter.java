@@ -2,7 +2,9 @@ package com.example.pos1.pos1.jwt;
 
 import com.example.pos1.pos1.dto.request.ApplicationUserLoginDto;
 import com.example.pos1.pos1.entity.ApplicationUser;
+import com.example.pos1.pos1.exception.TooManyRequestsException;
 import com.example.pos1.pos1.repo.ApplicationUserRepo;
+import com.example.pos1.pos1.security.BoundedPasswordEncoder;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.jsonwebtoken.Jwts;
 import jakarta.servlet.FilterChain;
@@ -10,6 +12,7 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -28,22 +31,30 @@ public class JwtUsernameAndPasswordAuthenticationFilter extends UsernamePassword
     private final AuthenticationManager authenticationManager;
     private final JwtConfig jwtConfig;
     private final SecretKey secretKey;
+    private final BoundedPasswordEncoder passwordEncoder;
 
     public JwtUsernameAndPasswordAuthenticationFilter(
             AuthenticationManager authenticationManager,
             JwtConfig jwtConfig,
             SecretKey secretKey,
-            ApplicationUserRepo userRepository) {
+            ApplicationUserRepo userRepository,
+            BoundedPasswordEncoder passwordEncoder) {
         this.authenticationManager = authenticationManager;
         this.jwtConfig = jwtConfig;
         this.secretKey = secretKey;
         this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
     }
 
     @Override
     public Authentication attemptAuthentication(HttpServletRequest request,
                                                 HttpServletResponse response)
             throws AuthenticationException {
+        // Turn logins away before reading the body or the user when the hashing pool is full
+        if (!passwordEncoder.hasCapacity()) {
+            rejectTooManyRequests(response);
+            return null;
+        }
         try {
             ApplicationUserLoginDto requestApplicationUserLoginDto =
                     new ObjectMapper().readValue(request.getInputStream(),
@@ -53,6 +64,20 @@ public class JwtUsernameAndPasswordAuthenticationFilter extends UsernamePassword
                     requestApplicationUserLoginDto.getPassword()
             );
             return authenticationManager.authenticate(authentication);
+        } catch (TooManyRequestsException e) {
+            rejectTooManyRequests(response);
+            return null;
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private void rejectTooManyRequests(HttpServletResponse response) {
+        try {
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.setContentType("application/json");
+            response.getWriter().write("{\"code\":429, \"message\":\"Too many login attempts, please try again shortly\", \"data\":null}");
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
@@ -0,0 +1,78 @@
+package com.example.pos1.pos1.jwt;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+import java.util.function.LongSupplier;
+
+/**
+ * Remembers the {@link Authentication} built from tokens that already passed signature
+ * verification, so a token presented again skips parsing and the HMAC check.
+ *
+ * Entries are keyed by the SHA-256 of the token, so raw tokens are not kept in memory. An
+ * entry is never served at or after the token's {@code exp}, and never longer than the
+ * configured TTL after it was verified.
+ */
+@Component
+public class JwtVerificationCache {
+
+    private final Cache<HashCode, Entry> entries;
+    private final LongSupplier clock;
+
+    @Autowired
+    public JwtVerificationCache(@Value("${application.jwt.cache.max-entries:10000}") long maxEntries,
+                                @Value("${application.jwt.cache.ttl-millis:300000}") long ttlMillis) {
+        this(maxEntries, ttlMillis, System::currentTimeMillis);
+    }
+
+    JwtVerificationCache(long maxEntries, long ttlMillis, LongSupplier clock) {
+        this.entries = CacheBuilder.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .build();
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the authentication of a verified token, or null if the token has to be verified.
+     */
+    public Authentication get(String token) {
+        HashCode key = key(token);
+        Entry entry = entries.getIfPresent(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt() <= clock.getAsLong()) {
+            entries.invalidate(key);
+            return null;
+        }
+        return entry.authentication();
+    }
+
+    /**
+     * Caches the authentication of a token whose signature was just verified. Tokens without
+     * an expiry are only bounded by the TTL.
+     */
+    public void put(String token, Authentication authentication, Date expiration) {
+        long expiresAt = expiration == null ? Long.MAX_VALUE : expiration.getTime();
+        if (expiresAt > clock.getAsLong()) {
+            entries.put(key(token), new Entry(authentication, expiresAt));
+        }
+    }
+
+    private static HashCode key(String token) {
+        return Hashing.sha256().hashString(token, StandardCharsets.UTF_8);
+    }
+
+    private record Entry(Authentication authentication, long expiresAt) {
+    }
+}
@@ -3,6 +3,7 @@ package com.example.pos1.pos1.security;
 import com.example.pos1.pos1.jwt.JwtConfig;
 import com.example.pos1.pos1.jwt.JwtTokeVerifier;
 import com.example.pos1.pos1.jwt.JwtUsernameAndPasswordAuthenticationFilter;
+import com.example.pos1.pos1.jwt.JwtVerificationCache;
 import com.example.pos1.pos1.repo.ApplicationUserRepo;
 import com.example.pos1.pos1.service.impl.ApplicationUserServiceImpl;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -18,7 +19,6 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configuration.WebSecurityConfiguration;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
@@ -28,19 +28,21 @@ import javax.crypto.SecretKey;
 @EnableWebSecurity
 @EnableGlobalMethodSecurity(prePostEnabled = true)
 public class ApplicationSecurityConfig extends WebSecurityConfiguration {
-    private final PasswordEncoder passwordEncoder;
+    private final BoundedPasswordEncoder passwordEncoder;
     private final ApplicationUserServiceImpl userService;
     private final SecretKey secretKey;
     private final JwtConfig jwtConfig;
     private final ApplicationUserRepo userRepository;
+    private final JwtVerificationCache verificationCache;
 
     @Autowired
-    public ApplicationSecurityConfig(PasswordEncoder passwordEncoder, ApplicationUserServiceImpl userService, SecretKey secretKey, JwtConfig jwtConfig,ApplicationUserRepo userRepository) {
+    public ApplicationSecurityConfig(BoundedPasswordEncoder passwordEncoder, ApplicationUserServiceImpl userService, SecretKey secretKey, JwtConfig jwtConfig,ApplicationUserRepo userRepository, JwtVerificationCache verificationCache) {
         this.passwordEncoder = passwordEncoder;
         this.userService = userService;
         this.secretKey = secretKey;
         this.jwtConfig = jwtConfig;
         this.userRepository = userRepository;
+        this.verificationCache = verificationCache;
     }
 
     @Bean
@@ -49,10 +51,11 @@ public class ApplicationSecurityConfig extends WebSecurityConfiguration {
     ) throws Exception {
         http.csrf(AbstractHttpConfigurer::disable)
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
-                .addFilter(new JwtUsernameAndPasswordAuthenticationFilter(authenticationManager, jwtConfig, secretKey, userRepository))
-                .addFilterAfter(new JwtTokeVerifier(jwtConfig, secretKey), UsernamePasswordAuthenticationFilter.class)
+                .addFilter(new JwtUsernameAndPasswordAuthenticationFilter(authenticationManager, jwtConfig, secretKey, userRepository, passwordEncoder))
+                .addFilterAfter(new JwtTokeVerifier(jwtConfig, secretKey, verificationCache), UsernamePasswordAuthenticationFilter.class)
                 .authorizeHttpRequests(authorize -> authorize
                         .requestMatchers("/api/v1/users/visitor/**").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         .requestMatchers("/api/v1/users/change-role").hasRole("ADMIN")
                         .requestMatchers("/api/v1/users/**").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.GET, "/api/v1/customers/visitor/**").permitAll()
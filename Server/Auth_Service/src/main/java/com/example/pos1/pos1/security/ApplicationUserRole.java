@@ -5,8 +5,14 @@ import com.google.common.collect.Sets;
 import lombok.Getter;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 
 @Getter
@@ -40,6 +46,40 @@ public enum ApplicationUserRole {
 
 
 
+    private static final Map<String, ApplicationUserRole> BY_ROLE_NAME;
+    private static final Map<ApplicationUserRole, Set<SimpleGrantedAuthority>> AUTHORITIES =
+            new EnumMap<>(ApplicationUserRole.class);
+    // Authorities of every role combination, indexed by the bit set of role ordinals
+    private static final List<Set<SimpleGrantedAuthority>> COMBINED_AUTHORITIES;
+
+    static {
+        Map<String, ApplicationUserRole> byRoleName = new HashMap<>();
+        for (ApplicationUserRole role : values()) {
+            byRoleName.put(role.name(), role);
+            Set<SimpleGrantedAuthority> authorities = new HashSet<>();
+            role.getApplicationUserPermissions().forEach(permission ->
+                    authorities.add(new SimpleGrantedAuthority(permission.getPermission())));
+            authorities.add(new SimpleGrantedAuthority("ROLE_" + role.name())); // ROLE_USER
+            AUTHORITIES.put(role, Set.copyOf(authorities));
+        }
+        BY_ROLE_NAME = Map.copyOf(byRoleName);
+
+        List<Set<SimpleGrantedAuthority>> combined = new ArrayList<>();
+        for (int mask = 0; mask < 1 << values().length; mask++) {
+            Set<SimpleGrantedAuthority> authorities = new HashSet<>();
+            for (ApplicationUserRole role : values()) {
+                if ((mask & 1 << role.ordinal()) != 0) {
+                    authorities.addAll(AUTHORITIES.get(role));
+                }
+            }
+            // A single role shares its own set
+            combined.add(Integer.bitCount(mask) == 1
+                    ? AUTHORITIES.get(values()[Integer.numberOfTrailingZeros(mask)])
+                    : Set.copyOf(authorities));
+        }
+        COMBINED_AUTHORITIES = List.copyOf(combined);
+    }
+
     private final Set<ApplicationUserPermission> applicationUserPermissions;
 
     ApplicationUserRole(Set<ApplicationUserPermission> applicationUserPermissions) {
@@ -47,14 +87,29 @@ public enum ApplicationUserRole {
     }
 
 
+    /**
+     * The role's permissions plus its ROLE_ authority, built once. The set is immutable.
+     */
     public Set<SimpleGrantedAuthority> grantedAuthorities() {
-        Set<SimpleGrantedAuthority> permissions = getApplicationUserPermissions()
-                .stream().map(permission ->
-                        new SimpleGrantedAuthority(permission.getPermission()))
-                .collect(Collectors.toSet());
-        permissions.add(
-                new SimpleGrantedAuthority("ROLE_" + this.name()) // ROLE_USER
-        );
-        return permissions;
+        return AUTHORITIES.get(this);
+    }
+
+    /**
+     * Finds the role stored under a {@code UserRole} role name.
+     */
+    public static Optional<ApplicationUserRole> fromRoleName(String roleName) {
+        return Optional.ofNullable(roleName == null ? null : BY_ROLE_NAME.get(roleName));
+    }
+
+    /**
+     * The union of the authorities of the given roles, built once per role combination. The set
+     * is immutable.
+     */
+    public static Set<SimpleGrantedAuthority> grantedAuthorities(Set<ApplicationUserRole> roles) {
+        int mask = 0;
+        for (ApplicationUserRole role : roles) {
+            mask |= 1 << role.ordinal();
+        }
+        return COMBINED_AUTHORITIES.get(mask);
     }
 }
@@ -12,6 +12,7 @@ import com.example.pos1.pos1.exception.EntryNotFoundException;
 import com.example.pos1.pos1.jwt.JwtConfig;
 import com.example.pos1.pos1.repo.ApplicationUserRepo;
 import com.example.pos1.pos1.repo.ApplicationUserRoleRepo;
+import com.example.pos1.pos1.security.ApplicationUserRole;
 import com.example.pos1.pos1.security.SupportSpringApplicationUser;
 import com.example.pos1.pos1.service.ApplicationUserService;
 import io.jsonwebtoken.Claims;
@@ -34,8 +35,6 @@ import java.io.IOException;
 import java.util.*;
 import java.util.stream.Collectors;
 
-import static com.example.pos1.pos1.security.ApplicationUserRole.*;
-
 @Service
 @RequiredArgsConstructor
 public class ApplicationUserServiceImpl implements ApplicationUserService {
@@ -54,23 +53,11 @@ public class ApplicationUserServiceImpl implements ApplicationUserService {
             if (selectedUserData.isEmpty()) {
                 throw new EntryNotFoundException(String.format("username %s not found", username));
             }
-            Set<SimpleGrantedAuthority> grantedAuthorities = new HashSet<>();
-
+            Set<ApplicationUserRole> roles = EnumSet.noneOf(ApplicationUserRole.class);
             for (UserRole u : selectedUserData.get().getRoles()) {
-                if (u.getRoleName().equals("ADMIN")) {
-                    grantedAuthorities.addAll(ADMIN.grantedAuthorities());
-                }
-                if (u.getRoleName().equals("USER")) {
-                    grantedAuthorities.addAll(USER.grantedAuthorities());
-                }
-                if (u.getRoleName().equals("RESTAURANT_OWNER")) {
-                    grantedAuthorities.addAll(RESTAURANT_OWNER.grantedAuthorities());
-                }
-                if (u.getRoleName().equals("DELIVERY_PERSON")) {
-                    grantedAuthorities.addAll(DELIVERY_PERSON.grantedAuthorities());
-                }
+                ApplicationUserRole.fromRoleName(u.getRoleName()).ifPresent(roles::add);
             }
-
+            Set<SimpleGrantedAuthority> grantedAuthorities = ApplicationUserRole.grantedAuthorities(roles);
 
             return new SupportSpringApplicationUser(
                     selectedUserData.get().getUsername(),
@@ -7,8 +7,9 @@ import com.example.pos1.pos1.entity.Customer;
 import com.example.pos1.pos1.exception.EntryNotFoundException;
 import com.example.pos1.pos1.repo.CustomerRepo;
 import com.example.pos1.pos1.service.CustomerService;
+import com.example.pos1.pos1.util.CountMode;
+import com.example.pos1.pos1.util.Paginator;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import java.util.UUID;
@@ -19,6 +20,7 @@ import java.util.stream.Collectors;
 public class CustomerServiceImpl implements CustomerService {
 
     private final CustomerRepo customerRepo;
+    private final Paginator paginator;
 
     @Override
     public void customerSave(CustomerDto dto) {
@@ -51,10 +53,14 @@ public class CustomerServiceImpl implements CustomerService {
     }
 
     @Override
-    public CustomerResponsePaginatedDto FindAllCustomer(String searchText, int page, int size) {
+    public CustomerResponsePaginatedDto FindAllCustomer(String searchText, int page, int size, CountMode countMode) {
+        Paginator.Result<Customer> result = paginator.paginate(countMode, "customer:" + searchText, page, size,
+                pageable -> customerRepo.searchAllCustomers(searchText, pageable),
+                () -> customerRepo.countAllCustomers(searchText));
         return CustomerResponsePaginatedDto.builder()
-                .dataCount(customerRepo.countAllCustomers(searchText))
-                .dataList(customerRepo.searchAllCustomers(searchText,PageRequest.of(page,size))
+                .dataCount(result.total())
+                .hasNext(result.hasNext())
+                .dataList(result.content()
                         .stream()
                         .map(this::toCustomerResponseDto)
                         .collect(Collectors.toList()))
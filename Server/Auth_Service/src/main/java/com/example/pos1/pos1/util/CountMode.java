@@ -0,0 +1,13 @@
+package com.example.pos1.pos1.util;
+
+/**
+ * How a paginated listing reports its size.
+ */
+public enum CountMode {
+    /** Run a COUNT query on every request. */
+    EXACT,
+    /** Reuse a recent COUNT result for the same filter, refreshed after a short TTL. */
+    CACHED,
+    /** Skip COUNT entirely and only report whether another page exists. */
+    HAS_NEXT
+}
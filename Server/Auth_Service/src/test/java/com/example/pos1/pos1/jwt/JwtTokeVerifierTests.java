@@ -0,0 +1,92 @@
+package com.example.pos1.pos1.jwt;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.crypto.SecretKey;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JwtTokeVerifierTests {
+
+	private static final int REQUESTS = 2_000;
+
+	private final JwtConfig jwtConfig = new JwtConfig(null, "Bearer ", 2);
+	private final SecretKey secretKey = Keys.hmacShaKeyFor("a-test-signing-key-of-at-least-256-bits".getBytes());
+	private final String token = Jwts.builder()
+			.setSubject("user")
+			.claim("authorities", List.of(Map.of("authority", "ROLE_USER"), Map.of("authority", "order:read")))
+			.setExpiration(new Date(System.currentTimeMillis() + 3_600_000))
+			.signWith(secretKey)
+			.compact();
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void servesARepeatedTokenFromTheCache() throws Exception {
+		JwtTokeVerifier verifier = new JwtTokeVerifier(jwtConfig, secretKey, new JwtVerificationCache(100, 60_000));
+
+		Authentication first = filter(verifier);
+		Authentication second = filter(verifier);
+
+		assertEquals("user", first.getPrincipal());
+		assertEquals(Set.of("ROLE_USER", "order:read"),
+				first.getAuthorities().stream().map(GrantedAuthority::getAuthority).collect(Collectors.toSet()));
+		assertSame(first, second);
+	}
+
+	@Test
+	void cachedTokensCostLessPerRequestThanParsing() throws Exception {
+		// A cache that keeps nothing parses and verifies the token on every request
+		JwtTokeVerifier parsing = new JwtTokeVerifier(jwtConfig, secretKey, new JwtVerificationCache(0, 60_000));
+		JwtTokeVerifier cached = new JwtTokeVerifier(jwtConfig, secretKey, new JwtVerificationCache(100, 60_000));
+		nanosPerRequest(parsing);
+		nanosPerRequest(cached);
+
+		long parseNanos = nanosPerRequest(parsing);
+		long hitNanos = nanosPerRequest(cached);
+
+		assertTrue(hitNanos * 5 < parseNanos, "filter overhead per request: cache hit " + hitNanos / 1000.0
+				+ "us, parse and verify " + parseNanos / 1000.0 + "us");
+	}
+
+	// Best of three rounds of REQUESTS requests carrying the same token
+	private long nanosPerRequest(JwtTokeVerifier verifier) throws Exception {
+		long best = Long.MAX_VALUE;
+		for (int round = 0; round < 3; round++) {
+			long started = System.nanoTime();
+			for (int i = 0; i < REQUESTS; i++) {
+				filter(verifier);
+			}
+			best = Math.min(best, System.nanoTime() - started);
+		}
+		return best / REQUESTS;
+	}
+
+	private Authentication filter(JwtTokeVerifier verifier) throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/users");
+		request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+		SecurityContextHolder.clearContext();
+		verifier.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+		return SecurityContextHolder.getContext().getAuthentication();
+	}
+}
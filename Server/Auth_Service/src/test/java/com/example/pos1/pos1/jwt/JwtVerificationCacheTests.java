@@ -0,0 +1,37 @@
+package com.example.pos1.pos1.jwt;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class JwtVerificationCacheTests {
+
+	private final AtomicLong now = new AtomicLong(1_000);
+	private final JwtVerificationCache cache = new JwtVerificationCache(100, 60_000, now::get);
+	private final Authentication authentication = new UsernamePasswordAuthenticationToken("user", null, List.of());
+
+	@Test
+	void servesVerifiedTokenUntilItExpires() {
+		cache.put("token", authentication, new Date(5_000));
+
+		assertSame(authentication, cache.get("token"));
+		assertNull(cache.get("other"));
+
+		now.set(5_000);
+		assertNull(cache.get("token"));
+	}
+
+	@Test
+	void doesNotCacheExpiredTokens() {
+		cache.put("token", authentication, new Date(1_000));
+
+		assertNull(cache.get("token"));
+	}
+}
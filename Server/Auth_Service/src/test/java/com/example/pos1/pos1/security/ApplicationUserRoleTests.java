@@ -0,0 +1,46 @@
+package com.example.pos1.pos1.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ApplicationUserRoleTests {
+
+	@Test
+	void combinedAuthoritiesAreTheUnionOfEachRole() {
+		for (ApplicationUserRole first : ApplicationUserRole.values()) {
+			for (ApplicationUserRole second : ApplicationUserRole.values()) {
+				Set<SimpleGrantedAuthority> expected = new HashSet<>(first.grantedAuthorities());
+				expected.addAll(second.grantedAuthorities());
+
+				assertEquals(expected, ApplicationUserRole.grantedAuthorities(EnumSet.of(first, second)));
+			}
+		}
+		assertTrue(ApplicationUserRole.grantedAuthorities(EnumSet.noneOf(ApplicationUserRole.class)).isEmpty());
+	}
+
+	@Test
+	void authoritySetsAreSharedAndImmutable() {
+		Set<SimpleGrantedAuthority> admin = ApplicationUserRole.ADMIN.grantedAuthorities();
+
+		assertSame(admin, ApplicationUserRole.grantedAuthorities(EnumSet.of(ApplicationUserRole.ADMIN)));
+		assertTrue(admin.contains(new SimpleGrantedAuthority("ROLE_ADMIN")));
+		assertThrows(UnsupportedOperationException.class, () -> admin.add(new SimpleGrantedAuthority("ROLE_X")));
+	}
+
+	@Test
+	void looksUpRolesByName() {
+		assertEquals(Optional.of(ApplicationUserRole.RESTAURANT_OWNER), ApplicationUserRole.fromRoleName("RESTAURANT_OWNER"));
+		assertEquals(Optional.empty(), ApplicationUserRole.fromRoleName("GUEST"));
+		assertEquals(Optional.empty(), ApplicationUserRole.fromRoleName(null));
+	}
+}
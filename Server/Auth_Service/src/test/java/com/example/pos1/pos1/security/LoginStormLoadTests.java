@@ -0,0 +1,158 @@
+package com.example.pos1.pos1.security;
+
+import com.example.pos1.pos1.exception.TooManyRequestsException;
+import com.example.pos1.pos1.jwt.JwtConfig;
+import com.example.pos1.pos1.jwt.JwtTokeVerifier;
+import com.example.pos1.pos1.jwt.JwtVerificationCache;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import javax.crypto.SecretKey;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Drives a login storm through a fixed pool of request threads, standing in for the servlet
+ * container, while one client keeps sending token-authenticated requests. Compares hashing on
+ * the request threads with hashing on the {@link BoundedPasswordEncoder} pool.
+ */
+class LoginStormLoadTests {
+
+	private static final int REQUEST_THREADS = 32;
+	private static final int LOGIN_CLIENTS = 64;
+	private static final long STORM_MILLIS = 2_000;
+
+	private final BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(10);
+	private final String encodedPassword = bcrypt.encode("password");
+	private final SecretKey secretKey = Keys.hmacShaKeyFor("a-test-signing-key-of-at-least-256-bits".getBytes());
+	private final JwtTokeVerifier tokenVerifier = new JwtTokeVerifier(new JwtConfig(null, "Bearer ", 2), secretKey,
+			new JwtVerificationCache(100, 60_000));
+	private final String token = Jwts.builder()
+			.setSubject("user")
+			.claim("authorities", List.of(Map.of("authority", "ROLE_USER")))
+			.setExpiration(new Date(System.currentTimeMillis() + 3_600_000))
+			.signWith(secretKey)
+			.compact();
+
+	@Test
+	void otherRequestsStayResponsiveDuringALoginStorm() throws Exception {
+		StormResult unbounded = storm(bcrypt, null);
+		BoundedPasswordEncoder boundedEncoder = new BoundedPasswordEncoder(bcrypt,
+				Math.max(1, Runtime.getRuntime().availableProcessors() / 2), 16, new SimpleMeterRegistry());
+		StormResult bounded;
+		try {
+			bounded = storm(boundedEncoder, boundedEncoder);
+		} finally {
+			boundedEncoder.shutdown();
+		}
+
+		String report = "p99 during a login storm, hashing on request threads: " + unbounded
+				+ "; hashing on the bounded pool: " + bounded;
+		assertTrue(bounded.logins() > 0 && bounded.rejectedLogins() > 0, report);
+		assertTrue(bounded.otherP99Millis() < 50, report);
+		assertTrue(bounded.otherP99Millis() * 5 < unbounded.otherP99Millis(), report);
+	}
+
+	private StormResult storm(PasswordEncoder encoder, BoundedPasswordEncoder boundedEncoder) throws Exception {
+		ExecutorService requestThreads = Executors.newFixedThreadPool(REQUEST_THREADS);
+		ExecutorService clients = Executors.newFixedThreadPool(LOGIN_CLIENTS);
+		AtomicBoolean running = new AtomicBoolean(true);
+		AtomicInteger rejected = new AtomicInteger();
+		List<Long> loginNanos = Collections.synchronizedList(new ArrayList<>());
+		List<Long> otherNanos = new ArrayList<>();
+		try {
+			List<Future<?>> loginClients = new ArrayList<>();
+			for (int i = 0; i < LOGIN_CLIENTS; i++) {
+				loginClients.add(clients.submit(() -> {
+					while (running.get()) {
+						long started = System.nanoTime();
+						boolean accepted = requestThreads.submit(() -> login(encoder, boundedEncoder)).get();
+						if (accepted) {
+							loginNanos.add(System.nanoTime() - started);
+						} else {
+							rejected.incrementAndGet();
+							// A scaled down Retry-After
+							Thread.sleep(100);
+						}
+					}
+					return null;
+				}));
+			}
+
+			long stormEnds = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(STORM_MILLIS);
+			while (System.nanoTime() < stormEnds) {
+				long started = System.nanoTime();
+				requestThreads.submit(this::authenticatedRequest).get();
+				otherNanos.add(System.nanoTime() - started);
+				Thread.sleep(5);
+			}
+			running.set(false);
+			for (Future<?> client : loginClients) {
+				client.get(60, TimeUnit.SECONDS);
+			}
+		} finally {
+			running.set(false);
+			clients.shutdownNow();
+			requestThreads.shutdownNow();
+		}
+		return new StormResult(loginNanos.size(), rejected.get(), p99Millis(loginNanos), p99Millis(otherNanos));
+	}
+
+	// Mirrors the login filter: turned away up front when the pool is full, else the password is checked
+	private boolean login(PasswordEncoder encoder, BoundedPasswordEncoder boundedEncoder) {
+		if (boundedEncoder != null && !boundedEncoder.hasCapacity()) {
+			return false;
+		}
+		try {
+			return encoder.matches("password", encodedPassword);
+		} catch (TooManyRequestsException e) {
+			return false;
+		}
+	}
+
+	private Void authenticatedRequest() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/users");
+		request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+		tokenVerifier.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+		SecurityContextHolder.clearContext();
+		return null;
+	}
+
+	private static double p99Millis(List<Long> nanos) {
+		if (nanos.isEmpty()) {
+			return 0;
+		}
+		List<Long> sorted = new ArrayList<>(nanos);
+		Collections.sort(sorted);
+		return sorted.get((int) Math.ceil(sorted.size() * 0.99) - 1) / 1_000_000.0;
+	}
+
+	private record StormResult(int logins, int rejectedLogins, double loginP99Millis, double otherP99Millis) {
+
+		@Override
+		public String toString() {
+			return "logins " + loginP99Millis + "ms (" + logins + " served, " + rejectedLogins + " rejected), other requests "
+					+ otherP99Millis + "ms";
+		}
+	}
+}
@@ -0,0 +1,107 @@
+package com.example.pos1.pos1.service.impl;
+
+import com.example.pos1.pos1.entity.ApplicationUser;
+import com.example.pos1.pos1.entity.UserRole;
+import com.example.pos1.pos1.repo.ApplicationUserRepo;
+import com.example.pos1.pos1.repo.ApplicationUserRoleRepo;
+import com.example.pos1.pos1.security.ApplicationUserRole;
+import com.example.pos1.pos1.security.SupportSpringApplicationUser;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.lang.reflect.Proxy;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class ApplicationUserServiceImplTests {
+
+	private static final int LOOKUPS = 200_000;
+
+	private final ApplicationUser user = ApplicationUser.builder()
+			.username("owner@example.com")
+			.password("encoded")
+			.isAccountNonExpired(true)
+			.isAccountNonLocked(true)
+			.isCredentialsNonExpired(true)
+			.isEnabled(true)
+			.roles(Set.of(role("USER"), role("RESTAURANT_OWNER")))
+			.build();
+
+	// A plain proxy rather than a mock, whose per call bookkeeping would swamp the timings
+	private final ApplicationUserRepo userRepo = (ApplicationUserRepo) Proxy.newProxyInstance(
+			ApplicationUserRepo.class.getClassLoader(), new Class<?>[]{ApplicationUserRepo.class}, (proxy, method, args) -> {
+				if (method.getName().equals("findByUsername")) {
+					return Optional.of(user).filter(found -> found.getUsername().equals(args[0]));
+				}
+				throw new UnsupportedOperationException(method.getName());
+			});
+	private final ApplicationUserServiceImpl userService = new ApplicationUserServiceImpl(userRepo,
+			mock(ApplicationUserRoleRepo.class), mock(PasswordEncoder.class), null, null);
+
+	@Test
+	void loadsUsersFasterThanBuildingTheirAuthoritiesPerCall() {
+		assertEquals(authorities(loadUserByUsernameBefore(user.getUsername())),
+				authorities(userService.loadUserByUsername(user.getUsername())));
+		nanosPerLookup(this::loadUserByUsernameBefore);
+		nanosPerLookup(userService::loadUserByUsername);
+
+		long before = nanosPerLookup(this::loadUserByUsernameBefore);
+		long after = nanosPerLookup(userService::loadUserByUsername);
+
+		assertTrue(after * 4 < before, "loadUserByUsername with two roles: before " + before
+				+ "ns, after " + after + "ns");
+	}
+
+	// Best of three rounds of LOOKUPS lookups of the same user
+	private long nanosPerLookup(Function<String, UserDetails> loadUserByUsername) {
+		long best = Long.MAX_VALUE;
+		int authorities = 0;
+		for (int round = 0; round < 3; round++) {
+			long started = System.nanoTime();
+			for (int i = 0; i < LOOKUPS; i++) {
+				authorities += loadUserByUsername.apply(user.getUsername()).getAuthorities().size();
+			}
+			best = Math.min(best, System.nanoTime() - started);
+		}
+		assertTrue(authorities > 0);
+		return best / LOOKUPS;
+	}
+
+	// The lookup as it was before the authority sets were built once per role combination
+	private UserDetails loadUserByUsernameBefore(String username) {
+		ApplicationUser selected = userRepo.findByUsername(username).orElseThrow();
+		Set<SimpleGrantedAuthority> grantedAuthorities = new HashSet<>();
+		for (UserRole u : selected.getRoles()) {
+			for (ApplicationUserRole role : ApplicationUserRole.values()) {
+				if (u.getRoleName().equals(role.name())) {
+					Set<SimpleGrantedAuthority> permissions = role.getApplicationUserPermissions()
+							.stream().map(permission -> new SimpleGrantedAuthority(permission.getPermission()))
+							.collect(Collectors.toSet());
+					permissions.add(new SimpleGrantedAuthority("ROLE_" + role.name()));
+					grantedAuthorities.addAll(permissions);
+				}
+			}
+		}
+		return new SupportSpringApplicationUser(selected.getUsername(), selected.getPassword(),
+				selected.isAccountNonExpired(), selected.isAccountNonLocked(), selected.isCredentialsNonExpired(),
+				selected.isEnabled(), grantedAuthorities);
+	}
+
+	private static Set<String> authorities(UserDetails userDetails) {
+		return userDetails.getAuthorities().stream().map(GrantedAuthority::getAuthority).collect(Collectors.toSet());
+	}
+
+	private static UserRole role(String roleName) {
+		return UserRole.builder().roleId(roleName.toLowerCase()).roleName(roleName).build();
+	}
+}
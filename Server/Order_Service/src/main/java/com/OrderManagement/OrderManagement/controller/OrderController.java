@@ -53,8 +53,17 @@ public class OrderController {
         return ResponseEntity.ok(orderService.getOrdersByUserId(userId));
     }
     @GetMapping("restaurant/{restaurantId}")
-    public ResponseEntity<List<OrderModel>> getOrdersByRestaurantId(@PathVariable String restaurantId) {
-        return ResponseEntity.ok(orderService.getOrdersByRestaurantId(restaurantId));
+    public ResponseEntity<List<OrderModel>> getOrdersByRestaurantId(@PathVariable String restaurantId,
+                                                                    @RequestParam(required = false) OrderStatus status) {
+        return ResponseEntity.ok(orderService.getOrdersByRestaurantId(restaurantId, status));
+    }
+
+    // Get the order a user placed with an idempotency key, e.g. to settle a placement that timed out
+    @GetMapping("/idempotency-key")
+    public ResponseEntity<OrderModel> getOrderByIdempotencyKey(@RequestParam String userId,
+                                                               @RequestParam String restaurantId,
+                                                               @RequestHeader("Idempotency-Key") String idempotencyKey) {
+        return ResponseEntity.ok(orderService.getOrderByIdempotencyKey(userId, restaurantId, idempotencyKey));
     }
 
     // Get order by ID
@@ -65,8 +74,9 @@ public class OrderController {
 
     // Create new order
     @PostMapping
-    public ResponseEntity<OrderModel> createOrder(@Valid @RequestBody OrderModel order) {
-        OrderModel createdOrder = orderService.createOrder(order);
+    public ResponseEntity<OrderModel> createOrder(@Valid @RequestBody OrderModel order,
+                                                  @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        OrderModel createdOrder = orderService.createOrder(order, idempotencyKey);
         return ResponseEntity.status(HttpStatus.CREATED).body(createdOrder);
     }
 
@@ -1,5 +1,8 @@
 package com.OrderManagement.OrderManagement.model;
 
+import com.OrderManagement.OrderManagement.sharding.AssignedOrIdentity;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
@@ -19,8 +22,10 @@ import java.util.List;
 @Builder
 public class OrderModel {
 
+    // With sharding, assigned by OrderIdGenerator and encodes the shard that stores the order;
+    // otherwise generated by the database
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @AssignedOrIdentity
     private Long orderId;
 
     @NotNull(message = "User ID cannot be null")
@@ -35,6 +40,25 @@ public class OrderModel {
     private LocalDateTime orderDate;
     private LocalDateTime lastUpdated;
 
+    // Status transition timestamps, set by the service on each transition
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private LocalDateTime placedAt;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private LocalDateTime confirmedAt;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private LocalDateTime preparingAt;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private LocalDateTime outForDeliveryAt;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private LocalDateTime deliveredAt;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private LocalDateTime cancelledAt;
+
     @NotNull(message = "Delivery address cannot be null")
     private String deliveryAddress;
 
@@ -57,6 +81,10 @@ public class OrderModel {
     @Positive(message = "Total amount must be positive")
     private BigDecimal totalAmount;
 
+    // Idempotency-Key of the request that placed the order, unique per user on its shard
+    @JsonIgnore
+    private String idempotencyKey;
+
     @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true)
     @JoinColumn(name = "order_id")
     private List<OrderItem> orderItems;
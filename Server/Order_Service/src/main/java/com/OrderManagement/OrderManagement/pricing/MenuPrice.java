@@ -0,0 +1,20 @@
+package com.OrderManagement.OrderManagement.pricing;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Server-side price of a menu item in minor currency units, with any item discount applied.
+ *
+ * The discount is a whole percentage whose amount is rounded half up to the cent, the same
+ * rule Restaurant_Service uses for cart totals.
+ */
+public record MenuPrice(String menuItemId, String restaurantId, long unitPriceCents, boolean available) {
+
+    public static MenuPrice of(String menuItemId, String restaurantId, double price, int discount, boolean available) {
+        long listCents = BigDecimal.valueOf(price).movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact();
+        int percent = Math.min(100, Math.max(0, discount));
+        long unitPriceCents = listCents - (listCents * percent + 50) / 100;
+        return new MenuPrice(menuItemId, restaurantId, unitPriceCents, available);
+    }
+}
@@ -0,0 +1,74 @@
+package com.OrderManagement.OrderManagement.pricing;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Local copy of menu prices keyed by menuItemId, so order placement can verify prices
+ * without calling Restaurant_Service.
+ *
+ * Every change event stamps its entry from a counter. Prices fetched from Restaurant_Service
+ * are applied with the stamp read before the fetch started, so they never overwrite a change
+ * event that arrived while the fetch was in flight. Removals are kept as stamped tombstones
+ * until the next full refresh, so a fetch cannot bring back an item deleted meanwhile.
+ */
+@Component
+public class MenuPriceCache {
+
+    private final Map<String, Entry> prices = new ConcurrentHashMap<>();
+    private final AtomicLong stamp = new AtomicLong();
+
+    public MenuPrice get(String menuItemId) {
+        Entry entry = prices.get(menuItemId);
+        return entry == null ? null : entry.price();
+    }
+
+    /**
+     * The stamp to pass to {@link #putAll} or {@link #replaceAll} for prices fetched from now on.
+     */
+    public long currentStamp() {
+        return stamp.get();
+    }
+
+    public void put(MenuPrice price) {
+        prices.put(price.menuItemId(), new Entry(price, stamp.incrementAndGet()));
+    }
+
+    public void remove(String menuItemId) {
+        prices.put(menuItemId, new Entry(null, stamp.incrementAndGet()));
+    }
+
+    // Adds fetched prices, skipping items changed after the fetch started
+    public void putAll(Collection<MenuPrice> menuPrices, long fetchedAt) {
+        for (MenuPrice price : menuPrices) {
+            prices.compute(price.menuItemId(), (id, current) ->
+                    current != null && current.stamp() > fetchedAt ? current : new Entry(price, fetchedAt));
+        }
+    }
+
+    // Replaces the whole cache with a full snapshot, dropping items that no longer exist
+    public void replaceAll(Collection<MenuPrice> menuPrices, long fetchedAt) {
+        putAll(menuPrices, fetchedAt);
+        Set<String> current = menuPrices.stream().map(MenuPrice::menuItemId).collect(Collectors.toSet());
+        prices.forEach((menuItemId, entry) -> {
+            boolean stale = entry.price() == null || !current.contains(menuItemId);
+            if (stale && entry.stamp() <= fetchedAt) {
+                // Only removes the entry if no change event replaced it meanwhile
+                prices.remove(menuItemId, entry);
+            }
+        });
+    }
+
+    public int size() {
+        return (int) prices.values().stream().filter(entry -> entry.price() != null).count();
+    }
+
+    private record Entry(MenuPrice price, long stamp) {
+    }
+}
@@ -0,0 +1,17 @@
+package com.OrderManagement.OrderManagement.pricing;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class MenuPriceChangedMessage {
+    private String foodItemId;
+    private String restaurantId;
+    private double price;
+    private int discount;
+    private boolean available;
+    private boolean deleted;
+}
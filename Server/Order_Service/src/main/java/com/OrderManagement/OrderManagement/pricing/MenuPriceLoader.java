@@ -0,0 +1,54 @@
+package com.OrderManagement.OrderManagement.pricing;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Keeps {@link MenuPriceCache} in sync with Restaurant_Service: a bulk load on startup, price
+ * change events as they happen, and a periodic full refresh to repair any missed event.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MenuPriceLoader {
+
+    private final MenuPriceCache menuPriceCache;
+    private final RestaurantMenuClient restaurantMenuClient;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        refreshAll();
+    }
+
+    @Scheduled(fixedDelayString = "${order.pricing.full-refresh-millis:600000}",
+            initialDelayString = "${order.pricing.full-refresh-millis:600000}")
+    public void refreshAll() {
+        try {
+            long fetchedAt = menuPriceCache.currentStamp();
+            List<MenuPrice> prices = restaurantMenuClient.fetchAllPrices();
+            menuPriceCache.replaceAll(prices, fetchedAt);
+            log.info("Loaded {} menu prices", prices.size());
+        } catch (RuntimeException ex) {
+            // Missing prices are fetched on demand when an order needs them
+            log.warn("Could not load menu prices from restaurant service: {}", ex.getMessage());
+        }
+    }
+
+    // Every instance uses its own group so each cache receives every change
+    @KafkaListener(topics = "menu-price-changes", groupId = "order-menu-prices-#{T(java.util.UUID).randomUUID()}")
+    public void onMenuPriceChanged(MenuPriceChangedMessage message) {
+        if (message.isDeleted()) {
+            menuPriceCache.remove(message.getFoodItemId());
+            return;
+        }
+        menuPriceCache.put(MenuPrice.of(message.getFoodItemId(), message.getRestaurantId(),
+                message.getPrice(), message.getDiscount(), message.isAvailable()));
+    }
+}
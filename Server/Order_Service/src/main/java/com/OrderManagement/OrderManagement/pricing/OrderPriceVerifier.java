@@ -0,0 +1,98 @@
+package com.OrderManagement.OrderManagement.pricing;
+
+import com.OrderManagement.OrderManagement.exception.OrderException;
+import com.OrderManagement.OrderManagement.model.OrderItem;
+import com.OrderManagement.OrderManagement.model.OrderModel;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Replaces client supplied item prices with the cached menu prices and returns the order
+ * subtotal in minor units. Prices are only fetched from Restaurant_Service for items the
+ * cache has not seen yet, in a single request per order.
+ *
+ * {@link #resolvePrices} may call Restaurant_Service, so callers that price an order inside a
+ * database transaction resolve the prices before opening it.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderPriceVerifier {
+
+    private final MenuPriceCache menuPriceCache;
+    private final RestaurantMenuClient restaurantMenuClient;
+
+    public long verifyAndPrice(OrderModel order) {
+        return verifyAndPrice(order, resolvePrices(order.getOrderItems()));
+    }
+
+    public long verifyAndPrice(OrderModel order, Map<String, MenuPrice> prices) {
+        long subtotalCents = 0;
+        for (OrderItem item : order.getOrderItems()) {
+            MenuPrice price = prices.get(item.getMenuItemId());
+            if (price == null) {
+                throw new OrderException("Menu item not found: " + item.getMenuItemId(), HttpStatus.BAD_REQUEST);
+            }
+            if (!price.available()) {
+                throw new OrderException("Menu item is not available: " + item.getMenuItemId(), HttpStatus.BAD_REQUEST);
+            }
+            if (order.getRestaurantId() != null && !order.getRestaurantId().equals(price.restaurantId())) {
+                throw new OrderException("Menu item " + item.getMenuItemId() + " does not belong to restaurant "
+                        + order.getRestaurantId(), HttpStatus.BAD_REQUEST);
+            }
+            if (item.getQuantity() == null || item.getQuantity() <= 0) {
+                throw new OrderException("Quantity must be positive for menu item " + item.getMenuItemId(),
+                        HttpStatus.BAD_REQUEST);
+            }
+
+            long lineCents = Math.multiplyExact(price.unitPriceCents(), (long) item.getQuantity());
+            item.setUnitPrice(BigDecimal.valueOf(price.unitPriceCents(), 2));
+            item.setTotalPrice(BigDecimal.valueOf(lineCents, 2));
+            subtotalCents = Math.addExact(subtotalCents, lineCents);
+        }
+        return subtotalCents;
+    }
+
+    /**
+     * Looks up the price of every item, fetching the ones missing from the cache in one request.
+     * Items Restaurant_Service does not know are absent from the result.
+     */
+    public Map<String, MenuPrice> resolvePrices(List<OrderItem> items) {
+        Map<String, MenuPrice> prices = new HashMap<>();
+        List<String> missing = null;
+        for (OrderItem item : items) {
+            if (item.getMenuItemId() == null) {
+                throw new OrderException("Menu item ID cannot be null", HttpStatus.BAD_REQUEST);
+            }
+            MenuPrice price = menuPriceCache.get(item.getMenuItemId());
+            if (price != null) {
+                prices.put(item.getMenuItemId(), price);
+            } else if (!prices.containsKey(item.getMenuItemId())) {
+                if (missing == null) {
+                    missing = new ArrayList<>();
+                }
+                missing.add(item.getMenuItemId());
+                prices.put(item.getMenuItemId(), null);
+            }
+        }
+        if (missing == null) {
+            return prices;
+        }
+
+        try {
+            long fetchedAt = menuPriceCache.currentStamp();
+            List<MenuPrice> fetched = restaurantMenuClient.fetchPrices(missing);
+            menuPriceCache.putAll(fetched, fetchedAt);
+            fetched.forEach(price -> prices.put(price.menuItemId(), price));
+        } catch (RuntimeException ex) {
+            throw new OrderException("Unable to verify menu prices, please try again", HttpStatus.SERVICE_UNAVAILABLE);
+        }
+        return prices;
+    }
+}
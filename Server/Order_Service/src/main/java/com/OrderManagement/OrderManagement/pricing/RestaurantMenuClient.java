@@ -0,0 +1,53 @@
+package com.OrderManagement.OrderManagement.pricing;
+
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Reads menu prices from Restaurant_Service.
+ */
+@Component
+public class RestaurantMenuClient {
+
+    private static final String PRICES_URL = "http://restaurant/api/v1/foods/prices";
+
+    private final RestClient restClient;
+
+    public RestaurantMenuClient(RestClient.Builder loadBalancedRestClientBuilder) {
+        this.restClient = loadBalancedRestClientBuilder.build();
+    }
+
+    public List<MenuPrice> fetchAllPrices() {
+        return toMenuPrices(restClient.get()
+                .uri(PRICES_URL)
+                .retrieve()
+                .body(new ParameterizedTypeReference<RestaurantResponse<List<FoodItemPrice>>>() {}));
+    }
+
+    public List<MenuPrice> fetchPrices(Collection<String> menuItemIds) {
+        return toMenuPrices(restClient.get()
+                .uri(PRICES_URL + "?ids={ids}", String.join(",", menuItemIds))
+                .retrieve()
+                .body(new ParameterizedTypeReference<RestaurantResponse<List<FoodItemPrice>>>() {}));
+    }
+
+    private List<MenuPrice> toMenuPrices(RestaurantResponse<List<FoodItemPrice>> response) {
+        if (response == null || response.data() == null) {
+            return List.of();
+        }
+        return response.data().stream()
+                .map(item -> MenuPrice.of(item.foodItemId(), item.restaurantId(), item.price(),
+                        item.discount(), item.available()))
+                .toList();
+    }
+
+    record RestaurantResponse<T>(int code, String message, T data) {
+    }
+
+    record FoodItemPrice(String foodItemId, String restaurantId, double price, int discount, boolean available) {
+    }
+}
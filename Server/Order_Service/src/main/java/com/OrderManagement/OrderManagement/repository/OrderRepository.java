@@ -1,13 +1,23 @@
 package com.OrderManagement.OrderManagement.repository;
 
 import com.OrderManagement.OrderManagement.model.OrderModel;
+import com.OrderManagement.OrderManagement.model.OrderStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 
 @Repository
 public interface OrderRepository extends JpaRepository<OrderModel, Long> {
-    List<OrderModel> findByUserId(String userId);
-    List<OrderModel> findByRestaurantId(String restaurantId);
+    List<OrderModel> findByUserIdOrderByOrderDateDesc(String userId);
+    List<OrderModel> findByRestaurantIdOrderByOrderDateDesc(String restaurantId);
+    List<OrderModel> findByRestaurantIdAndStatusOrderByOrderDateDesc(String restaurantId, OrderStatus status);
+    List<OrderModel> findByStatusIn(Collection<OrderStatus> statuses);
+    Optional<OrderModel> findByUserIdAndIdempotencyKey(String userId, String idempotencyKey);
+
+    @Query("select max(o.orderId) from OrderModel o")
+    Long findMaxOrderId();
 }
\ No newline at end of file
@@ -4,79 +4,174 @@ import com.OrderManagement.OrderManagement.exception.OrderException;
 import com.OrderManagement.OrderManagement.model.OrderItem;
 import com.OrderManagement.OrderManagement.model.OrderModel;
 import com.OrderManagement.OrderManagement.model.OrderStatus;
-import com.OrderManagement.OrderManagement.repository.OrderRepository;
+import com.OrderManagement.OrderManagement.pricing.MenuPrice;
+import com.OrderManagement.OrderManagement.pricing.OrderPriceVerifier;
+import com.OrderManagement.OrderManagement.sharding.ShardedOrderRepository;
+import com.OrderManagement.OrderManagement.sla.OrderSlaMonitor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
 public class OrderService {
 
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 255;
+
+    @Autowired
+    private ShardedOrderRepository shardedOrderRepository;
+
     @Autowired
-    private OrderRepository orderRepository;
+    private OrderSlaMonitor orderSlaMonitor;
+
+    @Autowired
+    private OrderPriceVerifier orderPriceVerifier;
 
     public List<OrderModel> getAllOrders() {
-        return orderRepository.findAll();
+        return shardedOrderRepository.findAll();
     }
 
     public Page<OrderModel> getOrdersPaginated(Pageable pageable) {
-        return orderRepository.findAll(pageable);
+        return shardedOrderRepository.findAll(pageable);
     }
 
     public List<OrderModel> getOrdersByUserId(String userId) {
         if (userId == null) {
             throw new OrderException("User ID cannot be null", HttpStatus.BAD_REQUEST);
         }
-        return orderRepository.findByUserId(userId);
+        return shardedOrderRepository.findByUserId(userId);
     }
 
-    public List<OrderModel> getOrdersByRestaurantId(String restaurantId) {
+    public List<OrderModel> getOrdersByRestaurantId(String restaurantId, OrderStatus status) {
         if (restaurantId == null) {
             throw new OrderException("restaurant ID cannot be null", HttpStatus.BAD_REQUEST);
         }
-        return orderRepository.findByRestaurantId(restaurantId);
+        return shardedOrderRepository.findByRestaurantId(restaurantId, status);
     }
 
     public OrderModel getOrderById(Long orderId) {
         if (orderId == null) {
             throw new OrderException("Order ID cannot be null", HttpStatus.BAD_REQUEST);
         }
-        return orderRepository.findById(orderId)
+        return shardedOrderRepository.findById(orderId)
                 .orElseThrow(() -> new OrderException("Order not found with ID: " + orderId, HttpStatus.NOT_FOUND));
     }
 
-    @Transactional
     public OrderModel createOrder(OrderModel order) {
+        return createOrder(order, null);
+    }
+
+    /**
+     * Finds the order the user placed with the given idempotency key, without placing one.
+     */
+    public OrderModel getOrderByIdempotencyKey(String userId, String restaurantId, String idempotencyKey) {
+        if (userId == null || restaurantId == null) {
+            throw new OrderException("User ID and restaurant ID cannot be null", HttpStatus.BAD_REQUEST);
+        }
+        validateIdempotencyKey(idempotencyKey);
+        return shardedOrderRepository.findByIdempotencyKey(userId, restaurantId, idempotencyKey)
+                .orElseThrow(() -> new OrderException("No order placed with idempotency key: " + idempotencyKey,
+                        HttpStatus.NOT_FOUND));
+    }
+
+    /**
+     * Places the order. A request repeating the idempotency key of an earlier one by the same
+     * user returns the order that request placed instead of placing another; reusing the key
+     * for different items is rejected.
+     */
+    public OrderModel createOrder(OrderModel order, String idempotencyKey) {
         validateOrder(order);
+        if (idempotencyKey != null) {
+            validateIdempotencyKey(idempotencyKey);
+            Optional<OrderModel> placed = shardedOrderRepository.findByIdempotencyKey(
+                    order.getUserId(), order.getRestaurantId(), idempotencyKey);
+            if (placed.isPresent()) {
+                return replay(placed.get(), order);
+            }
+            order.setIdempotencyKey(idempotencyKey);
+        }
 
         // Set initial values
-        order.setOrderDate(LocalDateTime.now());
-        order.setLastUpdated(LocalDateTime.now());
-        order.setStatus(OrderStatus.PLACED);
+        LocalDateTime now = LocalDateTime.now();
+        order.setOrderDate(now);
+        order.setLastUpdated(now);
+        applyStatus(order, OrderStatus.PLACED, now);
 
         // Recalculate totals to ensure consistency
-        calculateOrderTotals(order);
+        calculateOrderTotals(order, orderPriceVerifier.resolvePrices(order.getOrderItems()));
+
+        OrderModel savedOrder;
+        try {
+            savedOrder = shardedOrderRepository.insert(order);
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent request with the same key placed the order first
+            if (idempotencyKey == null) {
+                throw e;
+            }
+            OrderModel placed = shardedOrderRepository.findByIdempotencyKey(
+                    order.getUserId(), order.getRestaurantId(), idempotencyKey).orElseThrow(() -> e);
+            return replay(placed, order);
+        }
+        orderSlaMonitor.track(savedOrder);
+        return savedOrder;
+    }
+
+    private void validateIdempotencyKey(String idempotencyKey) {
+        if (idempotencyKey == null || idempotencyKey.isBlank() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            throw new OrderException("Idempotency key must be 1 to " + MAX_IDEMPOTENCY_KEY_LENGTH + " characters",
+                    HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    // Returns the order placed earlier with the key, if the retried request asks for the same one
+    private OrderModel replay(OrderModel placed, OrderModel requested) {
+        if (!placed.getUserId().equals(requested.getUserId())
+                || !placed.getRestaurantId().equals(requested.getRestaurantId())
+                || !quantitiesByItem(placed).equals(quantitiesByItem(requested))) {
+            throw new OrderException("Idempotency key was already used for a different order",
+                    HttpStatus.UNPROCESSABLE_ENTITY);
+        }
+        return placed;
+    }
 
-        return orderRepository.save(order);
+    private Map<String, Integer> quantitiesByItem(OrderModel order) {
+        return order.getOrderItems().stream()
+                .collect(Collectors.toMap(OrderItem::getMenuItemId, OrderItem::getQuantity, Integer::sum));
     }
 
-    private void calculateOrderTotals(OrderModel order) {
-        // Calculate subtotal from items
-        BigDecimal subtotal = order.getOrderItems().stream()
-                .map(OrderItem::getTotalPrice)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    // Finds the shard holding the order, so the whole update runs in one transaction there
+    private int locateOrder(Long orderId) {
+        return shardedOrderRepository.locate(orderId)
+                .orElseThrow(() -> new OrderException("Order not found with ID: " + orderId, HttpStatus.NOT_FOUND));
+    }
 
-        order.setSubtotal(subtotal);
+    // Moves the order to the new status and stamps the time it entered that status
+    private void applyStatus(OrderModel order, OrderStatus status, LocalDateTime now) {
+        order.setStatus(status);
+        switch (status) {
+            case PLACED -> order.setPlacedAt(now);
+            case CONFIRMED -> order.setConfirmedAt(now);
+            case PREPARING -> order.setPreparingAt(now);
+            case OUT_FOR_DELIVERY -> order.setOutForDeliveryAt(now);
+            case DELIVERED -> order.setDeliveredAt(now);
+            case CANCELLED -> order.setCancelledAt(now);
+        }
+    }
+
+    private void calculateOrderTotals(OrderModel order, Map<String, MenuPrice> prices) {
+        // Item prices come from the menu price cache, never from the client
+        long subtotalCents = orderPriceVerifier.verifyAndPrice(order, prices);
 
         // Ensure other values are present
         if (order.getDeliveryFee() == null) {
@@ -87,12 +182,15 @@ public class OrderService {
             order.setTax(BigDecimal.ZERO);
         }
 
-        // Calculate total
-        BigDecimal total = subtotal
-                .add(order.getDeliveryFee())
-                .add(order.getTax());
+        // Calculate total in minor units and convert once
+        long totalCents = subtotalCents + toCents(order.getDeliveryFee()) + toCents(order.getTax());
+
+        order.setSubtotal(BigDecimal.valueOf(subtotalCents, 2));
+        order.setTotalAmount(BigDecimal.valueOf(totalCents, 2));
+    }
 
-        order.setTotalAmount(total);
+    private long toCents(BigDecimal amount) {
+        return amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
     }
 
     private void validateOrder(OrderModel order) {
@@ -127,112 +225,125 @@ public class OrderService {
         }
     }
 
-    @Transactional
     public OrderModel updateOrder(Long orderId, OrderModel updatedOrder) {
         if (orderId == null) {
             throw new OrderException("Order ID cannot be null", HttpStatus.BAD_REQUEST);
         }
 
-        OrderModel existingOrder = orderRepository.findById(orderId)
-                .orElseThrow(() -> new OrderException("Order not found with ID: " + orderId, HttpStatus.NOT_FOUND));
-
-        // Check if order is in a terminal state
-        if ((existingOrder.getStatus() == OrderStatus.DELIVERED || existingOrder.getStatus() == OrderStatus.CANCELLED)
-                && existingOrder.getStatus() != updatedOrder.getStatus()) {
-            throw new OrderException("Cannot update order that is already " + existingOrder.getStatus(),
-                    HttpStatus.BAD_REQUEST);
-        }
+        // Prices may be fetched from Restaurant_Service, which must not happen inside the shard transaction
+        boolean replacesItems = updatedOrder.getOrderItems() != null && !updatedOrder.getOrderItems().isEmpty();
+        Map<String, MenuPrice> prices = replacesItems
+                ? orderPriceVerifier.resolvePrices(updatedOrder.getOrderItems())
+                : Map.of();
+
+        OrderModel savedOrder = shardedOrderRepository.inShard(locateOrder(orderId), orderRepository -> {
+            OrderModel existingOrder = orderRepository.findById(orderId)
+                    .orElseThrow(() -> new OrderException("Order not found with ID: " + orderId, HttpStatus.NOT_FOUND));
+
+            // Check if order is in a terminal state
+            if ((existingOrder.getStatus() == OrderStatus.DELIVERED || existingOrder.getStatus() == OrderStatus.CANCELLED)
+                    && existingOrder.getStatus() != updatedOrder.getStatus()) {
+                throw new OrderException("Cannot update order that is already " + existingOrder.getStatus(),
+                        HttpStatus.BAD_REQUEST);
+            }
 
-        // Update fields
-        if (updatedOrder.getUserId() != null) {
-            existingOrder.setUserId(updatedOrder.getUserId());
-        }
+            // Update fields
+            if (updatedOrder.getUserId() != null) {
+                existingOrder.setUserId(updatedOrder.getUserId());
+            }
 
-        if (updatedOrder.getRestaurantId() != null) {
-            existingOrder.setRestaurantId(updatedOrder.getRestaurantId());
-        }
+            // Orders are stored on their restaurant's shard, so the restaurant cannot change
+            if (updatedOrder.getRestaurantId() != null
+                    && !updatedOrder.getRestaurantId().equals(existingOrder.getRestaurantId())) {
+                throw new OrderException("Restaurant of an existing order cannot be changed", HttpStatus.BAD_REQUEST);
+            }
 
-        if (updatedOrder.getDeliveryAddress() != null) {
-            existingOrder.setDeliveryAddress(updatedOrder.getDeliveryAddress());
-        }
+            if (updatedOrder.getDeliveryAddress() != null) {
+                existingOrder.setDeliveryAddress(updatedOrder.getDeliveryAddress());
+            }
 
-        // Update geolocation fields
-        if (updatedOrder.getLongitude() != null) {
-            existingOrder.setLongitude(updatedOrder.getLongitude());
-        }
+            // Update geolocation fields
+            if (updatedOrder.getLongitude() != null) {
+                existingOrder.setLongitude(updatedOrder.getLongitude());
+            }
 
-        if (updatedOrder.getLatitude() != null) {
-            existingOrder.setLatitude(updatedOrder.getLatitude());
-        }
+            if (updatedOrder.getLatitude() != null) {
+                existingOrder.setLatitude(updatedOrder.getLatitude());
+            }
 
-        if (updatedOrder.getContactPhone() != null) {
-            existingOrder.setContactPhone(updatedOrder.getContactPhone());
-        }
+            if (updatedOrder.getContactPhone() != null) {
+                existingOrder.setContactPhone(updatedOrder.getContactPhone());
+            }
 
-        // Allow status updates if valid
-        if (updatedOrder.getStatus() != null && existingOrder.getStatus() != updatedOrder.getStatus()) {
-            validateStatusTransition(existingOrder.getStatus(), updatedOrder.getStatus());
-            existingOrder.setStatus(updatedOrder.getStatus());
-        }
+            // Allow status updates if valid
+            if (updatedOrder.getStatus() != null && existingOrder.getStatus() != updatedOrder.getStatus()) {
+                validateStatusTransition(existingOrder.getStatus(), updatedOrder.getStatus());
+                applyStatus(existingOrder, updatedOrder.getStatus(), LocalDateTime.now());
+            }
 
-        // Handle order items properly to avoid orphan removal issues
-        if (updatedOrder.getOrderItems() != null && !updatedOrder.getOrderItems().isEmpty()) {
-            // Create a map of existing items by ID for quick lookup
-            Map<Long, OrderItem> existingItemsMap = existingOrder.getOrderItems().stream()
-                    .filter(item -> item.getId() != null)
-                    .collect(Collectors.toMap(OrderItem::getId, item -> item));
-
-            // Create a new list to hold the updated order items
-            List<OrderItem> updatedItems = new ArrayList<>();
-
-            for (OrderItem updatedItem : updatedOrder.getOrderItems()) {
-                if (updatedItem.getId() != null && existingItemsMap.containsKey(updatedItem.getId())) {
-                    // Update existing item
-                    OrderItem existingItem = existingItemsMap.get(updatedItem.getId());
-                    existingItem.setMenuItemId(updatedItem.getMenuItemId());
-                    existingItem.setItemName(updatedItem.getItemName());
-                    existingItem.setQuantity(updatedItem.getQuantity());
-                    existingItem.setUnitPrice(updatedItem.getUnitPrice());
-                    existingItem.setTotalPrice(updatedItem.getTotalPrice());
-                    updatedItems.add(existingItem);
-                } else {
-                    // Add new item
-                    updatedItem.setOrder(existingOrder);
-                    updatedItems.add(updatedItem);
+            // Handle order items properly to avoid orphan removal issues
+            if (replacesItems) {
+                // Create a map of existing items by ID for quick lookup
+                Map<Long, OrderItem> existingItemsMap = existingOrder.getOrderItems().stream()
+                        .filter(item -> item.getId() != null)
+                        .collect(Collectors.toMap(OrderItem::getId, item -> item));
+
+                // Create a new list to hold the updated order items
+                List<OrderItem> updatedItems = new ArrayList<>();
+
+                for (OrderItem updatedItem : updatedOrder.getOrderItems()) {
+                    if (updatedItem.getId() != null && existingItemsMap.containsKey(updatedItem.getId())) {
+                        // Update existing item
+                        OrderItem existingItem = existingItemsMap.get(updatedItem.getId());
+                        existingItem.setMenuItemId(updatedItem.getMenuItemId());
+                        existingItem.setItemName(updatedItem.getItemName());
+                        existingItem.setQuantity(updatedItem.getQuantity());
+                        existingItem.setUnitPrice(updatedItem.getUnitPrice());
+                        existingItem.setTotalPrice(updatedItem.getTotalPrice());
+                        updatedItems.add(existingItem);
+                    } else {
+                        // Add new item
+                        updatedItem.setOrder(existingOrder);
+                        updatedItems.add(updatedItem);
+                    }
                 }
-            }
 
-            // Clear and set new items to avoid orphan removal issues
-            existingOrder.getOrderItems().clear();
-            existingOrder.getOrderItems().addAll(updatedItems);
+                // Clear and set new items to avoid orphan removal issues
+                existingOrder.getOrderItems().clear();
+                existingOrder.getOrderItems().addAll(updatedItems);
 
-            calculateOrderTotals(existingOrder);
-        }
+                calculateOrderTotals(existingOrder, prices);
+            }
 
-        existingOrder.setLastUpdated(LocalDateTime.now());
-        return orderRepository.save(existingOrder);
+            existingOrder.setLastUpdated(LocalDateTime.now());
+            return orderRepository.save(existingOrder);
+        });
+        orderSlaMonitor.track(savedOrder);
+        return savedOrder;
     }
 
-    @Transactional
     public boolean deleteOrder(Long orderId) {
         if (orderId == null) {
             throw new OrderException("Order ID cannot be null", HttpStatus.BAD_REQUEST);
         }
 
-        OrderModel order = orderRepository.findById(orderId)
-                .orElseThrow(() -> new OrderException("Order not found with ID: " + orderId, HttpStatus.NOT_FOUND));
+        shardedOrderRepository.inShard(locateOrder(orderId), orderRepository -> {
+            OrderModel order = orderRepository.findById(orderId)
+                    .orElseThrow(() -> new OrderException("Order not found with ID: " + orderId, HttpStatus.NOT_FOUND));
 
-        // Only allow deletion if order is in PLACED or CANCELLED status
-        if (order.getStatus() != OrderStatus.PLACED && order.getStatus() != OrderStatus.CANCELLED) {
-            throw new OrderException("Cannot delete order that is already " + order.getStatus(),
-                    HttpStatus.BAD_REQUEST);
-        }
+            // Only allow deletion if order is in PLACED or CANCELLED status
+            if (order.getStatus() != OrderStatus.PLACED && order.getStatus() != OrderStatus.CANCELLED) {
+                throw new OrderException("Cannot delete order that is already " + order.getStatus(),
+                        HttpStatus.BAD_REQUEST);
+            }
 
-        orderRepository.deleteById(orderId);
+            orderRepository.deleteById(orderId);
+            return null;
+        });
+        orderSlaMonitor.untrack(orderId);
         return true;
     }
 
-    @Transactional
     public OrderModel updateOrderStatus(Long orderId, OrderStatus status) {
         if (orderId == null) {
             throw new OrderException("Order ID cannot be null", HttpStatus.BAD_REQUEST);
@@ -242,16 +353,21 @@ public class OrderService {
             throw new OrderException("Status cannot be null", HttpStatus.BAD_REQUEST);
         }
 
-        OrderModel existingOrder = orderRepository.findById(orderId)
-                .orElseThrow(() -> new OrderException("Order not found with ID: " + orderId, HttpStatus.NOT_FOUND));
+        OrderModel savedOrder = shardedOrderRepository.inShard(locateOrder(orderId), orderRepository -> {
+            OrderModel existingOrder = orderRepository.findById(orderId)
+                    .orElseThrow(() -> new OrderException("Order not found with ID: " + orderId, HttpStatus.NOT_FOUND));
 
-        // Validate status transition
-        validateStatusTransition(existingOrder.getStatus(), status);
+            // Validate status transition
+            validateStatusTransition(existingOrder.getStatus(), status);
 
-        existingOrder.setStatus(status);
-        existingOrder.setLastUpdated(LocalDateTime.now());
+            LocalDateTime now = LocalDateTime.now();
+            applyStatus(existingOrder, status, now);
+            existingOrder.setLastUpdated(now);
 
-        return orderRepository.save(existingOrder);
+            return orderRepository.save(existingOrder);
+        });
+        orderSlaMonitor.track(savedOrder);
+        return savedOrder;
     }
 
     private void validateStatusTransition(OrderStatus currentStatus, OrderStatus newStatus) {
@@ -299,7 +415,7 @@ public class OrderService {
             throw new OrderException("Order ID cannot be null", HttpStatus.BAD_REQUEST);
         }
 
-        OrderModel order = orderRepository.findById(orderId)
+        OrderModel order = shardedOrderRepository.findById(orderId)
                 .orElseThrow(() -> new OrderException("Order not found with ID: " + orderId, HttpStatus.NOT_FOUND));
 
         StringBuilder statusInfo = new StringBuilder();
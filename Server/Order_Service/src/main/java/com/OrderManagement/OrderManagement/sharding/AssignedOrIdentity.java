@@ -0,0 +1,18 @@
+package com.OrderManagement.OrderManagement.sharding;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Keeps an identifier assigned before persisting, and lets the database's identity column
+ * generate it otherwise.
+ */
+@IdGeneratorType(AssignedOrIdentityGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface AssignedOrIdentity {
+}
@@ -0,0 +1,38 @@
+package com.OrderManagement.OrderManagement.sharding;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.id.IdentityGenerator;
+
+/**
+ * Identity generation that steps aside when the entity already has an identifier, so sharded
+ * orders keep the ID from {@link OrderIdGenerator} and unsharded ones use AUTO_INCREMENT.
+ */
+public class AssignedOrIdentityGenerator extends IdentityGenerator implements BeforeExecutionGenerator {
+
+    @Override
+    public boolean allowAssignedIdentifiers() {
+        return true;
+    }
+
+    @Override
+    public boolean generatedOnExecution() {
+        return true;
+    }
+
+    @Override
+    public boolean generatedOnExecution(Object owner, SharedSessionContractImplementor session) {
+        return assignedId(owner, session) == null;
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        // Only called when an ID was assigned, which is kept as is
+        return currentValue != null ? currentValue : assignedId(owner, session);
+    }
+
+    private static Object assignedId(Object owner, SharedSessionContractImplementor session) {
+        return session.getEntityPersister(null, owner).getIdentifier(owner, session);
+    }
+}
@@ -0,0 +1,23 @@
+package com.OrderManagement.OrderManagement.sharding;
+
+import org.springframework.stereotype.Component;
+
+@Component
+public class ConsistentHashShardRouter implements OrderShardRouter {
+
+    private final ConsistentHashRing ring;
+
+    public ConsistentHashShardRouter(ShardingConfig shardingConfig) {
+        this.ring = new ConsistentHashRing(shardingConfig.shardCount(), shardingConfig.getVirtualNodes());
+    }
+
+    @Override
+    public int shardCount() {
+        return ring.shardCount();
+    }
+
+    @Override
+    public int shardForRestaurant(String restaurantId) {
+        return ring.shardFor(restaurantId);
+    }
+}
@@ -0,0 +1,95 @@
+package com.OrderManagement.OrderManagement.sharding;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Generates order IDs that encode the shard they were created on.
+ *
+ * Layout (53 bits, so IDs stay exact as JSON numbers in the client):
+ * 31 bits seconds since 2024-01-01 | 6 bits shard | 6 bits worker | 10 bits sequence.
+ * IDs created before sharding are small auto-increment values with a zero time part and
+ * are treated as shard 0.
+ *
+ * The last second used is only held in memory, so after a restart the generator must be
+ * resumed past the highest stored ID with {@link #resumeAfter} before it hands out IDs.
+ */
+@Component
+public class OrderIdGenerator {
+
+    static final int SEQUENCE_BITS = 10;
+    static final int WORKER_BITS = 6;
+    static final int SHARD_BITS = 6;
+    static final int MAX_SHARDS = 1 << SHARD_BITS;
+
+    private static final long EPOCH_SECONDS = 1704067200L;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final int SHARD_SHIFT = SEQUENCE_BITS + WORKER_BITS;
+    private static final int TIME_SHIFT = SHARD_SHIFT + SHARD_BITS;
+
+    private final boolean assignsIds;
+    private final long workerId;
+    private final long[] lastSecond = new long[MAX_SHARDS];
+    private final long[] sequence = new long[MAX_SHARDS];
+
+    public OrderIdGenerator(ShardingConfig shardingConfig) {
+        Integer configuredWorkerId = shardingConfig.getWorkerId();
+        if (configuredWorkerId == null && shardingConfig.isEnabled()) {
+            throw new IllegalStateException("order.sharding.worker-id must be set to a value unique to this instance when sharding is enabled");
+        }
+        int workerId = configuredWorkerId != null ? configuredWorkerId : 0;
+        if (workerId < 0 || workerId >= 1 << WORKER_BITS) {
+            throw new IllegalStateException("order.sharding.worker-id must be between 0 and " + ((1 << WORKER_BITS) - 1));
+        }
+        if (shardingConfig.shardCount() > MAX_SHARDS) {
+            throw new IllegalStateException("At most " + MAX_SHARDS + " shards are supported");
+        }
+        this.workerId = workerId;
+        this.assignsIds = shardingConfig.isEnabled();
+    }
+
+    /**
+     * True if new orders take their ID from this generator. Without sharding they keep the
+     * database's AUTO_INCREMENT, which stays unique across instances without any configuration.
+     */
+    public boolean assignsIds() {
+        return assignsIds;
+    }
+
+    /**
+     * Makes every following ID use a later second than the given stored ID, so IDs handed out
+     * before a restart, including seconds borrowed ahead of the clock, are never reused.
+     */
+    public synchronized void resumeAfter(long orderId) {
+        long second = orderId >>> TIME_SHIFT;
+        for (int shard = 0; shard < MAX_SHARDS; shard++) {
+            if (second >= lastSecond[shard]) {
+                lastSecond[shard] = second;
+                // The next ID in this second wraps the sequence and moves on to the next second
+                sequence[shard] = SEQUENCE_MASK;
+            }
+        }
+    }
+
+    public synchronized long nextId(int shard) {
+        long second = Math.max(System.currentTimeMillis() / 1000 - EPOCH_SECONDS, lastSecond[shard]);
+        if (second == lastSecond[shard]) {
+            sequence[shard] = (sequence[shard] + 1) & SEQUENCE_MASK;
+            if (sequence[shard] == 0) {
+                // Sequence exhausted for this second, borrow the next one
+                second++;
+            }
+        } else {
+            sequence[shard] = 0;
+        }
+        lastSecond[shard] = second;
+
+        return (second << TIME_SHIFT) | ((long) shard << SHARD_SHIFT) | (workerId << SEQUENCE_BITS) | sequence[shard];
+    }
+
+    public static int shardOf(long orderId) {
+        if (orderId >>> TIME_SHIFT == 0) {
+            return 0;
+        }
+        return (int) ((orderId >>> SHARD_SHIFT) & (MAX_SHARDS - 1));
+    }
+}
@@ -0,0 +1,11 @@
+package com.OrderManagement.OrderManagement.sharding;
+
+/**
+ * Decides which shard stores the orders of a restaurant.
+ */
+public interface OrderShardRouter {
+
+    int shardCount();
+
+    int shardForRestaurant(String restaurantId);
+}
@@ -0,0 +1,25 @@
+package com.OrderManagement.OrderManagement.sharding;
+
+/**
+ * Holds the shard the current thread is working against. Read by {@link ShardRoutingDataSource}
+ * when a transaction acquires its connection.
+ */
+public final class ShardContext {
+
+    private static final ThreadLocal<Integer> CURRENT_SHARD = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    public static Integer current() {
+        return CURRENT_SHARD.get();
+    }
+
+    public static void set(Integer shard) {
+        if (shard == null) {
+            CURRENT_SHARD.remove();
+        } else {
+            CURRENT_SHARD.set(shard);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.OrderManagement.OrderManagement.sharding;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Moves every restaurant's orders to the shard the router currently assigns it to. Used after
+ * a shard is added: consistent hashing keeps most restaurants in place and only the ones
+ * that now hash to the new shard are copied.
+ *
+ * Orders are copied one restaurant at a time, with their IDs unchanged, and deleted from the
+ * source only after the copy has committed. Re-running after an interruption is safe. Orders
+ * changed on the source while their restaurant is being moved can be lost, so run it while
+ * order writes are paused.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "order.sharding", name = "enabled", havingValue = "true")
+public class ShardRebalancer {
+
+    private final List<DataSource> shards;
+    private final OrderShardRouter shardRouter;
+    private final ShardingConfig shardingConfig;
+
+    public ShardRebalancer(ShardRoutingDataSource dataSource, OrderShardRouter shardRouter,
+                           ShardingConfig shardingConfig) {
+        this.shards = dataSource.getShardDataSources();
+        this.shardRouter = shardRouter;
+        this.shardingConfig = shardingConfig;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebalanceOnStartup() {
+        if (shardingConfig.isRebalanceOnStartup()) {
+            rebalance();
+        }
+    }
+
+    /**
+     * @return the number of orders moved
+     */
+    public long rebalance() {
+        long moved = 0;
+        for (int source = 0; source < shards.size(); source++) {
+            JdbcTemplate sourceJdbc = new JdbcTemplate(shards.get(source));
+            List<String> restaurantIds = sourceJdbc.queryForList(
+                    "SELECT DISTINCT restaurant_id FROM orders WHERE restaurant_id IS NOT NULL", String.class);
+
+            for (String restaurantId : restaurantIds) {
+                int target = shardRouter.shardForRestaurant(restaurantId);
+                if (target != source) {
+                    moved += moveRestaurant(restaurantId, source, target);
+                }
+            }
+        }
+        log.info("Shard rebalance moved {} orders", moved);
+        return moved;
+    }
+
+    private long moveRestaurant(String restaurantId, int source, int target) {
+        JdbcTemplate sourceJdbc = new JdbcTemplate(shards.get(source));
+        JdbcTemplate targetJdbc = new JdbcTemplate(shards.get(target));
+
+        List<Map<String, Object>> orders = sourceJdbc.queryForList(
+                "SELECT * FROM orders WHERE restaurant_id = ?", restaurantId);
+
+        transaction(target).executeWithoutResult(status -> {
+            for (Map<String, Object> order : orders) {
+                Object orderId = order.get("order_id");
+                Integer existing = targetJdbc.queryForObject(
+                        "SELECT COUNT(*) FROM orders WHERE order_id = ?", Integer.class, orderId);
+                if (existing != null && existing > 0) {
+                    continue;
+                }
+                insert(targetJdbc, "orders", order);
+
+                // Item IDs are per-shard sequences, so the target assigns new ones
+                for (Map<String, Object> item : sourceJdbc.queryForList(
+                        "SELECT * FROM order_items WHERE order_id = ?", orderId)) {
+                    item.remove("id");
+                    insert(targetJdbc, "order_items", item);
+                }
+            }
+        });
+
+        transaction(source).executeWithoutResult(status -> {
+            sourceJdbc.update("DELETE FROM order_items WHERE order_id IN "
+                    + "(SELECT order_id FROM orders WHERE restaurant_id = ?)", restaurantId);
+            sourceJdbc.update("DELETE FROM orders WHERE restaurant_id = ?", restaurantId);
+        });
+
+        log.debug("Moved {} orders of restaurant {} from shard {} to shard {}", orders.size(), restaurantId, source, target);
+        return orders.size();
+    }
+
+    private TransactionTemplate transaction(int shard) {
+        return new TransactionTemplate(new DataSourceTransactionManager(shards.get(shard)));
+    }
+
+    private void insert(JdbcTemplate jdbcTemplate, String table, Map<String, Object> row) {
+        String columns = String.join(", ", row.keySet());
+        String placeholders = row.keySet().stream().map(column -> "?").collect(Collectors.joining(", "));
+        jdbcTemplate.update("INSERT INTO " + table + " (" + columns + ") VALUES (" + placeholders + ")",
+                row.values().toArray());
+    }
+}
@@ -0,0 +1,40 @@
+package com.OrderManagement.OrderManagement.sharding;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Routes each connection request to the shard selected in {@link ShardContext}, falling back
+ * to shard 0 when none is selected.
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final List<DataSource> shardDataSources;
+
+    public ShardRoutingDataSource(List<DataSource> shardDataSources) {
+        if (shardDataSources.isEmpty()) {
+            throw new IllegalArgumentException("At least one shard data source is required");
+        }
+        this.shardDataSources = List.copyOf(shardDataSources);
+
+        Map<Object, Object> targets = new HashMap<>();
+        for (int shard = 0; shard < shardDataSources.size(); shard++) {
+            targets.put(shard, shardDataSources.get(shard));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(shardDataSources.get(0));
+    }
+
+    public List<DataSource> getShardDataSources() {
+        return shardDataSources;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return ShardContext.current();
+    }
+}
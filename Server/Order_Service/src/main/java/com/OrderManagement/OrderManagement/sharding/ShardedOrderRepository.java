@@ -0,0 +1,272 @@
+package com.OrderManagement.OrderManagement.sharding;
+
+import com.OrderManagement.OrderManagement.model.OrderModel;
+import com.OrderManagement.OrderManagement.model.OrderStatus;
+import com.OrderManagement.OrderManagement.repository.OrderRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceException;
+import org.hibernate.Hibernate;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * Routes {@link OrderRepository} operations to the shard that owns the data: by restaurantId
+ * for writes and restaurant queries, by the shard encoded in the orderId for lookups, and
+ * scatter-gather across all shards for user history and global listings.
+ *
+ * Each operation runs in its own transaction started after the shard is selected, so callers
+ * must not wrap these calls in an outer transaction.
+ */
+@Component
+public class ShardedOrderRepository {
+
+    private static final Comparator<OrderModel> NEWEST_FIRST = Comparator.comparing(
+            OrderModel::getOrderDate, Comparator.nullsLast(Comparator.reverseOrder()));
+
+    private static final HibernateJpaDialect JPA_DIALECT = new HibernateJpaDialect();
+
+    private final OrderRepository orderRepository;
+    private final OrderShardRouter shardRouter;
+    private final OrderIdGenerator orderIdGenerator;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService scatterExecutor;
+    private volatile boolean orderIdsResumed;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public ShardedOrderRepository(OrderRepository orderRepository, OrderShardRouter shardRouter,
+                                  OrderIdGenerator orderIdGenerator, PlatformTransactionManager transactionManager) {
+        this.orderRepository = orderRepository;
+        this.shardRouter = shardRouter;
+        this.orderIdGenerator = orderIdGenerator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.scatterExecutor = shardRouter.shardCount() > 1
+                ? Executors.newFixedThreadPool(shardRouter.shardCount(), runnable -> {
+                    Thread thread = new Thread(runnable, "order-shard-scatter");
+                    thread.setDaemon(true);
+                    return thread;
+                })
+                : null;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scatterExecutor != null) {
+            scatterExecutor.shutdown();
+        }
+    }
+
+    public int shardForRestaurant(String restaurantId) {
+        return shardRouter.shardForRestaurant(restaurantId);
+    }
+
+    /**
+     * Runs the work in a transaction on the given shard. Returned orders have their items
+     * loaded, since they are used after the transaction has closed.
+     */
+    public <T> T inShard(int shard, Function<OrderRepository, T> work) {
+        Integer previous = ShardContext.current();
+        ShardContext.set(shard);
+        try {
+            return transactionTemplate.execute(status -> initializeItems(work.apply(orderRepository)));
+        } finally {
+            ShardContext.set(previous);
+        }
+    }
+
+    public OrderModel insert(OrderModel order) {
+        if (orderIdGenerator.assignsIds()) {
+            resumeOrderIds();
+        }
+        int shard = shardRouter.shardForRestaurant(order.getRestaurantId());
+        return inShard(shard, repository -> {
+            // Without sharding the ID is left to the database's AUTO_INCREMENT
+            if (orderIdGenerator.assignsIds()) {
+                order.setOrderId(orderIdGenerator.nextId(shard));
+            }
+            try {
+                entityManager.persist(order);
+                entityManager.flush();
+            } catch (PersistenceException e) {
+                // Translated as a Spring Data repository would, e.g. a duplicate idempotency key
+                DataAccessException translated = JPA_DIALECT.translateExceptionIfPossible(e);
+                throw translated != null ? translated : e;
+            }
+            return order;
+        });
+    }
+
+    /**
+     * Before the first insert, moves the ID generator past the highest order ID on any shard.
+     * Orders keep their ID when a rebalance moves them, so every shard has to be checked.
+     */
+    private void resumeOrderIds() {
+        if (orderIdsResumed) {
+            return;
+        }
+        synchronized (this) {
+            if (!orderIdsResumed) {
+                runOnAllShards(OrderRepository::findMaxOrderId).stream()
+                        .filter(Objects::nonNull)
+                        .max(Long::compare)
+                        .ifPresent(orderIdGenerator::resumeAfter);
+                orderIdsResumed = true;
+            }
+        }
+    }
+
+    /**
+     * Finds the shard holding the order: the shard encoded in its ID, or any shard if the
+     * order was moved there by a rebalance.
+     */
+    public Optional<Integer> locate(Long orderId) {
+        int home = OrderIdGenerator.shardOf(orderId);
+        if (home < shardRouter.shardCount() && inShard(home, repository -> repository.existsById(orderId))) {
+            return Optional.of(home);
+        }
+        for (int shard = 0; shard < shardRouter.shardCount(); shard++) {
+            if (shard != home && inShard(shard, repository -> repository.existsById(orderId))) {
+                return Optional.of(shard);
+            }
+        }
+        return Optional.empty();
+    }
+
+    public Optional<OrderModel> findById(Long orderId) {
+        int home = OrderIdGenerator.shardOf(orderId);
+        if (home < shardRouter.shardCount()) {
+            Optional<OrderModel> order = inShard(home, repository -> repository.findById(orderId));
+            if (order.isPresent() || shardRouter.shardCount() == 1) {
+                return order;
+            }
+        }
+        return scatter(repository -> repository.findById(orderId).map(List::of).orElse(List.of()))
+                .stream().findFirst();
+    }
+
+    // Orders live on their restaurant's shard, so a key is only looked up there
+    public Optional<OrderModel> findByIdempotencyKey(String userId, String restaurantId, String idempotencyKey) {
+        return inShard(shardRouter.shardForRestaurant(restaurantId),
+                repository -> repository.findByUserIdAndIdempotencyKey(userId, idempotencyKey));
+    }
+
+    public List<OrderModel> findByUserId(String userId) {
+        List<OrderModel> orders = scatter(repository -> repository.findByUserIdOrderByOrderDateDesc(userId));
+        orders.sort(NEWEST_FIRST);
+        return orders;
+    }
+
+    public List<OrderModel> findByRestaurantId(String restaurantId, OrderStatus status) {
+        return inShard(shardRouter.shardForRestaurant(restaurantId), repository -> status != null
+                ? repository.findByRestaurantIdAndStatusOrderByOrderDateDesc(restaurantId, status)
+                : repository.findByRestaurantIdOrderByOrderDateDesc(restaurantId));
+    }
+
+    public List<OrderModel> findByStatusIn(Collection<OrderStatus> statuses) {
+        return scatter(repository -> repository.findByStatusIn(statuses));
+    }
+
+    public List<OrderModel> findAll() {
+        return scatter(OrderRepository::findAll);
+    }
+
+    /**
+     * Global paging: each shard returns its first (page + 1) * size rows in the requested order,
+     * which are merged and cut to the requested page. Deep pages therefore cost more.
+     */
+    public Page<OrderModel> findAll(Pageable pageable) {
+        if (shardRouter.shardCount() == 1) {
+            return inShard(0, repository -> repository.findAll(pageable));
+        }
+
+        int limit = (int) Math.min(Integer.MAX_VALUE, pageable.getOffset() + pageable.getPageSize());
+        PageRequest shardRequest = PageRequest.of(0, Math.max(limit, 1), pageable.getSort());
+
+        List<Page<OrderModel>> pages = runOnAllShards(repository -> repository.findAll(shardRequest));
+        List<OrderModel> merged = new ArrayList<>();
+        long total = 0;
+        for (Page<OrderModel> page : pages) {
+            merged.addAll(page.getContent());
+            total += page.getTotalElements();
+        }
+        merged.sort(comparatorFor(pageable.getSort()));
+
+        int from = (int) Math.min(pageable.getOffset(), merged.size());
+        int to = Math.min(from + pageable.getPageSize(), merged.size());
+        return new PageImpl<>(merged.subList(from, to), pageable, total);
+    }
+
+    private List<OrderModel> scatter(Function<OrderRepository, List<OrderModel>> work) {
+        List<OrderModel> results = new ArrayList<>();
+        for (List<OrderModel> shardResult : runOnAllShards(work)) {
+            results.addAll(shardResult);
+        }
+        return results;
+    }
+
+    private <T> List<T> runOnAllShards(Function<OrderRepository, T> work) {
+        int shardCount = shardRouter.shardCount();
+        if (scatterExecutor == null) {
+            List<T> results = new ArrayList<>(shardCount);
+            for (int shard = 0; shard < shardCount; shard++) {
+                results.add(inShard(shard, work));
+            }
+            return results;
+        }
+
+        List<CompletableFuture<T>> futures = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            int target = shard;
+            futures.add(CompletableFuture.supplyAsync(() -> inShard(target, work), scatterExecutor));
+        }
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    private <T> T initializeItems(T result) {
+        if (result instanceof OrderModel order) {
+            Hibernate.initialize(order.getOrderItems());
+        } else if (result instanceof Optional<?> optional) {
+            optional.ifPresent(this::initializeItems);
+        } else if (result instanceof Iterable<?> iterable) {
+            iterable.forEach(this::initializeItems);
+        }
+        return result;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Comparator<OrderModel> comparatorFor(Sort sort) {
+        Comparator<OrderModel> comparator = (left, right) -> 0;
+        for (Sort.Order order : sort) {
+            Comparator<OrderModel> byProperty = Comparator.comparing(
+                    model -> (Comparable) new BeanWrapperImpl(model).getPropertyValue(order.getProperty()),
+                    Comparator.nullsLast(Comparator.naturalOrder()));
+            comparator = comparator.thenComparing(order.isAscending() ? byProperty : byProperty.reversed());
+        }
+        return comparator;
+    }
+}
@@ -0,0 +1,43 @@
+package com.OrderManagement.OrderManagement.sharding;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+@ConfigurationProperties(prefix = "order.sharding")
+@Getter
+@Setter
+public class ShardingConfig {
+
+    // When disabled every order lives in the single spring.datasource database (shard 0)
+    private boolean enabled = false;
+
+    private List<Shard> shards = new ArrayList<>();
+
+    // Points per shard on the consistent hash ring
+    private int virtualNodes = 160;
+
+    // Distinguishes Order_Service instances in generated order IDs (0-63). Must be set, and
+    // unique per instance, when sharding is enabled; unused otherwise, as the database assigns IDs
+    private Integer workerId;
+
+    // Moves orders whose restaurant now hashes to another shard, e.g. after adding a shard
+    private boolean rebalanceOnStartup = false;
+
+    public int shardCount() {
+        return enabled ? shards.size() : 1;
+    }
+
+    @Getter
+    @Setter
+    public static class Shard {
+        private String url;
+        private String username;
+        private String password;
+    }
+}
@@ -0,0 +1,8 @@
+package com.OrderManagement.OrderManagement.sla;
+
+import com.OrderManagement.OrderManagement.model.OrderStatus;
+
+import java.time.Duration;
+
+public record OrderSlaBreachEvent(Long orderId, OrderStatus status, Duration limit) {
+}
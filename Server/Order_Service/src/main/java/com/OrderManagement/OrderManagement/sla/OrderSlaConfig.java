@@ -0,0 +1,28 @@
+package com.OrderManagement.OrderManagement.sla;
+
+import com.OrderManagement.OrderManagement.model.OrderStatus;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+@Configuration
+@ConfigurationProperties(prefix = "order.sla")
+@Getter
+@Setter
+public class OrderSlaConfig {
+
+    // How long an order may stay in a status before it is flagged
+    private Map<OrderStatus, Duration> limits = new EnumMap<>(OrderStatus.class);
+
+    private long tickMillis = 1000;
+
+    private int wheelSize = 512;
+
+    // Breached orders remembered so edits that keep the status do not report them again
+    private int maxBreachedOrders = 10_000;
+}
@@ -0,0 +1,134 @@
+package com.OrderManagement.OrderManagement.sla;
+
+import com.OrderManagement.OrderManagement.model.OrderModel;
+import com.OrderManagement.OrderManagement.model.OrderStatus;
+import com.OrderManagement.OrderManagement.sharding.ShardedOrderRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks how long each active order has been in its current status and raises an
+ * {@link OrderSlaBreachEvent} when it stays there longer than the configured limit.
+ */
+@Slf4j
+@Component
+public class OrderSlaMonitor {
+
+    private static final EnumSet<OrderStatus> ACTIVE_STATUSES = EnumSet.of(
+            OrderStatus.PLACED, OrderStatus.CONFIRMED, OrderStatus.PREPARING, OrderStatus.OUT_FOR_DELIVERY);
+
+    private final OrderSlaConfig slaConfig;
+    private final ShardedOrderRepository orderRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TimerWheel<Long, OrderStatus> timerWheel;
+    // Status each order is currently scheduled for
+    private final Map<Long, OrderStatus> trackedStatuses = new ConcurrentHashMap<>();
+    // Status each order breached in, oldest dropped first, so orders abandoned in an active
+    // status do not stay in memory for the life of the process
+    private final Map<Long, OrderStatus> breachedStatuses;
+
+    public OrderSlaMonitor(OrderSlaConfig slaConfig, ShardedOrderRepository orderRepository,
+                           ApplicationEventPublisher eventPublisher) {
+        this.slaConfig = slaConfig;
+        this.orderRepository = orderRepository;
+        this.eventPublisher = eventPublisher;
+        this.timerWheel = new TimerWheel<>(slaConfig.getTickMillis(), slaConfig.getWheelSize(),
+                System.currentTimeMillis());
+        int maxBreachedOrders = slaConfig.getMaxBreachedOrders();
+        this.breachedStatuses = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, OrderStatus> eldest) {
+                return size() > maxBreachedOrders;
+            }
+        };
+    }
+
+    // Rebuild the timers for orders that were still active when the service last stopped
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadActiveOrders() {
+        List<OrderModel> activeOrders = orderRepository.findByStatusIn(ACTIVE_STATUSES);
+        activeOrders.forEach(this::track);
+        log.info("SLA monitor tracking {} active orders", timerWheel.size());
+    }
+
+    public synchronized void track(OrderModel order) {
+        if (order.getOrderId() == null) {
+            return;
+        }
+
+        OrderStatus status = order.getStatus();
+        Duration limit = status == null ? null : slaConfig.getLimits().get(status);
+        if (limit == null || !ACTIVE_STATUSES.contains(status)) {
+            untrack(order.getOrderId());
+            return;
+        }
+        // Edits that keep the status keep its deadline, so a breached order is not reported again
+        if (breachedStatuses.get(order.getOrderId()) == status
+                || trackedStatuses.put(order.getOrderId(), status) == status) {
+            return;
+        }
+        breachedStatuses.remove(order.getOrderId());
+
+        LocalDateTime enteredAt = statusEnteredAt(order);
+        long enteredAtMillis = enteredAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        timerWheel.schedule(order.getOrderId(), status, enteredAtMillis + limit.toMillis());
+    }
+
+    public synchronized void untrack(Long orderId) {
+        trackedStatuses.remove(orderId);
+        breachedStatuses.remove(orderId);
+        timerWheel.cancel(orderId);
+    }
+
+    public int trackedOrderCount() {
+        return timerWheel.size();
+    }
+
+    @Scheduled(fixedRateString = "${order.sla.tick-millis:1000}")
+    public void tick() {
+        timerWheel.advance(System.currentTimeMillis(), this::raiseBreach);
+    }
+
+    private void raiseBreach(Long orderId, OrderStatus status) {
+        synchronized (this) {
+            if (!trackedStatuses.remove(orderId, status)) {
+                // Rescheduled for another status while this timer was firing
+                return;
+            }
+            breachedStatuses.put(orderId, status);
+        }
+        Duration limit = slaConfig.getLimits().get(status);
+        log.warn("Order {} exceeded the {} SLA of {}", orderId, status, limit);
+        eventPublisher.publishEvent(new OrderSlaBreachEvent(orderId, status, limit));
+    }
+
+    private LocalDateTime statusEnteredAt(OrderModel order) {
+        LocalDateTime enteredAt = switch (order.getStatus()) {
+            case PLACED -> order.getPlacedAt();
+            case CONFIRMED -> order.getConfirmedAt();
+            case PREPARING -> order.getPreparingAt();
+            case OUT_FOR_DELIVERY -> order.getOutForDeliveryAt();
+            case DELIVERED -> order.getDeliveredAt();
+            case CANCELLED -> order.getCancelledAt();
+        };
+
+        // Orders created before transition timestamps existed only carry lastUpdated
+        if (enteredAt == null) {
+            enteredAt = order.getLastUpdated() != null ? order.getLastUpdated() : LocalDateTime.now();
+        }
+        return enteredAt;
+    }
+}
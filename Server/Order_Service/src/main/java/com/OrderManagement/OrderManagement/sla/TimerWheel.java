@@ -0,0 +1,158 @@
+package com.OrderManagement.OrderManagement.sla;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Hashed timer wheel keyed by an id. Each key holds at most one pending timeout, so
+ * re-scheduling a key replaces its previous deadline.
+ *
+ * schedule and cancel are O(1): a timeout is linked into the bucket for its deadline tick
+ * and unlinked directly through the key index. Deadlines further away than one rotation
+ * carry a round counter that is decremented each time the bucket is visited.
+ *
+ * Timeouts never fire before their deadline and fire at most one tick after it, provided
+ * {@link #advance(long, BiConsumer)} is driven at least once per tick.
+ */
+public class TimerWheel<K, V> {
+
+    private final long tickMillis;
+    private final long startMillis;
+    private final Bucket<K, V>[] wheel;
+    private final int mask;
+    private final Map<K, Timeout<K, V>> timeouts = new HashMap<>();
+
+    private long currentTick;
+
+    @SuppressWarnings("unchecked")
+    public TimerWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis must be positive");
+        }
+        if (wheelSize <= 0) {
+            throw new IllegalArgumentException("wheelSize must be positive");
+        }
+        int size = Integer.highestOneBit(wheelSize);
+        if (size < wheelSize) {
+            size <<= 1;
+        }
+        this.tickMillis = tickMillis;
+        this.startMillis = startMillis;
+        this.wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new Bucket<>();
+        }
+        this.mask = size - 1;
+    }
+
+    public synchronized void schedule(K key, V value, long deadlineMillis) {
+        Timeout<K, V> existing = timeouts.remove(key);
+        if (existing != null) {
+            existing.bucket.remove(existing);
+        }
+
+        // Round up so a timeout is never reported before its deadline
+        long deadlineTick = Math.max(0, (deadlineMillis - startMillis + tickMillis - 1) / tickMillis);
+        long ticks = Math.max(deadlineTick, currentTick);
+
+        Timeout<K, V> timeout = new Timeout<>(key, value);
+        timeout.remainingRounds = (ticks - currentTick) / wheel.length;
+        wheel[(int) (ticks & mask)].add(timeout);
+        timeouts.put(key, timeout);
+    }
+
+    public synchronized boolean cancel(K key) {
+        Timeout<K, V> timeout = timeouts.remove(key);
+        if (timeout == null) {
+            return false;
+        }
+        timeout.bucket.remove(timeout);
+        return true;
+    }
+
+    public synchronized int size() {
+        return timeouts.size();
+    }
+
+    /**
+     * Processes every tick up to {@code nowMillis} and hands expired entries to the callback.
+     * The callback runs outside the wheel lock, so it may schedule or cancel freely.
+     */
+    public void advance(long nowMillis, BiConsumer<K, V> onExpired) {
+        List<Timeout<K, V>> expired = new ArrayList<>();
+
+        synchronized (this) {
+            long targetTick = (nowMillis - startMillis) / tickMillis;
+            while (currentTick <= targetTick) {
+                Bucket<K, V> bucket = wheel[(int) (currentTick & mask)];
+                Timeout<K, V> timeout = bucket.head;
+                while (timeout != null) {
+                    Timeout<K, V> next = timeout.next;
+                    if (timeout.remainingRounds <= 0) {
+                        bucket.remove(timeout);
+                        timeouts.remove(timeout.key);
+                        expired.add(timeout);
+                    } else {
+                        timeout.remainingRounds--;
+                    }
+                    timeout = next;
+                }
+                currentTick++;
+            }
+        }
+
+        for (Timeout<K, V> timeout : expired) {
+            onExpired.accept(timeout.key, timeout.value);
+        }
+    }
+
+    private static final class Timeout<K, V> {
+        private final K key;
+        private final V value;
+        private long remainingRounds;
+        private Bucket<K, V> bucket;
+        private Timeout<K, V> prev;
+        private Timeout<K, V> next;
+
+        private Timeout(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    private static final class Bucket<K, V> {
+        private Timeout<K, V> head;
+        private Timeout<K, V> tail;
+
+        private void add(Timeout<K, V> timeout) {
+            timeout.bucket = this;
+            timeout.prev = tail;
+            timeout.next = null;
+            if (tail == null) {
+                head = timeout;
+            } else {
+                tail.next = timeout;
+            }
+            tail = timeout;
+        }
+
+        private void remove(Timeout<K, V> timeout) {
+            if (timeout.prev == null) {
+                head = timeout.next;
+            } else {
+                timeout.prev.next = timeout.next;
+            }
+            if (timeout.next == null) {
+                tail = timeout.prev;
+            } else {
+                timeout.next.prev = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+    }
+}
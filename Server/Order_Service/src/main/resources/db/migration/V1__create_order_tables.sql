@@ -0,0 +1,31 @@
+-- Matches the schema ddl-auto generated before Flyway was introduced; IF NOT EXISTS keeps it a
+-- no-op on those databases, which are baselined at version 0. Later columns belong in later versions
+CREATE TABLE IF NOT EXISTS orders (
+    order_id            BIGINT NOT NULL AUTO_INCREMENT,
+    user_id             VARCHAR(255),
+    restaurant_id       VARCHAR(255),
+    status              ENUM ('PLACED', 'CONFIRMED', 'PREPARING', 'OUT_FOR_DELIVERY', 'DELIVERED', 'CANCELLED'),
+    order_date          DATETIME(6),
+    last_updated        DATETIME(6),
+    delivery_address    VARCHAR(255),
+    latitude            DOUBLE,
+    longitude           DOUBLE,
+    contact_phone       VARCHAR(255),
+    subtotal            DECIMAL(38, 2),
+    delivery_fee        DECIMAL(38, 2),
+    tax                 DECIMAL(38, 2),
+    total_amount        DECIMAL(38, 2),
+    PRIMARY KEY (order_id)
+);
+
+CREATE TABLE IF NOT EXISTS order_items (
+    id           BIGINT NOT NULL AUTO_INCREMENT,
+    menu_item_id VARCHAR(255),
+    item_name    VARCHAR(255),
+    quantity     INTEGER,
+    unit_price   DECIMAL(38, 2),
+    total_price  DECIMAL(38, 2),
+    order_id     BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_order_items_order FOREIGN KEY (order_id) REFERENCES orders (order_id)
+);
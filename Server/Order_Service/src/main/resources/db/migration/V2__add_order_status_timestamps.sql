@@ -0,0 +1,7 @@
+-- Time each order entered its status, used by the SLA monitor; rows from before stay NULL
+ALTER TABLE orders ADD COLUMN placed_at DATETIME(6);
+ALTER TABLE orders ADD COLUMN confirmed_at DATETIME(6);
+ALTER TABLE orders ADD COLUMN preparing_at DATETIME(6);
+ALTER TABLE orders ADD COLUMN out_for_delivery_at DATETIME(6);
+ALTER TABLE orders ADD COLUMN delivered_at DATETIME(6);
+ALTER TABLE orders ADD COLUMN cancelled_at DATETIME(6);
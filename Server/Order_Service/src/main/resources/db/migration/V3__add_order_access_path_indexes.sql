@@ -0,0 +1,8 @@
+-- Restaurant dashboard: orders for a restaurant, optionally filtered by status, newest first
+CREATE INDEX idx_orders_restaurant_status_date ON orders (restaurant_id, status, order_date);
+
+-- Customer order history, newest first
+CREATE INDEX idx_orders_user_date ON orders (user_id, order_date);
+
+-- Active orders reloaded by the SLA monitor on startup
+CREATE INDEX idx_orders_status ON orders (status);
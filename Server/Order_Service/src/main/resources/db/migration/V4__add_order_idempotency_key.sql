@@ -0,0 +1,5 @@
+-- Key sent by callers that may retry a placement, so each checkout places its order once
+ALTER TABLE orders ADD COLUMN idempotency_key VARCHAR(255);
+
+-- Keys are chosen by the caller, so each user has their own key space
+CREATE UNIQUE INDEX uk_orders_idempotency_key ON orders (user_id, idempotency_key);
@@ -0,0 +1,57 @@
+package com.OrderManagement.OrderManagement.pricing;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class MenuPriceCacheTests {
+
+	private final MenuPriceCache cache = new MenuPriceCache();
+
+	@Test
+	void replaceAllDropsItemsMissingFromTheSnapshot() {
+		cache.put(price("f1", 100));
+		cache.put(price("f2", 200));
+
+		cache.replaceAll(List.of(price("f1", 150)), cache.currentStamp());
+
+		assertEquals(150, cache.get("f1").unitPriceCents());
+		assertNull(cache.get("f2"));
+		assertEquals(1, cache.size());
+	}
+
+	@Test
+	void replaceAllKeepsChangesMadeDuringTheFetch() {
+		cache.put(price("f1", 100));
+		cache.put(price("f2", 200));
+		long fetchedAt = cache.currentStamp();
+
+		// Change events that arrive while the snapshot is being fetched
+		cache.put(price("f1", 120));
+		cache.put(price("f3", 300));
+		cache.remove("f2");
+		cache.replaceAll(List.of(price("f1", 100), price("f2", 200)), fetchedAt);
+
+		assertEquals(120, cache.get("f1").unitPriceCents());
+		assertNull(cache.get("f2"));
+		assertEquals(300, cache.get("f3").unitPriceCents());
+	}
+
+	@Test
+	void putAllDoesNotOverwriteNewerPrices() {
+		long fetchedAt = cache.currentStamp();
+		cache.put(price("f1", 120));
+
+		cache.putAll(List.of(price("f1", 100), price("f2", 200)), fetchedAt);
+
+		assertEquals(120, cache.get("f1").unitPriceCents());
+		assertEquals(200, cache.get("f2").unitPriceCents());
+	}
+
+	private static MenuPrice price(String menuItemId, long cents) {
+		return new MenuPrice(menuItemId, "r1", cents, true);
+	}
+}
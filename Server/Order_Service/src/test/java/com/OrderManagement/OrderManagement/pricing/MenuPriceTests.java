@@ -0,0 +1,27 @@
+package com.OrderManagement.OrderManagement.pricing;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MenuPriceTests {
+
+	@Test
+	void roundsTheDiscountAmountHalfUp() {
+		assertEquals(999, cents(9.99, 0));
+		assertEquals(669, cents(9.99, 33));
+		// 12.5 cents off rounds up to 13
+		assertEquals(12, cents(0.25, 50));
+		assertEquals(101, cents(1.005, 0));
+	}
+
+	@Test
+	void clampsDiscountsOutsideZeroToHundred() {
+		assertEquals(1000, cents(10, -5));
+		assertEquals(0, cents(10, 150));
+	}
+
+	private static long cents(double price, int discount) {
+		return MenuPrice.of("f1", "r1", price, discount, true).unitPriceCents();
+	}
+}
@@ -0,0 +1,97 @@
+package com.OrderManagement.OrderManagement.pricing;
+
+import com.OrderManagement.OrderManagement.exception.OrderException;
+import com.OrderManagement.OrderManagement.model.OrderItem;
+import com.OrderManagement.OrderManagement.model.OrderModel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OrderPriceVerifierTests {
+
+	private MenuPriceCache cache;
+	private RestaurantMenuClient client;
+	private OrderPriceVerifier verifier;
+
+	@BeforeEach
+	void setUp() {
+		cache = new MenuPriceCache();
+		client = mock(RestaurantMenuClient.class);
+		verifier = new OrderPriceVerifier(cache, client);
+		cache.put(new MenuPrice("f1", "r1", 250, true));
+		cache.put(new MenuPrice("f2", "r1", 100, false));
+		cache.put(new MenuPrice("f3", "r2", 100, true));
+	}
+
+	@Test
+	void pricesItemsFromTheCacheIgnoringClientPrices() {
+		OrderModel order = order(item("f1", 3));
+		order.getOrderItems().get(0).setUnitPrice(BigDecimal.ONE);
+
+		assertEquals(750, verifier.verifyAndPrice(order));
+		assertEquals(new BigDecimal("2.50"), order.getOrderItems().get(0).getUnitPrice());
+		assertEquals(new BigDecimal("7.50"), order.getOrderItems().get(0).getTotalPrice());
+		verify(client, never()).fetchPrices(any());
+	}
+
+	@Test
+	void fetchesAllMissingPricesInOneRequest() {
+		when(client.fetchPrices(List.of("f4", "f5"))).thenReturn(List.of(
+				new MenuPrice("f4", "r1", 100, true),
+				new MenuPrice("f5", "r1", 200, true)));
+
+		assertEquals(550, verifier.verifyAndPrice(order(item("f1", 1), item("f4", 1), item("f5", 1))));
+		verify(client).fetchPrices(List.of("f4", "f5"));
+		assertEquals(200, cache.get("f5").unitPriceCents());
+	}
+
+	@Test
+	void rejectsUnknownUnavailableAndForeignItems() {
+		when(client.fetchPrices(List.of("f9"))).thenReturn(List.of());
+
+		assertRejected(order(item("f9", 1)), "Menu item not found: f9");
+		assertRejected(order(item("f2", 1)), "Menu item is not available: f2");
+		assertRejected(order(item("f3", 1)), "Menu item f3 does not belong to restaurant r1");
+	}
+
+	@Test
+	void rejectsNonPositiveQuantities() {
+		assertRejected(order(item("f1", 0)), "Quantity must be positive for menu item f1");
+		assertRejected(order(item("f1", -2)), "Quantity must be positive for menu item f1");
+		assertRejected(order(item("f1", null)), "Quantity must be positive for menu item f1");
+	}
+
+	@Test
+	void reportsUnavailablePricingWhenTheFetchFails() {
+		when(client.fetchPrices(any())).thenThrow(new IllegalStateException("down"));
+
+		OrderException ex = assertThrows(OrderException.class, () -> verifier.verifyAndPrice(order(item("f9", 1))));
+		assertEquals(HttpStatus.SERVICE_UNAVAILABLE, ex.getStatus());
+	}
+
+	private void assertRejected(OrderModel order, String message) {
+		OrderException ex = assertThrows(OrderException.class, () -> verifier.verifyAndPrice(order));
+		assertEquals(HttpStatus.BAD_REQUEST, ex.getStatus());
+		assertEquals(message, ex.getMessage());
+	}
+
+	private static OrderModel order(OrderItem... items) {
+		return OrderModel.builder().restaurantId("r1").orderItems(new ArrayList<>(List.of(items))).build();
+	}
+
+	private static OrderItem item(String menuItemId, Integer quantity) {
+		return OrderItem.builder().menuItemId(menuItemId).itemName(menuItemId).quantity(quantity).build();
+	}
+}
@@ -0,0 +1,122 @@
+package com.OrderManagement.OrderManagement.repository;
+
+import com.OrderManagement.OrderManagement.model.OrderItem;
+import com.OrderManagement.OrderManagement.model.OrderModel;
+import com.OrderManagement.OrderManagement.model.OrderStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Runs every filtered {@link OrderRepository} query against a seeded database built from the
+ * Flyway migrations and fails if its plan falls back to a full table scan.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:order_plan;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.OrderManagement.OrderManagement.repository.CapturingStatementInspector"
+})
+class OrderRepositoryQueryPlanTests {
+
+    private static final int RESTAURANTS = 20;
+    private static final int USERS = 200;
+    private static final int ORDERS = 2_000;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        List<OrderModel> orders = new ArrayList<>();
+        OrderStatus[] statuses = OrderStatus.values();
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < ORDERS; i++) {
+            OrderItem item = OrderItem.builder()
+                    .menuItemId("menu-" + (i % 50))
+                    .itemName("Item " + (i % 50))
+                    .quantity(1)
+                    .unitPrice(BigDecimal.TEN)
+                    .totalPrice(BigDecimal.TEN)
+                    .build();
+            orders.add(OrderModel.builder()
+                    .orderId(i + 1L)
+                    .userId("user-" + (i % USERS))
+                    .restaurantId("restaurant-" + (i % RESTAURANTS))
+                    .status(statuses[i % statuses.length])
+                    .orderDate(now.minusMinutes(i))
+                    .lastUpdated(now.minusMinutes(i))
+                    .deliveryAddress("Address " + i)
+                    .contactPhone("0771234567")
+                    .subtotal(BigDecimal.TEN)
+                    .deliveryFee(BigDecimal.ONE)
+                    .tax(BigDecimal.ONE)
+                    .totalAmount(BigDecimal.valueOf(12))
+                    .orderItems(new ArrayList<>(List.of(item)))
+                    .build());
+        }
+        orderRepository.saveAll(orders);
+        orderRepository.flush();
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @Test
+    void findByUserIdUsesAnIndex() {
+        assertNoFullScan(() -> orderRepository.findByUserIdOrderByOrderDateDesc("user-7"), "user-7");
+    }
+
+    @Test
+    void findByRestaurantIdUsesAnIndex() {
+        assertNoFullScan(() -> orderRepository.findByRestaurantIdOrderByOrderDateDesc("restaurant-3"),
+                "restaurant-3");
+    }
+
+    @Test
+    void findByRestaurantIdAndStatusUsesAnIndex() {
+        assertNoFullScan(() -> orderRepository.findByRestaurantIdAndStatusOrderByOrderDateDesc(
+                "restaurant-3", OrderStatus.PREPARING), "restaurant-3", OrderStatus.PREPARING.name());
+    }
+
+    @Test
+    void findByStatusInUsesAnIndex() {
+        assertNoFullScan(() -> orderRepository.findByStatusIn(EnumSet.of(OrderStatus.PLACED, OrderStatus.PREPARING)),
+                OrderStatus.PLACED.name(), OrderStatus.PREPARING.name());
+    }
+
+    private void assertNoFullScan(Runnable query, Object... parameters) {
+        CapturingStatementInspector.clear();
+        query.run();
+
+        List<String> orderQueries = CapturingStatementInspector.statements().stream()
+                .filter(sql -> sql.startsWith("select") && sql.contains(" from orders "))
+                .toList();
+        assertEquals(1, orderQueries.size(), "expected exactly one query on orders: " + orderQueries);
+
+        String plan = jdbcTemplate.queryForList("EXPLAIN " + orderQueries.get(0), String.class, parameters)
+                .get(0);
+        assertFalse(plan.contains("tableScan"), "full table scan in plan:\n" + plan);
+    }
+}
@@ -0,0 +1,39 @@
+package com.OrderManagement.OrderManagement.sharding;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OrderIdGeneratorTests {
+
+	@Test
+	void requiresAWorkerIdWhenShardingIsEnabled() {
+		ShardingConfig shardingConfig = new ShardingConfig();
+		shardingConfig.setEnabled(true);
+		shardingConfig.getShards().add(new ShardingConfig.Shard());
+
+		assertThrows(IllegalStateException.class, () -> new OrderIdGenerator(shardingConfig));
+
+		shardingConfig.setWorkerId(5);
+		new OrderIdGenerator(shardingConfig);
+	}
+
+	@Test
+	void resumesPastIdsIssuedBeforeARestart() {
+		OrderIdGenerator before = new OrderIdGenerator(new ShardingConfig());
+		long last = 0;
+		// Exhausts more than one second's sequence, borrowing seconds ahead of the clock
+		for (int i = 0; i < 3000; i++) {
+			last = before.nextId(2);
+		}
+
+		OrderIdGenerator restarted = new OrderIdGenerator(new ShardingConfig());
+		restarted.resumeAfter(last);
+		long next = restarted.nextId(2);
+
+		assertTrue(next > last, next + " should follow " + last);
+		assertEquals(2, OrderIdGenerator.shardOf(next));
+	}
+}
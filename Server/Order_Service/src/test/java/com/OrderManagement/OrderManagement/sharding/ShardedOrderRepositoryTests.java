@@ -0,0 +1,257 @@
+package com.OrderManagement.OrderManagement.sharding;
+
+import com.OrderManagement.OrderManagement.exception.OrderException;
+import com.OrderManagement.OrderManagement.model.OrderItem;
+import com.OrderManagement.OrderManagement.model.OrderModel;
+import com.OrderManagement.OrderManagement.model.OrderStatus;
+import com.OrderManagement.OrderManagement.pricing.MenuPrice;
+import com.OrderManagement.OrderManagement.pricing.MenuPriceCache;
+import com.OrderManagement.OrderManagement.service.OrderService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the sharding layer against four embedded H2 databases.
+ */
+@SpringBootTest
+@TestPropertySource(properties = {
+        "order.sharding.enabled=true",
+        "order.sharding.worker-id=1",
+        "order.sharding.shards[0].url=jdbc:h2:mem:order_shard_0;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "order.sharding.shards[0].username=sa",
+        "order.sharding.shards[1].url=jdbc:h2:mem:order_shard_1;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "order.sharding.shards[1].username=sa",
+        "order.sharding.shards[2].url=jdbc:h2:mem:order_shard_2;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "order.sharding.shards[2].username=sa",
+        "order.sharding.shards[3].url=jdbc:h2:mem:order_shard_3;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "order.sharding.shards[3].username=sa",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "eureka.client.enabled=false",
+        "spring.kafka.listener.auto-startup=false"
+})
+class ShardedOrderRepositoryTests {
+
+    private static final int SHARDS = 4;
+
+    @Autowired
+    private ShardedOrderRepository shardedOrderRepository;
+
+    @Autowired
+    private ShardRebalancer shardRebalancer;
+
+    @Autowired
+    private OrderShardRouter shardRouter;
+
+    @Autowired
+    private OrderIdGenerator orderIdGenerator;
+
+    @Autowired
+    private ShardRoutingDataSource dataSource;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private MenuPriceCache menuPriceCache;
+
+    @BeforeEach
+    void clearShards() {
+        for (int shard = 0; shard < SHARDS; shard++) {
+            jdbc(shard).update("DELETE FROM order_items");
+            jdbc(shard).update("DELETE FROM orders");
+        }
+    }
+
+    @Test
+    void storesEachOrderOnItsRestaurantShard() {
+        Set<Integer> usedShards = new HashSet<>();
+        for (int i = 0; i < 200; i++) {
+            OrderModel order = shardedOrderRepository.insert(newOrder("user-" + (i % 10), "restaurant-" + (i % 40)));
+            int expected = shardRouter.shardForRestaurant(order.getRestaurantId());
+
+            assertEquals(expected, OrderIdGenerator.shardOf(order.getOrderId()));
+            for (int shard = 0; shard < SHARDS; shard++) {
+                assertEquals(shard == expected ? 1 : 0, countOrders(shard, order.getOrderId()));
+            }
+            usedShards.add(expected);
+        }
+        assertTrue(usedShards.size() >= 3, "restaurants should spread over the shards: " + usedShards);
+
+        List<OrderModel> restaurantOrders = shardedOrderRepository.findByRestaurantId("restaurant-7", null);
+        assertEquals(5, restaurantOrders.size());
+        assertEquals(1, restaurantOrders.get(0).getOrderItems().size());
+    }
+
+    @Test
+    void gathersUserHistoryAndPagesAcrossShards() {
+        for (int i = 0; i < 60; i++) {
+            shardedOrderRepository.insert(newOrder("user-" + (i % 3), "restaurant-" + i));
+        }
+
+        List<OrderModel> history = shardedOrderRepository.findByUserId("user-1");
+        assertEquals(20, history.size());
+        for (int i = 1; i < history.size(); i++) {
+            assertTrue(!history.get(i).getOrderDate().isAfter(history.get(i - 1).getOrderDate()));
+        }
+
+        Page<OrderModel> page = shardedOrderRepository.findAll(
+                PageRequest.of(2, 10, Sort.by(Sort.Direction.ASC, "restaurantId")));
+        assertEquals(60, page.getTotalElements());
+        assertEquals(10, page.getContent().size());
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            expected.add("restaurant-" + i);
+        }
+        expected.sort(null);
+        assertEquals(expected.subList(20, 30), page.getContent().stream().map(OrderModel::getRestaurantId).toList());
+    }
+
+    @Test
+    void placesOneOrderPerIdempotencyKey() {
+        menuPriceCache.put(new MenuPrice("menu-1", "restaurant-keyed", 1000, true));
+
+        OrderModel first = orderService.createOrder(newOrder("user-1", "restaurant-keyed"), "cart-1:2:restaurant-keyed");
+        OrderModel retried = orderService.createOrder(newOrder("user-1", "restaurant-keyed"), "cart-1:2:restaurant-keyed");
+
+        assertEquals(first.getOrderId(), retried.getOrderId());
+        assertEquals(1, shardedOrderRepository.findByRestaurantId("restaurant-keyed", null).size());
+
+        assertEquals(first.getOrderId(),
+                orderService.getOrderByIdempotencyKey("user-1", "restaurant-keyed", "cart-1:2:restaurant-keyed").getOrderId());
+
+        OrderModel duplicate = newOrder("user-1", "restaurant-keyed");
+        duplicate.setIdempotencyKey("cart-1:2:restaurant-keyed");
+        assertThrows(DataIntegrityViolationException.class, () -> shardedOrderRepository.insert(duplicate));
+    }
+
+    @Test
+    void scopesIdempotencyKeysByUserAndRejectsADifferentOrder() {
+        menuPriceCache.put(new MenuPrice("menu-1", "restaurant-keyed", 1000, true));
+        OrderModel first = orderService.createOrder(newOrder("user-1", "restaurant-keyed"), "cart-1:2:restaurant-keyed");
+
+        OrderModel changed = newOrder("user-1", "restaurant-keyed");
+        changed.getOrderItems().get(0).setQuantity(2);
+        OrderException rejected = assertThrows(OrderException.class,
+                () -> orderService.createOrder(changed, "cart-1:2:restaurant-keyed"));
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, rejected.getStatus());
+
+        OrderModel otherUser = orderService.createOrder(newOrder("user-2", "restaurant-keyed"), "cart-1:2:restaurant-keyed");
+        assertNotEquals(first.getOrderId(), otherUser.getOrderId());
+        assertEquals(2, shardedOrderRepository.findByRestaurantId("restaurant-keyed", null).size());
+
+        OrderException missing = assertThrows(OrderException.class,
+                () -> orderService.getOrderByIdempotencyKey("user-3", "restaurant-keyed", "cart-1:2:restaurant-keyed"));
+        assertEquals(HttpStatus.NOT_FOUND, missing.getStatus());
+    }
+
+    @Test
+    void rebalanceMovesOnlyRestaurantsThatHashToTheNewShard() {
+        // Orders written while the cluster had three shards
+        ConsistentHashRing threeShards = new ConsistentHashRing(3, 160);
+        List<Long> orderIds = new ArrayList<>();
+        int restaurants = 200;
+        for (int i = 0; i < restaurants; i++) {
+            String restaurantId = "rebalance-restaurant-" + i;
+            int shard = threeShards.shardFor(restaurantId);
+            long orderId = orderIdGenerator.nextId(shard);
+            jdbc(shard).update("INSERT INTO orders (order_id, user_id, restaurant_id, status, order_date, "
+                            + "delivery_address, contact_phone) VALUES (?, ?, ?, ?, ?, ?, ?)",
+                    orderId, "user-" + i, restaurantId, OrderStatus.PLACED.name(),
+                    Timestamp.valueOf(LocalDateTime.now()), "Address", "0771234567");
+            jdbc(shard).update("INSERT INTO order_items (menu_item_id, item_name, quantity, unit_price, total_price, "
+                    + "order_id) VALUES (?, ?, ?, ?, ?, ?)", "menu-1", "Item", 1, 10, 10, orderId);
+            orderIds.add(orderId);
+        }
+
+        long moved = shardRebalancer.rebalance();
+
+        int movedRestaurants = 0;
+        for (int i = 0; i < restaurants; i++) {
+            String restaurantId = "rebalance-restaurant-" + i;
+            int before = threeShards.shardFor(restaurantId);
+            int after = shardRouter.shardForRestaurant(restaurantId);
+            if (before != after) {
+                assertEquals(3, after, "consistent hashing should only move keys onto the new shard");
+                movedRestaurants++;
+            }
+            assertEquals(1, countOrdersForRestaurant(after, restaurantId));
+            for (int shard = 0; shard < SHARDS; shard++) {
+                if (shard != after) {
+                    assertEquals(0, countOrdersForRestaurant(shard, restaurantId));
+                }
+            }
+        }
+
+        assertEquals(movedRestaurants, moved);
+        double movedFraction = movedRestaurants / (double) restaurants;
+        assertTrue(movedFraction > 0.1 && movedFraction < 0.45, "moved fraction " + movedFraction);
+
+        for (Long orderId : orderIds) {
+            OrderModel order = shardedOrderRepository.findById(orderId).orElseThrow();
+            assertEquals(1, order.getOrderItems().size());
+        }
+    }
+
+    private OrderModel newOrder(String userId, String restaurantId) {
+        LocalDateTime now = LocalDateTime.now();
+        OrderItem item = OrderItem.builder()
+                .menuItemId("menu-1")
+                .itemName("Item")
+                .quantity(1)
+                .unitPrice(BigDecimal.TEN)
+                .totalPrice(BigDecimal.TEN)
+                .build();
+        return OrderModel.builder()
+                .userId(userId)
+                .restaurantId(restaurantId)
+                .status(OrderStatus.PLACED)
+                .orderDate(now)
+                .lastUpdated(now)
+                .placedAt(now)
+                .deliveryAddress("Address")
+                .contactPhone("0771234567")
+                .subtotal(BigDecimal.TEN)
+                .deliveryFee(BigDecimal.ONE)
+                .tax(BigDecimal.ONE)
+                .totalAmount(BigDecimal.valueOf(12))
+                .orderItems(new ArrayList<>(List.of(item)))
+                .build();
+    }
+
+    private JdbcTemplate jdbc(int shard) {
+        return new JdbcTemplate(dataSource.getShardDataSources().get(shard));
+    }
+
+    private int countOrders(int shard, Long orderId) {
+        return jdbc(shard).queryForObject("SELECT COUNT(*) FROM orders WHERE order_id = ?", Integer.class, orderId);
+    }
+
+    private int countOrdersForRestaurant(int shard, String restaurantId) {
+        return jdbc(shard).queryForObject("SELECT COUNT(*) FROM orders WHERE restaurant_id = ?", Integer.class,
+                restaurantId);
+    }
+}
@@ -0,0 +1,82 @@
+package com.OrderManagement.OrderManagement.sharding;
+
+import com.OrderManagement.OrderManagement.model.OrderItem;
+import com.OrderManagement.OrderManagement.model.OrderModel;
+import com.OrderManagement.OrderManagement.model.OrderStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Runs the default, unsharded configuration against a single embedded H2 database, without
+ * any order.sharding.worker-id.
+ */
+@SpringBootTest
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:order_unsharded;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "eureka.client.enabled=false",
+        "spring.kafka.listener.auto-startup=false"
+})
+class UnshardedOrderRepositoryTests {
+
+    @Autowired
+    private ShardedOrderRepository shardedOrderRepository;
+
+    @Autowired
+    private OrderIdGenerator orderIdGenerator;
+
+    @Test
+    void leavesOrderIdsToTheDatabase() {
+        assertFalse(orderIdGenerator.assignsIds());
+
+        OrderModel first = shardedOrderRepository.insert(newOrder());
+        OrderModel second = shardedOrderRepository.insert(newOrder());
+
+        assertNotNull(first.getOrderId());
+        assertEquals(first.getOrderId() + 1, second.getOrderId());
+        assertEquals(0, OrderIdGenerator.shardOf(second.getOrderId()));
+        assertEquals(1, shardedOrderRepository.findById(second.getOrderId()).orElseThrow().getOrderItems().size());
+    }
+
+    private OrderModel newOrder() {
+        LocalDateTime now = LocalDateTime.now();
+        OrderItem item = OrderItem.builder()
+                .menuItemId("menu-1")
+                .itemName("Item")
+                .quantity(1)
+                .unitPrice(BigDecimal.TEN)
+                .totalPrice(BigDecimal.TEN)
+                .build();
+        return OrderModel.builder()
+                .userId("user-1")
+                .restaurantId("restaurant-1")
+                .status(OrderStatus.PLACED)
+                .orderDate(now)
+                .lastUpdated(now)
+                .placedAt(now)
+                .deliveryAddress("Address")
+                .contactPhone("0771234567")
+                .subtotal(BigDecimal.TEN)
+                .deliveryFee(BigDecimal.ONE)
+                .tax(BigDecimal.ONE)
+                .totalAmount(BigDecimal.valueOf(12))
+                .orderItems(new ArrayList<>(List.of(item)))
+                .build();
+    }
+}
@@ -0,0 +1,92 @@
+package com.OrderManagement.OrderManagement.sla;
+
+import com.OrderManagement.OrderManagement.model.OrderModel;
+import com.OrderManagement.OrderManagement.model.OrderStatus;
+import com.OrderManagement.OrderManagement.sharding.ShardedOrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class OrderSlaMonitorTests {
+
+	private ApplicationEventPublisher eventPublisher;
+	private OrderSlaMonitor monitor;
+
+	@BeforeEach
+	void setUp() {
+		OrderSlaConfig slaConfig = new OrderSlaConfig();
+		slaConfig.getLimits().put(OrderStatus.PLACED, Duration.ofMinutes(5));
+		slaConfig.getLimits().put(OrderStatus.CONFIRMED, Duration.ofMinutes(10));
+		slaConfig.setTickMillis(10);
+		eventPublisher = mock(ApplicationEventPublisher.class);
+		monitor = new OrderSlaMonitor(slaConfig, mock(ShardedOrderRepository.class), eventPublisher);
+	}
+
+	@Test
+	void reportsABreachOnceWhenEditsKeepTheStatus() throws InterruptedException {
+		OrderModel order = OrderModel.builder().orderId(1L).status(OrderStatus.PLACED)
+				.placedAt(LocalDateTime.now().minusHours(1)).build();
+
+		monitor.track(order);
+		tick();
+		monitor.track(order);
+		tick();
+
+		verify(eventPublisher, times(1)).publishEvent(any(OrderSlaBreachEvent.class));
+	}
+
+	@Test
+	void schedulesAgainWhenTheStatusChanges() throws InterruptedException {
+		OrderModel order = OrderModel.builder().orderId(1L).status(OrderStatus.PLACED)
+				.placedAt(LocalDateTime.now().minusHours(1)).build();
+		monitor.track(order);
+		tick();
+
+		order.setStatus(OrderStatus.CONFIRMED);
+		order.setConfirmedAt(LocalDateTime.now().minusHours(1));
+		monitor.track(order);
+		tick();
+
+		verify(eventPublisher, times(2)).publishEvent(any(OrderSlaBreachEvent.class));
+	}
+
+	@Test
+	void remembersOnlyTheMostRecentBreaches() throws InterruptedException {
+		OrderSlaConfig slaConfig = new OrderSlaConfig();
+		slaConfig.getLimits().put(OrderStatus.PLACED, Duration.ofMinutes(5));
+		slaConfig.setTickMillis(10);
+		slaConfig.setMaxBreachedOrders(1);
+		monitor = new OrderSlaMonitor(slaConfig, mock(ShardedOrderRepository.class), eventPublisher);
+		OrderModel first = OrderModel.builder().orderId(1L).status(OrderStatus.PLACED)
+				.placedAt(LocalDateTime.now().minusHours(1)).build();
+		OrderModel second = OrderModel.builder().orderId(2L).status(OrderStatus.PLACED)
+				.placedAt(LocalDateTime.now().minusHours(1)).build();
+
+		monitor.track(first);
+		monitor.track(second);
+		tick();
+		assertEquals(0, monitor.trackedOrderCount());
+
+		// The first breach was dropped to stay within the bound, the second is still remembered
+		monitor.track(first);
+		monitor.track(second);
+		tick();
+
+		verify(eventPublisher, times(3)).publishEvent(any(OrderSlaBreachEvent.class));
+	}
+
+	private void tick() throws InterruptedException {
+		// Past deadlines fire on the next tick after the wheel's current one
+		Thread.sleep(20);
+		monitor.tick();
+	}
+}
@@ -0,0 +1,56 @@
+package com.OrderManagement.OrderManagement.sla;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimerWheelTests {
+
+	@Test
+	void firesOnlyAfterDeadline() {
+		TimerWheel<Long, String> wheel = new TimerWheel<>(100, 8, 0);
+		List<Long> fired = new ArrayList<>();
+
+		wheel.schedule(1L, "PLACED", 250);
+		wheel.advance(200, (key, value) -> fired.add(key));
+		assertTrue(fired.isEmpty());
+
+		wheel.advance(300, (key, value) -> fired.add(key));
+		assertEquals(List.of(1L), fired);
+		assertEquals(0, wheel.size());
+	}
+
+	@Test
+	void handlesDeadlinesBeyondOneRotation() {
+		TimerWheel<Long, String> wheel = new TimerWheel<>(100, 4, 0);
+		List<Long> fired = new ArrayList<>();
+
+		wheel.schedule(1L, "PREPARING", 1_050);
+		wheel.advance(1_000, (key, value) -> fired.add(key));
+		assertTrue(fired.isEmpty());
+
+		wheel.advance(1_100, (key, value) -> fired.add(key));
+		assertEquals(List.of(1L), fired);
+	}
+
+	@Test
+	void cancelAndRescheduleReplaceThePendingTimeout() {
+		TimerWheel<Long, String> wheel = new TimerWheel<>(100, 8, 0);
+		List<String> fired = new ArrayList<>();
+
+		wheel.schedule(1L, "PLACED", 100);
+		wheel.schedule(1L, "CONFIRMED", 500);
+		wheel.schedule(2L, "PLACED", 100);
+		assertTrue(wheel.cancel(2L));
+
+		wheel.advance(400, (key, value) -> fired.add(value));
+		assertTrue(fired.isEmpty());
+
+		wheel.advance(500, (key, value) -> fired.add(value));
+		assertEquals(List.of("CONFIRMED"), fired);
+	}
+}
@@ -0,0 +1,37 @@
+-- Schema of an order_db created by ddl-auto=update before Flyway, with one order in it.
+-- Run as the H2 INIT script on every connection, so every statement must be repeatable.
+CREATE TABLE IF NOT EXISTS orders (
+    order_id         BIGINT NOT NULL AUTO_INCREMENT,
+    contact_phone    VARCHAR(255),
+    delivery_address VARCHAR(255),
+    delivery_fee     DECIMAL(38, 2),
+    last_updated     DATETIME(6),
+    latitude         FLOAT(53),
+    longitude        FLOAT(53),
+    order_date       DATETIME(6),
+    restaurant_id    VARCHAR(255),
+    status           ENUM ('PLACED', 'CONFIRMED', 'PREPARING', 'OUT_FOR_DELIVERY', 'DELIVERED', 'CANCELLED'),
+    subtotal         DECIMAL(38, 2),
+    tax              DECIMAL(38, 2),
+    total_amount     DECIMAL(38, 2),
+    user_id          VARCHAR(255),
+    PRIMARY KEY (order_id)
+);
+
+CREATE TABLE IF NOT EXISTS order_items (
+    id           BIGINT NOT NULL AUTO_INCREMENT,
+    item_name    VARCHAR(255),
+    menu_item_id VARCHAR(255),
+    quantity     INTEGER,
+    total_price  DECIMAL(38, 2),
+    unit_price   DECIMAL(38, 2),
+    order_id     BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_order_items_order FOREIGN KEY (order_id) REFERENCES orders (order_id)
+);
+
+MERGE INTO orders (order_id, user_id, restaurant_id, status, order_date, last_updated, delivery_address,
+                   contact_phone, subtotal, delivery_fee, tax, total_amount)
+    KEY (order_id)
+    VALUES (1, 'user-1', 'restaurant-1', 'PLACED', TIMESTAMP '2024-06-01 12:00:00',
+            TIMESTAMP '2024-06-01 12:00:00', 'Address', '0771234567', 10, 1, 1, 12);
@@ -3,6 +3,8 @@ package com.Restaurant_Management.System.adviser;
 import com.Restaurant_Management.System.exception.BadRequestException;
 import com.Restaurant_Management.System.exception.DuplicateEntryException;
 import com.Restaurant_Management.System.exception.EntryNotFoundException;
+import com.Restaurant_Management.System.exception.PreconditionFailedException;
+import com.Restaurant_Management.System.exception.ServiceUnavailableException;
 import com.Restaurant_Management.System.exception.UnauthorizedException;
 import com.Restaurant_Management.System.util.StandardResponseDto;
 import org.springframework.http.HttpStatus;
@@ -38,6 +40,20 @@ public class AppWideExceptionHandler {
     }
 
 
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<StandardResponseDto> handlePreconditionFailedException(PreconditionFailedException e) {
+        return new ResponseEntity<StandardResponseDto>(
+                new StandardResponseDto( 412,e.getMessage(), e),
+                HttpStatus.PRECONDITION_FAILED);
+    }
+
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<StandardResponseDto> handleServiceUnavailableException(ServiceUnavailableException e) {
+        return new ResponseEntity<StandardResponseDto>(
+                new StandardResponseDto( 503,e.getMessage(), e),
+                HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
     @ExceptionHandler(UnauthorizedException.class)
     public ResponseEntity<StandardResponseDto> handleUnauthorizedException(UnauthorizedException e) {
         return new ResponseEntity<StandardResponseDto>(
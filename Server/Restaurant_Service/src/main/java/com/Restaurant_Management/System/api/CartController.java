@@ -1,15 +1,23 @@
 package com.Restaurant_Management.System.api;
 
 
+import com.Restaurant_Management.System.dto.request.CheckoutRequestDto;
 import com.Restaurant_Management.System.dto.request.FoodCartItemRequestDto;
 import com.Restaurant_Management.System.dto.request.UpdateQuantityRequestDto;
 import com.Restaurant_Management.System.dto.request.FoodCartRequestDto;
+import com.Restaurant_Management.System.dto.response.CartResponseDto;
+import com.Restaurant_Management.System.dto.response.CheckoutResponseDto;
+import com.Restaurant_Management.System.exception.BadRequestException;
 import com.Restaurant_Management.System.service.CartService;
+import com.Restaurant_Management.System.service.CheckoutService;
 import com.Restaurant_Management.System.util.StandardResponseDto;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -19,95 +27,136 @@ import java.util.List;
 public class CartController {
 
     private final CartService cartService;
+    private final CheckoutService checkoutService;
 
     @PostMapping
     public ResponseEntity<StandardResponseDto> addToCart(
-            @RequestBody FoodCartRequestDto dto
+            @RequestBody FoodCartRequestDto dto,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
             ){
-        cartService.addToCart(dto);
-        return new ResponseEntity<>(
-                StandardResponseDto.builder()
+        long version = cartService.addToCart(dto, expectedVersion(ifMatch));
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .eTag(String.valueOf(version))
+                .body(StandardResponseDto.builder()
                         .code(201)
                         .message("  added to cart!")
                         .data(null)
-                        .build(),
-                HttpStatus.CREATED
-        );
+                        .build());
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<StandardResponseDto> getCartById( @PathVariable("id") String userId ) {
-
-        return new ResponseEntity<>(
-                StandardResponseDto.builder()
+    public ResponseEntity<StandardResponseDto> getCartById( @PathVariable("id") String userId, WebRequest request ) {
+        CartResponseDto cart = cartService.getCartByUserId(userId);
+        String eTag = String.valueOf(cart.getVersion());
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .body(StandardResponseDto.builder()
                         .code(200)
                         .message("Cart")
-                        .data(cartService.getCartByUserId(userId))
-                        .build(),
-                HttpStatus.OK
-        );
+                        .data(cart)
+                        .build());
     }
 
 
     @PostMapping("/{userId}/items")
     public ResponseEntity<StandardResponseDto> addFoodItemsToExistingCart(
             @PathVariable("userId") String userId,
-            @RequestBody List<FoodCartItemRequestDto> foodItems) {
-        cartService.addFoodItemsToExistingCart(userId, foodItems);
-        return new ResponseEntity<>(
-                StandardResponseDto.builder()
+            @RequestBody List<FoodCartItemRequestDto> foodItems,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        long version = cartService.addFoodItemsToExistingCart(userId, foodItems, expectedVersion(ifMatch));
+        return ResponseEntity.ok()
+                .eTag(String.valueOf(version))
+                .body(StandardResponseDto.builder()
                         .code(200)
                         .message("Food items added to existing cart successfully!")
                         .data(null)
-                        .build(),
-                HttpStatus.OK
-        );
+                        .build());
     }
 
     @DeleteMapping("/{userId}/{foodId}")
     public ResponseEntity<StandardResponseDto> deleteCartItem(
             @PathVariable("userId") String userId,
-            @PathVariable("foodId") String foodId) {
-        cartService.removeFromCart(userId, foodId);
-        return new ResponseEntity<>(
-                StandardResponseDto.builder()
+            @PathVariable("foodId") String foodId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        long version = cartService.removeFromCart(userId, foodId, expectedVersion(ifMatch));
+        return ResponseEntity.ok()
+                .eTag(String.valueOf(version))
+                .body(StandardResponseDto.builder()
                         .code(200)
                         .message("Item removed from cart successfully!")
                         .data(null)
-                        .build(),
-                HttpStatus.OK
-        );
+                        .build());
     }
 
     @PutMapping("/{userId}/{foodId}")
     public ResponseEntity<StandardResponseDto> updateCartItemQuantity(
             @PathVariable("userId") String userId,
             @PathVariable("foodId") String foodId,
-            @RequestBody UpdateQuantityRequestDto requestDto) {
-        cartService.updateCartItemQuantity(userId, foodId, requestDto.getQuantity(), requestDto.isIncrease());
-
-        return new ResponseEntity<>(
-                StandardResponseDto.builder()
+            @RequestBody UpdateQuantityRequestDto requestDto,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        long version = cartService.updateCartItemQuantity(
+                userId, foodId, requestDto.getQuantity(), requestDto.isIncrease(), expectedVersion(ifMatch));
+
+        return ResponseEntity.ok()
+                .eTag(String.valueOf(version))
+                .body(StandardResponseDto.builder()
                         .code(200)
                         .message("Item quantity updated successfully!")
                         .data(null)
-                        .build(),
-                HttpStatus.OK
-        );
+                        .build());
     }
 
     @DeleteMapping("/{userId}/clear")
     public ResponseEntity<StandardResponseDto> clearCart(
-            @PathVariable("userId") String userId) {
-        cartService.clearCart(userId);
-        return new ResponseEntity<>(
-                StandardResponseDto.builder()
+            @PathVariable("userId") String userId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        long version = cartService.clearCart(userId, expectedVersion(ifMatch));
+        return ResponseEntity.ok()
+                .eTag(String.valueOf(version))
+                .body(StandardResponseDto.builder()
                         .code(200)
                         .message("Cart cleared successfully!")
                         .data(null)
-                        .build(),
-                HttpStatus.OK
-        );
+                        .build());
+    }
+
+    @PostMapping("/{userId}/checkout")
+    public ResponseEntity<StandardResponseDto> checkout(
+            @PathVariable("userId") String userId,
+            @RequestBody CheckoutRequestDto dto,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        CheckoutResponseDto checkout = checkoutService.checkout(userId, dto, expectedVersion(ifMatch));
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .eTag(String.valueOf(checkout.getCartVersion()))
+                .body(StandardResponseDto.builder()
+                        .code(201)
+                        .message("Order placed successfully!")
+                        .data(checkout)
+                        .build());
+    }
+
+    // The cart ETag is its version; a missing header or "*" applies the edit unconditionally
+    private static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        tag = tag.replace("\"", "");
+        try {
+            return Long.parseLong(tag);
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("Invalid If-Match header: " + ifMatch);
+        }
     }
 
 
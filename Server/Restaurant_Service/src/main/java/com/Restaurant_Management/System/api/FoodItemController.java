@@ -2,13 +2,22 @@ package com.Restaurant_Management.System.api;
 
 import com.Restaurant_Management.System.dto.request.FoodItemsRequestDto;
 import com.Restaurant_Management.System.dto.request.RestaurantRequestDto;
+import com.Restaurant_Management.System.dto.response.MenuResponseDto;
+import com.Restaurant_Management.System.menu.FoodItemImportReader;
+import com.Restaurant_Management.System.service.FoodItemImportService;
 import com.Restaurant_Management.System.service.FoodItemService;
+import com.Restaurant_Management.System.util.CountMode;
 import com.Restaurant_Management.System.util.StandardResponseDto;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -17,6 +26,7 @@ import java.util.List;
 public class FoodItemController {
 
     private final FoodItemService foodItemService;
+    private final FoodItemImportService foodItemImportService;
 
     @PostMapping
     public ResponseEntity<StandardResponseDto> createFoodItem(
@@ -33,6 +43,25 @@ public class FoodItemController {
         );
     }
 
+    @PostMapping(value = "/import/{restaurantId}", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<StandardResponseDto> importFoodItems(
+            @PathVariable("restaurantId") String restaurantId,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body
+    ) {
+        FoodItemImportReader.Format format = MediaType.parseMediaType(contentType).isCompatibleWith(MediaType.valueOf("text/csv"))
+                ? FoodItemImportReader.Format.CSV
+                : FoodItemImportReader.Format.JSON_LINES;
+        return new ResponseEntity<>(
+                StandardResponseDto.builder()
+                        .code(200)
+                        .message("Food item import finished")
+                        .data(foodItemImportService.importFoodItems(restaurantId, body, format))
+                        .build(),
+                HttpStatus.OK
+        );
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<StandardResponseDto> getFoodItem( @PathVariable("id") String foodItemId ) {
 
@@ -50,14 +79,15 @@ public class FoodItemController {
     public ResponseEntity<StandardResponseDto> getAllFoodItem(
             @RequestParam String searchText,
             @RequestParam int page,
-            @RequestParam int size
+            @RequestParam int size,
+            @RequestParam(defaultValue = "EXACT") CountMode countMode
     ) {
 
         return new ResponseEntity<>(
                 StandardResponseDto.builder()
                         .code(200)
                         .message("Food item list")
-                        .data(foodItemService.findAllFoodItem(searchText, page, size))
+                        .data(foodItemService.findAllFoodItem(searchText, page, size, countMode))
                         .build(),
                 HttpStatus.OK
         );
@@ -92,6 +122,20 @@ public class FoodItemController {
         );
     }
 
+    @GetMapping("/prices")
+    public ResponseEntity<StandardResponseDto> getFoodItemPrices(
+            @RequestParam(required = false) List<String> ids
+    ) {
+        return new ResponseEntity<>(
+                StandardResponseDto.builder()
+                        .code(200)
+                        .message("Food item prices")
+                        .data(foodItemService.getFoodItemPrices(ids))
+                        .build(),
+                HttpStatus.OK
+        );
+    }
+
     @GetMapping("/categories")
     public  ResponseEntity<StandardResponseDto> getAllCategories(){
         return new ResponseEntity<>(
@@ -104,6 +148,76 @@ public class FoodItemController {
                 HttpStatus.OK
         );
     }
+    @GetMapping("/search")
+    public ResponseEntity<StandardResponseDto> searchFoodItems(
+            @RequestParam(required = false) String searchText,
+            @RequestParam(name = "type", required = false) List<String> types,
+            @RequestParam(name = "category", required = false) List<String> categories,
+            @RequestParam(name = "priceRange", required = false) List<String> priceRanges,
+            @RequestParam(required = false) Boolean discounted,
+            @RequestParam(required = false) Boolean available,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return new ResponseEntity<>(
+                StandardResponseDto.builder()
+                        .code(200)
+                        .message("Food item search results")
+                        .data(foodItemService.searchFoodItems(
+                                searchText, types, categories, priceRanges, discounted, available, page, size))
+                        .build(),
+                HttpStatus.OK
+        );
+    }
+
+    @GetMapping("/categories/summary")
+    public ResponseEntity<StandardResponseDto> getCategoryCounts() {
+        return new ResponseEntity<>(
+                StandardResponseDto.builder()
+                        .code(200)
+                        .message("Food categories with item counts")
+                        .data(foodItemService.getCategoryCounts())
+                        .build(),
+                HttpStatus.OK
+        );
+    }
+
+    @GetMapping("/categories/restaurant/{restaurantId}")
+    public ResponseEntity<StandardResponseDto> getCategoryCountsByRestaurant(
+            @PathVariable("restaurantId") String restaurantId
+    ) {
+        return new ResponseEntity<>(
+                StandardResponseDto.builder()
+                        .code(200)
+                        .message("Restaurant food categories with item counts")
+                        .data(foodItemService.getCategoryCountsByRestaurant(restaurantId))
+                        .build(),
+                HttpStatus.OK
+        );
+    }
+
+    @GetMapping("/menu/{restaurantId}")
+    public ResponseEntity<StandardResponseDto> getMenu(
+            @PathVariable("restaurantId") String restaurantId,
+            WebRequest request
+    ) {
+        MenuResponseDto menu = foodItemService.getMenu(restaurantId);
+        if (request.checkNotModified(menu.getVersion())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(menu.getVersion())
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(menu.getVersion())
+                .cacheControl(CacheControl.noCache())
+                .body(StandardResponseDto.builder()
+                        .code(200)
+                        .message("Restaurant menu")
+                        .data(menu)
+                        .build());
+    }
+
     @GetMapping("/{restaurantId}/{category}")
     public ResponseEntity<StandardResponseDto> getFoodItemsByRestaurantAndCategory(
             @RequestParam String searchText,
@@ -4,12 +4,20 @@ package com.Restaurant_Management.System.api;
 import com.Restaurant_Management.System.dto.request.RestaurantAvailabilityDto;
 import com.Restaurant_Management.System.dto.request.RestaurantOrderAvailabilityDto;
 import com.Restaurant_Management.System.dto.request.RestaurantRequestDto;
+import com.Restaurant_Management.System.dto.response.RestaurantResponseDto;
+import com.Restaurant_Management.System.dto.response.paginate.RestaurantResponsePaginateDto;
 import com.Restaurant_Management.System.service.RestaurantService;
+import com.Restaurant_Management.System.util.CountMode;
+import com.Restaurant_Management.System.util.ETags;
 import com.Restaurant_Management.System.util.StandardResponseDto;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDateTime;
 
 @RestController
 @RequestMapping("/api/v1/restaurants")
@@ -34,35 +42,103 @@ public class RestaurantController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<StandardResponseDto> getRestaurant( @PathVariable("id") String restaurantId ) {
-
-        return new ResponseEntity<>(
-                StandardResponseDto.builder()
+    public ResponseEntity<StandardResponseDto> getRestaurant(
+            @PathVariable("id") String restaurantId,
+            WebRequest request
+    ) {
+        RestaurantResponseDto restaurant = restaurantService.restaurantFindById(restaurantId);
+        LocalDateTime version = restaurant.getUpdatedAt() != null ? restaurant.getUpdatedAt() : restaurant.getCreatedAt();
+        String eTag = restaurant.getRestaurantId() + "-" + ETags.epochMillis(version);
+        if (request.checkNotModified(eTag, ETags.epochMillis(version))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .body(StandardResponseDto.builder()
                         .code(200)
                         .message("Restaurant data!")
-                        .data(restaurantService.restaurantFindById(restaurantId))
-                        .build(),
-                HttpStatus.OK
-        );
+                        .data(restaurant)
+                        .build());
     }
 
     @GetMapping("/list")
     public ResponseEntity<StandardResponseDto> getAllRestaurant(
             @RequestParam String searchText,
             @RequestParam int page,
-            @RequestParam int size
+            @RequestParam int size,
+            @RequestParam(defaultValue = "EXACT") CountMode countMode,
+            @RequestParam(defaultValue = "false") boolean openNow,
+            WebRequest request
     ) {
+        RestaurantResponsePaginateDto restaurants = restaurantService.findAllRestaurant(searchText, page, size, countMode, openNow);
+        String eTag = pageETag(restaurants);
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .body(StandardResponseDto.builder()
+                        .code(200)
+                        .message("Restaurant  List ")
+                        .data(restaurants)
+                        .build());
+    }
 
+    private static String pageETag(RestaurantResponsePaginateDto restaurants) {
+        // Every change to a restaurant stamps updatedAt, so ids and versions identify the page content
+        StringBuilder content = new StringBuilder()
+                .append(restaurants.getDataCount()).append('|')
+                .append(restaurants.isHasNext()).append('\n');
+        restaurants.getDataList().forEach(restaurant -> content
+                .append(restaurant.getRestaurantId()).append('|')
+                .append(ETags.epochMillis(restaurant.getUpdatedAt())).append('\n'));
+        return ETags.hash(content);
+    }
+
+    @GetMapping("/suggest")
+    public ResponseEntity<StandardResponseDto> suggest(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
         return new ResponseEntity<>(
                 StandardResponseDto.builder()
                         .code(200)
-                        .message("Restaurant  List ")
-                        .data( restaurantService.findAllRestaurant(searchText, page, size))
+                        .message("Search suggestions")
+                        .data(restaurantService.suggest(prefix, limit))
                         .build(),
                 HttpStatus.OK
         );
     }
 
+    @GetMapping("/nearby")
+    public ResponseEntity<StandardResponseDto> getNearbyRestaurants(
+            @RequestParam double latitude,
+            @RequestParam double longitude,
+            @RequestParam(defaultValue = "5") double radiusKm,
+            @RequestParam(required = false) Boolean availability,
+            @RequestParam(required = false) Boolean orderAvailability,
+            @RequestParam(defaultValue = "false") boolean openNow,
+            @RequestParam(defaultValue = "0") double ratingWeight,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        return new ResponseEntity<>(
+                StandardResponseDto.builder()
+                        .code(200)
+                        .message("Nearby restaurants")
+                        .data(restaurantService.findNearbyRestaurants(
+                                latitude, longitude, radiusKm, availability, orderAvailability, openNow, ratingWeight, limit))
+                        .build(),
+                HttpStatus.OK
+        );
+    }
 
     @GetMapping("/by-name/{name}")
     public ResponseEntity<StandardResponseDto> getRestaurantIdByName(@PathVariable("name") String restaurantName) {
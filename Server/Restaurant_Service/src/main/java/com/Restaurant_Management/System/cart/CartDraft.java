@@ -0,0 +1,63 @@
+package com.Restaurant_Management.System.cart;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Working copy of a cart handed to a {@link CartStore#update} mutation. Changes only become
+ * visible if the mutation returns normally.
+ *
+ * The total is adjusted by the difference each change makes to one line, so it costs the same
+ * however many lines the cart holds.
+ */
+public class CartDraft {
+
+    private final Map<String, CartLine> lines = new LinkedHashMap<>();
+    private long totalCents;
+
+    CartDraft(CartSnapshot snapshot) {
+        snapshot.lines().forEach(line -> lines.put(line.foodItemId(), line));
+        totalCents = snapshot.totalCents();
+    }
+
+    public CartLine line(String foodItemId) {
+        return lines.get(foodItemId);
+    }
+
+    public Collection<CartLine> lines() {
+        return Collections.unmodifiableCollection(lines.values());
+    }
+
+    public long totalCents() {
+        return totalCents;
+    }
+
+    /**
+     * Adds the line, or its quantity to the line already holding the same food item.
+     */
+    public void add(CartLine line) {
+        CartLine existing = lines.get(line.foodItemId());
+        replace(line.foodItemId(), existing == null ? line : existing.withQuantity(existing.quantity() + line.quantity()));
+    }
+
+    public void put(CartLine line) {
+        replace(line.foodItemId(), line);
+    }
+
+    public CartLine remove(String foodItemId) {
+        return replace(foodItemId, null);
+    }
+
+    public void clear() {
+        lines.clear();
+        totalCents = 0;
+    }
+
+    private CartLine replace(String foodItemId, CartLine line) {
+        CartLine previous = line == null ? lines.remove(foodItemId) : lines.put(foodItemId, line);
+        totalCents += (line == null ? 0 : line.lineTotalCents()) - (previous == null ? 0 : previous.lineTotalCents());
+        return previous;
+    }
+}
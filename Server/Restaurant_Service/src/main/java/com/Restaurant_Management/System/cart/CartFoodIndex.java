@@ -0,0 +1,73 @@
+package com.Restaurant_Management.System.cart;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reverse index from food items and restaurants to the users whose in-memory carts hold them,
+ * so a menu change touches only the affected carts. It may briefly list a user whose cart no
+ * longer holds the item, never the other way round.
+ */
+class CartFoodIndex {
+
+    private final Map<String, Set<String>> usersByFoodItem = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> usersByRestaurant = new ConcurrentHashMap<>();
+
+    /**
+     * Call before the new lines become visible.
+     */
+    void add(String userId, List<CartLine> lines) {
+        for (CartLine line : lines) {
+            add(usersByFoodItem, line.foodItemId(), userId);
+            if (line.restaurantId() != null) {
+                add(usersByRestaurant, line.restaurantId(), userId);
+            }
+        }
+    }
+
+    /**
+     * Call after the new lines are visible, with the lines the cart held before.
+     */
+    void removeDropped(String userId, List<CartLine> previous, List<CartLine> current) {
+        Set<String> foodItems = new HashSet<>();
+        Set<String> restaurants = new HashSet<>();
+        for (CartLine line : current) {
+            foodItems.add(line.foodItemId());
+            restaurants.add(line.restaurantId());
+        }
+        for (CartLine line : previous) {
+            if (!foodItems.contains(line.foodItemId())) {
+                remove(usersByFoodItem, line.foodItemId(), userId);
+            }
+            if (line.restaurantId() != null && !restaurants.contains(line.restaurantId())) {
+                remove(usersByRestaurant, line.restaurantId(), userId);
+            }
+        }
+    }
+
+    Set<String> usersOfFoodItem(String foodItemId) {
+        return Set.copyOf(usersByFoodItem.getOrDefault(foodItemId, Set.of()));
+    }
+
+    Set<String> usersOfRestaurant(String restaurantId) {
+        return Set.copyOf(usersByRestaurant.getOrDefault(restaurantId, Set.of()));
+    }
+
+    private static void add(Map<String, Set<String>> index, String key, String userId) {
+        index.compute(key, (k, users) -> {
+            Set<String> updated = users == null ? ConcurrentHashMap.newKeySet() : users;
+            updated.add(userId);
+            return updated;
+        });
+    }
+
+    private static void remove(Map<String, Set<String>> index, String key, String userId) {
+        index.computeIfPresent(key, (k, users) -> {
+            users.remove(userId);
+            return users.isEmpty() ? null : users;
+        });
+    }
+}
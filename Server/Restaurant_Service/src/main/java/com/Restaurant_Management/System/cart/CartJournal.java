@@ -0,0 +1,162 @@
+package com.Restaurant_Management.System.cart;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Local append log of cart snapshots that have not reached the database yet, one JSON line per
+ * change, so carts edited since the last flush survive a restart.
+ *
+ * The log is split into numbered segments. A flush first {@link #rotate() rotates} to a new
+ * segment; once everything dirty at that point is persisted the sealed segments are
+ * {@link #discardSealed() discarded}. Replay keeps the last snapshot per user, so segments are
+ * read oldest first and a torn final line is skipped.
+ */
+@Slf4j
+@Component
+public class CartJournal {
+
+    private static final String PREFIX = "cart-journal-";
+    private static final String SUFFIX = ".log";
+
+    private final Path directory;
+    private final ObjectMapper objectMapper;
+    private final List<Path> sealed = new ArrayList<>();
+
+    private long sequence;
+    private Path current;
+    private BufferedWriter writer;
+    private boolean currentEmpty = true;
+
+    public CartJournal(@Value("${restaurant.cart.journal-dir:data/cart-journal}") String directory,
+                       ObjectMapper objectMapper) {
+        this.directory = Paths.get(directory);
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Reads every segment left by a previous run and starts a new one. Returns the latest
+     * snapshot per user; the old segments stay sealed until the next successful flush.
+     */
+    public synchronized Collection<CartSnapshot> recover() throws IOException {
+        Files.createDirectories(directory);
+        Map<String, CartSnapshot> latest = new LinkedHashMap<>();
+        for (Path segment : segments()) {
+            try (BufferedReader reader = Files.newBufferedReader(segment, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    try {
+                        CartSnapshot snapshot = objectMapper.readValue(line, CartSnapshot.class);
+                        latest.put(snapshot.userId(), snapshot);
+                    } catch (JsonProcessingException e) {
+                        log.warn("Skipping unreadable cart journal entry in {}", segment.getFileName());
+                    }
+                }
+            }
+            sealed.add(segment);
+            sequence = Math.max(sequence, sequenceOf(segment) + 1);
+        }
+        open();
+        return latest.values();
+    }
+
+    /**
+     * Appends the snapshot to the current segment. Returns false if it could not be written.
+     */
+    public synchronized boolean append(CartSnapshot snapshot) {
+        if (writer == null) {
+            return false;
+        }
+        try {
+            writer.write(objectMapper.writeValueAsString(snapshot));
+            writer.newLine();
+            writer.flush();
+            currentEmpty = false;
+            return true;
+        } catch (IOException e) {
+            log.error("Failed to journal cart of user {}: {}", snapshot.userId(), e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Seals the current segment and starts appending to a new one.
+     */
+    public synchronized void rotate() {
+        if (writer == null || currentEmpty) {
+            return;
+        }
+        try {
+            writer.close();
+            sealed.add(current);
+            open();
+        } catch (IOException e) {
+            log.error("Failed to rotate cart journal: {}", e.getMessage());
+        }
+    }
+
+    public synchronized void discardSealed() {
+        for (Path segment : sealed) {
+            try {
+                Files.deleteIfExists(segment);
+            } catch (IOException e) {
+                log.warn("Failed to delete cart journal segment {}: {}", segment.getFileName(), e.getMessage());
+            }
+        }
+        sealed.clear();
+    }
+
+    @PreDestroy
+    public synchronized void close() throws IOException {
+        if (writer != null) {
+            writer.close();
+            writer = null;
+        }
+    }
+
+    private void open() throws IOException {
+        current = directory.resolve(String.format("%s%019d%s", PREFIX, sequence++, SUFFIX));
+        writer = Files.newBufferedWriter(current, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        currentEmpty = true;
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(file -> {
+                        String name = file.getFileName().toString();
+                        return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static long sequenceOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+    }
+}
@@ -0,0 +1,24 @@
+package com.Restaurant_Management.System.cart;
+
+/**
+ * One food item in a cart, with the details shown on the cart captured when it was added.
+ * {@code price} is the list price and {@code discount} the percentage taken off it. A line
+ * whose food item has been made unavailable stays in the cart but adds nothing to the total.
+ */
+public record CartLine(String foodItemId, String foodName, String foodImage,
+                       String restaurantId, String restaurantName, double price, int discount,
+                       boolean unavailable, int quantity) {
+
+    public CartLine withQuantity(int quantity) {
+        return new CartLine(foodItemId, foodName, foodImage, restaurantId, restaurantName, price, discount,
+                unavailable, quantity);
+    }
+
+    public long unitPriceCents() {
+        return CartPricing.unitPriceCents(price, discount);
+    }
+
+    public long lineTotalCents() {
+        return unavailable ? 0 : unitPriceCents() * quantity;
+    }
+}
@@ -0,0 +1,154 @@
+package com.Restaurant_Management.System.cart;
+
+import com.Restaurant_Management.System.entity.Cart;
+import com.Restaurant_Management.System.entity.CartItems;
+import com.Restaurant_Management.System.entity.FoodItem;
+import com.Restaurant_Management.System.menu.FoodItemCache;
+import com.Restaurant_Management.System.repo.CartRepo;
+import com.Restaurant_Management.System.repo.FoodItemRepo;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Moves carts between {@link CartSnapshot}s and the {@code cart}/{@code cartItems} tables.
+ */
+@Component
+@RequiredArgsConstructor
+public class CartPersister {
+
+    private final CartRepo cartRepo;
+    private final FoodItemRepo foodItemRepo;
+    private final FoodItemCache foodItemCache;
+
+    /**
+     * Loads the user's cart. Duplicate carts left by earlier racing writes are removed, keeping
+     * the most edited one.
+     */
+    @Transactional
+    public Optional<CartSnapshot> load(String userId) {
+        List<Cart> carts = cartRepo.findAllByUserIdOrderByRevisionDescCreatedAtDesc(userId);
+        if (carts.isEmpty()) {
+            return Optional.empty();
+        }
+        if (carts.size() > 1) {
+            cartRepo.deleteAll(carts.subList(1, carts.size()));
+        }
+
+        Cart cart = carts.get(0);
+        List<CartLine> lines = cart.getCartItems().stream()
+                .filter(item -> item.getFoodItem() != null)
+                .map(CartPersister::toCartLine)
+                .toList();
+        LocalDateTime updatedAt = cart.getUpdatedAt() != null ? cart.getUpdatedAt() : cart.getCreatedAt();
+        return Optional.of(new CartSnapshot(cart.getCartId(), cart.getUserId(), cart.getCreatedAt(), updatedAt,
+                cart.getRevision(), lines, CartPricing.totalCents(lines), false));
+    }
+
+    /**
+     * Writes the snapshot over the stored cart, reusing item rows for food items still in it.
+     * Lines whose food item no longer exists are dropped.
+     *
+     * The stored cart is only replaced by a later revision. If it is already at the snapshot's
+     * revision or beyond, another instance saved it from its own copy of the cart, and
+     * {@link StaleCartException} is thrown rather than losing that write.
+     */
+    @Transactional
+    public void persist(CartSnapshot snapshot) {
+        Optional<Cart> stored = cartRepo.findById(snapshot.cartId());
+        if (stored.isPresent() && stored.get().getRevision() >= snapshot.version()) {
+            Cart storedCart = stored.get();
+            if (!snapshot.deleted() && storedCart.getRevision() == snapshot.version()
+                    && Objects.equals(storedCart.getUpdatedAt(), snapshot.updatedAt())) {
+                // This snapshot was already stored
+                return;
+            }
+            throw new StaleCartException("Cart " + snapshot.cartId() + " is stored at revision "
+                    + storedCart.getRevision() + ", not older than " + snapshot.version());
+        }
+        if (snapshot.deleted()) {
+            stored.ifPresent(cartRepo::delete);
+            return;
+        }
+
+        Cart cart = stored.orElseGet(() -> Cart.builder()
+                .cartId(snapshot.cartId())
+                .userId(snapshot.userId())
+                .createdAt(snapshot.createdAt())
+                .cartItems(new ArrayList<>())
+                .build());
+
+        Set<String> existingFoodItems = foodItemCache.getAll(
+                snapshot.lines().stream().map(CartLine::foodItemId).toList()).keySet();
+        Map<String, CartItems> existing = cart.getCartItems().stream()
+                .filter(item -> item.getFoodItem() != null)
+                .collect(Collectors.toMap(item -> item.getFoodItem().getFoodItemId(), Function.identity(), (a, b) -> a));
+
+        List<CartItems> items = new ArrayList<>(snapshot.lines().size());
+        for (CartLine line : snapshot.lines()) {
+            if (!existingFoodItems.contains(line.foodItemId())) {
+                continue;
+            }
+            CartItems item = existing.get(line.foodItemId());
+            if (item == null) {
+                item = CartItems.builder()
+                        .id(UUID.randomUUID().toString())
+                        .foodItem(foodItemRepo.getReferenceById(line.foodItemId()))
+                        .foodCart(cart)
+                        .build();
+            }
+            item.setFoodName(line.foodName());
+            item.setFoodImage(line.foodImage());
+            item.setRestaurantId(line.restaurantId());
+            item.setRestaurantName(line.restaurantName());
+            item.setQuantity(line.quantity());
+            items.add(item);
+        }
+
+        // Replace the contents in place so orphan removal deletes the dropped rows
+        cart.getCartItems().clear();
+        cart.getCartItems().addAll(items);
+        cart.setTotalPrice(snapshot.totalPrice());
+        cart.setRevision(snapshot.version());
+        cart.setUpdatedAt(snapshot.updatedAt());
+        cartRepo.save(cart);
+    }
+
+    /**
+     * Deletes those of the carts that are still unchanged since the cutoff and returns their users.
+     */
+    @Transactional
+    public List<String> deleteIdle(Collection<String> cartIds, LocalDateTime cutoff) {
+        List<Cart> idle = cartRepo.findAllById(cartIds).stream()
+                .filter(cart -> cart.getUpdatedAt() != null && cart.getUpdatedAt().isBefore(cutoff))
+                .toList();
+        cartRepo.deleteAll(idle);
+        return idle.stream().map(Cart::getUserId).toList();
+    }
+
+    private static CartLine toCartLine(CartItems item) {
+        FoodItem foodItem = item.getFoodItem();
+        return new CartLine(
+                foodItem.getFoodItemId(),
+                foodItem.getName(),
+                foodItem.getImageUrl(),
+                foodItem.getRestaurant().getRestaurantId(),
+                foodItem.getRestaurant().getRestaurantName(),
+                foodItem.getPrice(),
+                foodItem.getDiscount(),
+                !foodItem.isAvailable(),
+                item.getQuantity());
+    }
+}
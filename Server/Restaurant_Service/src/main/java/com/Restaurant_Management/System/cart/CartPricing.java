@@ -0,0 +1,38 @@
+package com.Restaurant_Management.System.cart;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Collection;
+
+/**
+ * Cart prices in integer minor units (cents), so totals kept incrementally never drift from a
+ * full recompute. A discount is a whole percentage taken off the unit price, rounded half up
+ * to the cent.
+ */
+public final class CartPricing {
+
+    private CartPricing() {
+    }
+
+    public static long toCents(double amount) {
+        return BigDecimal.valueOf(amount).movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+
+    public static double toAmount(long cents) {
+        return BigDecimal.valueOf(cents).movePointLeft(2).doubleValue();
+    }
+
+    public static long unitPriceCents(double price, int discount) {
+        long cents = toCents(price);
+        int percent = Math.min(100, Math.max(0, discount));
+        return cents - (cents * percent + 50) / 100;
+    }
+
+    public static long totalCents(Collection<CartLine> lines) {
+        long total = 0;
+        for (CartLine line : lines) {
+            total += line.lineTotalCents();
+        }
+        return total;
+    }
+}
@@ -0,0 +1,27 @@
+package com.Restaurant_Management.System.cart;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Immutable state of one user's cart. The store swaps whole snapshots, so readers never see a
+ * cart half way through an edit. A deleted snapshot stands in for a removed cart until the
+ * removal is persisted.
+ *
+ * {@code totalCents} is carried forward by each edit rather than summed from the lines.
+ */
+public record CartSnapshot(String cartId, String userId, LocalDateTime createdAt, LocalDateTime updatedAt,
+                           long version, List<CartLine> lines, long totalCents, boolean deleted) {
+
+    public CartSnapshot {
+        lines = List.copyOf(lines);
+    }
+
+    public double totalPrice() {
+        return CartPricing.toAmount(totalCents);
+    }
+
+    CartSnapshot withRecomputedTotal() {
+        return new CartSnapshot(cartId, userId, createdAt, updatedAt, version, lines, CartPricing.totalCents(lines), deleted);
+    }
+}
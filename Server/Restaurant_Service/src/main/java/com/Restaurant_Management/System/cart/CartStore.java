@@ -0,0 +1,422 @@
+package com.Restaurant_Management.System.cart;
+
+import com.Restaurant_Management.System.event.FoodItemChangedEvent;
+import com.Restaurant_Management.System.event.RestaurantChangedEvent;
+import com.Restaurant_Management.System.exception.PreconditionFailedException;
+import com.Restaurant_Management.System.menu.CachedFoodItem;
+import com.Restaurant_Management.System.menu.FoodItemCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Source of truth for active carts. Each user's cart is held as an immutable
+ * {@link CartSnapshot}; reads are a map lookup and edits of one user are serialized by a lock
+ * stripe, so users on different stripes never wait for each other.
+ *
+ * Every edit is appended to the {@link CartJournal} and marks the cart dirty. Dirty carts are
+ * written to the database in the background every {@code restaurant.cart.flush-millis}, and
+ * clean carts idle for {@code restaurant.cart.idle-evict-millis} are dropped from memory and
+ * reloaded from the database on next use.
+ *
+ * A menu change marks only the carts holding the changed item, found through a
+ * {@link CartFoodIndex}. Those lines are repriced from the {@link FoodItemCache} on the cart's
+ * next read or edit; lines of deleted items are dropped.
+ *
+ * Carts live in this instance's memory, so a user's cart requests must reach the same instance.
+ * If they do not, the copies are fenced by revision: a flush that finds a stored cart at the
+ * same or a later revision drops this instance's copy, which is reloaded on next use, and the
+ * edits made to it are lost rather than overwriting the other instance's.
+ */
+@Slf4j
+@Component
+public class CartStore {
+
+    private static final int MAX_PERSIST_ATTEMPTS = 3;
+
+    private final CartPersister persister;
+    private final CartJournal journal;
+    private final FoodItemCache foodItemCache;
+    private final long idleEvictMillis;
+
+    private final Map<String, CartSnapshot> carts = new ConcurrentHashMap<>();
+    private final Set<String> dirty = ConcurrentHashMap.newKeySet();
+    private final Map<String, Set<String>> staleFoodItems = new ConcurrentHashMap<>();
+    private final CartFoodIndex foodIndex = new CartFoodIndex();
+    private final Object[] locks;
+    private final Object flushLock = new Object();
+    private final Counter persistFailures;
+    private final Counter staleCopies;
+    private final Counter repriced;
+
+    public CartStore(CartPersister persister,
+                     CartJournal journal,
+                     FoodItemCache foodItemCache,
+                     MeterRegistry meterRegistry,
+                     @Value("${restaurant.cart.lock-stripes:64}") int lockStripes,
+                     @Value("${restaurant.cart.idle-evict-millis:1800000}") long idleEvictMillis) {
+        this.persister = persister;
+        this.journal = journal;
+        this.foodItemCache = foodItemCache;
+        this.idleEvictMillis = idleEvictMillis;
+        int stripes = Integer.highestOneBit(Math.max(1, lockStripes - 1)) << 1;
+        this.locks = new Object[stripes];
+        for (int i = 0; i < stripes; i++) {
+            locks[i] = new Object();
+        }
+        this.persistFailures = meterRegistry.counter("cart.store.persist.failures");
+        this.staleCopies = meterRegistry.counter("cart.store.stale.copies");
+        this.repriced = meterRegistry.counter("cart.store.repriced");
+        Gauge.builder("cart.store.size", carts, Map::size).register(meterRegistry);
+        Gauge.builder("cart.store.dirty", dirty, Set::size).register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void recover() throws IOException {
+        int recovered = 0;
+        for (CartSnapshot journaled : journal.recover()) {
+            CartSnapshot snapshot = journaled.withRecomputedTotal();
+            foodIndex.add(snapshot.userId(), snapshot.lines());
+            carts.put(snapshot.userId(), snapshot);
+            dirty.add(snapshot.userId());
+            recovered++;
+        }
+        if (recovered > 0) {
+            log.info("Recovered {} unsaved carts from the journal", recovered);
+        }
+    }
+
+    public Optional<CartSnapshot> get(String userId) {
+        CartSnapshot snapshot = carts.get(userId);
+        if (snapshot == null || staleFoodItems.containsKey(userId)) {
+            StaleItems staleItems = resolveStale(userId);
+            synchronized (lockFor(userId)) {
+                snapshot = repriceLocked(loadLocked(userId), staleItems);
+            }
+        }
+        return snapshot == null || snapshot.deleted() ? Optional.empty() : Optional.of(snapshot);
+    }
+
+    public Optional<CartSnapshot> update(String userId, boolean create, Consumer<CartDraft> mutation) {
+        return update(userId, create, null, mutation);
+    }
+
+    /**
+     * Applies the mutation to the user's cart and returns the new snapshot, or empty if the user
+     * has no cart and {@code create} is false. If the mutation throws, the cart is unchanged.
+     *
+     * Edits of one user never interleave. When {@code expectedVersion} is given the edit is only
+     * applied to that version of the cart, so a client editing from a stale view is refused
+     * instead of overwriting changes it has not seen.
+     */
+    public Optional<CartSnapshot> update(String userId, boolean create, Long expectedVersion, Consumer<CartDraft> mutation) {
+        StaleItems staleItems = resolveStale(userId);
+        synchronized (lockFor(userId)) {
+            CartSnapshot current = repriceLocked(loadLocked(userId), staleItems);
+            boolean exists = current != null && !current.deleted();
+            if (expectedVersion != null && (!exists || current.version() != expectedVersion)) {
+                throw new PreconditionFailedException("Cart has changed since version " + expectedVersion);
+            }
+            if (!exists) {
+                if (!create) {
+                    return Optional.empty();
+                }
+                LocalDateTime now = LocalDateTime.now();
+                current = new CartSnapshot(UUID.randomUUID().toString(), userId, now, now,
+                        current == null ? 0 : current.version(), List.of(), 0, false);
+            }
+
+            CartDraft draft = new CartDraft(current);
+            mutation.accept(draft);
+            CartSnapshot updated = new CartSnapshot(current.cartId(), userId, current.createdAt(), LocalDateTime.now(),
+                    current.version() + 1, new ArrayList<>(draft.lines()), draft.totalCents(), false);
+            commitLocked(current, updated);
+            return Optional.of(updated);
+        }
+    }
+
+    /**
+     * Removes the user's cart. Returns false if there was none.
+     */
+    public boolean delete(String userId) {
+        synchronized (lockFor(userId)) {
+            CartSnapshot current = loadLocked(userId);
+            if (current == null || current.deleted()) {
+                return false;
+            }
+            commitLocked(current, new CartSnapshot(current.cartId(), userId, current.createdAt(), LocalDateTime.now(),
+                    current.version() + 1, List.of(), 0, true));
+            return true;
+        }
+    }
+
+    /**
+     * Writes the user's cart to the database now, e.g. before it is checked out.
+     */
+    public void persist(String userId) {
+        synchronized (flushLock) {
+            if (dirty.remove(userId)) {
+                persistOrRequeue(userId, true);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${restaurant.cart.flush-millis:1000}")
+    @PreDestroy
+    public void flush() {
+        synchronized (flushLock) {
+            journal.rotate();
+            boolean allJournaled = true;
+            for (String userId : List.copyOf(dirty)) {
+                if (dirty.remove(userId) && !persistOrRequeue(userId, false)) {
+                    // Carry the unsaved cart over to the current segment, so a cart that keeps
+                    // failing does not hold back the sealed segments of every other cart
+                    allJournaled &= rejournal(userId);
+                }
+            }
+            if (allJournaled) {
+                journal.discardSealed();
+            }
+            evictIdle();
+        }
+    }
+
+    /**
+     * Drops the user's cart from memory if it has not been edited since the cutoff, after the
+     * sweeper removed it from the database. A cart edited meanwhile is kept and its next flush
+     * stores it again.
+     */
+    public void evictIfIdle(String userId, LocalDateTime cutoff) {
+        CartSnapshot snapshot = carts.get(userId);
+        if (snapshot != null && snapshot.updatedAt().isBefore(cutoff)) {
+            evict(userId, snapshot);
+        }
+    }
+
+    @EventListener
+    public void onFoodItemChanged(FoodItemChangedEvent event) {
+        String foodItemId = event.foodItem().getFoodItemId();
+        foodIndex.usersOfFoodItem(foodItemId).forEach(userId -> markStale(userId, foodItemId));
+    }
+
+    @EventListener
+    public void onRestaurantChanged(RestaurantChangedEvent event) {
+        String restaurantId = event.restaurant().getRestaurantId();
+        for (String userId : foodIndex.usersOfRestaurant(restaurantId)) {
+            CartSnapshot snapshot = carts.get(userId);
+            if (snapshot != null) {
+                snapshot.lines().stream()
+                        .filter(line -> restaurantId.equals(line.restaurantId()))
+                        .forEach(line -> markStale(userId, line.foodItemId()));
+            }
+        }
+    }
+
+    /**
+     * Reprices the given lines of the user's cart on its next read or edit, for a change that
+     * happened before the lines were committed and so did not find the cart.
+     */
+    public void markStale(String userId, Collection<String> foodItemIds) {
+        foodItemIds.forEach(foodItemId -> markStale(userId, foodItemId));
+    }
+
+    /**
+     * True if the user's cart was edited in memory after the cutoff or is waiting to be flushed.
+     */
+    public boolean isActiveSince(String userId, LocalDateTime cutoff) {
+        CartSnapshot snapshot = carts.get(userId);
+        return dirty.contains(userId) || (snapshot != null && !snapshot.updatedAt().isBefore(cutoff));
+    }
+
+    private boolean persistOrRequeue(String userId, boolean rethrow) {
+        CartSnapshot snapshot = carts.get(userId);
+        if (snapshot == null) {
+            return true;
+        }
+        try {
+            persistWithRetry(snapshot);
+            if (snapshot.deleted()) {
+                carts.remove(userId, snapshot);
+            }
+            return true;
+        } catch (StaleCartException e) {
+            staleCopies.increment();
+            log.warn("Dropping cart of user {} as another instance stored a newer one: {}", userId, e.getMessage());
+            dropStale(userId, snapshot);
+            return true;
+        } catch (RuntimeException e) {
+            persistFailures.increment();
+            dirty.add(userId);
+            log.warn("Failed to persist cart of user {}: {}", userId, e.getMessage());
+            if (rethrow) {
+                throw e;
+            }
+            return false;
+        }
+    }
+
+    private boolean rejournal(String userId) {
+        // Under the user's lock, so a concurrent edit cannot be journaled before this older snapshot
+        synchronized (lockFor(userId)) {
+            CartSnapshot snapshot = carts.get(userId);
+            return snapshot == null || journal.append(snapshot);
+        }
+    }
+
+    private void persistWithRetry(CartSnapshot snapshot) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                persister.persist(snapshot);
+                return;
+            } catch (OptimisticLockingFailureException e) {
+                // Another writer saved the row in between; the next attempt rereads it and is
+                // refused if that write was a newer revision
+                if (attempt == MAX_PERSIST_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private void evictIdle() {
+        LocalDateTime cutoff = LocalDateTime.now().minusNanos(idleEvictMillis * 1_000_000);
+        carts.forEach((userId, snapshot) -> {
+            if (!dirty.contains(userId) && snapshot.updatedAt().isBefore(cutoff)) {
+                evict(userId, snapshot);
+            }
+        });
+    }
+
+    private void evict(String userId, CartSnapshot snapshot) {
+        synchronized (lockFor(userId)) {
+            // Only succeeds if the cart has not been edited since it was read
+            if (!dirty.contains(userId) && carts.remove(userId, snapshot)) {
+                foodIndex.removeDropped(userId, snapshot.lines(), List.of());
+                staleFoodItems.remove(userId);
+            }
+        }
+    }
+
+    // Forgets the copy so the next use reloads the stored cart; a later edit of it stays dirty
+    // and is checked against the stored revision again on the next flush
+    private void dropStale(String userId, CartSnapshot snapshot) {
+        synchronized (lockFor(userId)) {
+            if (carts.remove(userId, snapshot)) {
+                foodIndex.removeDropped(userId, snapshot.lines(), List.of());
+                staleFoodItems.remove(userId);
+            }
+        }
+    }
+
+    private void markStale(String userId, String foodItemId) {
+        staleFoodItems.compute(userId, (id, foodItemIds) -> {
+            Set<String> updated = foodItemIds == null ? ConcurrentHashMap.newKeySet() : foodItemIds;
+            updated.add(foodItemId);
+            return updated;
+        });
+    }
+
+    // Looked up before the cart is locked, so a cache miss never holds a stripe
+    private StaleItems resolveStale(String userId) {
+        Set<String> foodItemIds = staleFoodItems.get(userId);
+        if (foodItemIds == null) {
+            return null;
+        }
+        Set<String> ids = Set.copyOf(foodItemIds);
+        return new StaleItems(ids, foodItemCache.getAll(ids));
+    }
+
+    private CartSnapshot repriceLocked(CartSnapshot current, StaleItems staleItems) {
+        if (staleItems == null || current == null) {
+            return current;
+        }
+        staleFoodItems.computeIfPresent(current.userId(), (id, foodItemIds) -> {
+            foodItemIds.removeAll(staleItems.foodItemIds());
+            return foodItemIds.isEmpty() ? null : foodItemIds;
+        });
+        if (current.deleted()) {
+            return current;
+        }
+
+        CartDraft draft = new CartDraft(current);
+        boolean changed = false;
+        for (String foodItemId : staleItems.foodItemIds()) {
+            CartLine line = draft.line(foodItemId);
+            if (line == null) {
+                continue;
+            }
+            CachedFoodItem foodItem = staleItems.foodItems().get(foodItemId);
+            CartLine updated = foodItem == null ? null : new CartLine(foodItemId, foodItem.name(), foodItem.imageUrl(),
+                    foodItem.restaurantId(), foodItem.restaurantName(), foodItem.price(), foodItem.discount(),
+                    !foodItem.available(), line.quantity());
+            if (updated == null) {
+                draft.remove(foodItemId);
+                changed = true;
+            } else if (!updated.equals(line)) {
+                draft.put(updated);
+                changed = true;
+            }
+        }
+        if (!changed) {
+            return current;
+        }
+
+        // Repricing is not user activity, so the last edit time is kept
+        CartSnapshot repricedCart = new CartSnapshot(current.cartId(), current.userId(), current.createdAt(),
+                current.updatedAt(), current.version() + 1, new ArrayList<>(draft.lines()), draft.totalCents(), false);
+        commitLocked(current, repricedCart);
+        repriced.increment();
+        return repricedCart;
+    }
+
+    private CartSnapshot loadLocked(String userId) {
+        CartSnapshot snapshot = carts.get(userId);
+        if (snapshot == null) {
+            snapshot = persister.load(userId).orElse(null);
+            // A cart read from the database already has current prices
+            staleFoodItems.remove(userId);
+            if (snapshot != null) {
+                foodIndex.add(userId, snapshot.lines());
+                carts.put(userId, snapshot);
+            }
+        }
+        return snapshot;
+    }
+
+    private void commitLocked(CartSnapshot previous, CartSnapshot snapshot) {
+        foodIndex.add(snapshot.userId(), snapshot.lines());
+        carts.put(snapshot.userId(), snapshot);
+        foodIndex.removeDropped(snapshot.userId(), previous == null ? List.of() : previous.lines(), snapshot.lines());
+        // Mark dirty before journaling so a concurrent flush cannot discard the entry unpersisted
+        dirty.add(snapshot.userId());
+        journal.append(snapshot);
+    }
+
+    private Object lockFor(String userId) {
+        int hash = userId.hashCode();
+        return locks[(hash ^ (hash >>> 16)) & (locks.length - 1)];
+    }
+
+    private record StaleItems(Set<String> foodItemIds, Map<String, CachedFoodItem> foodItems) {
+    }
+}
@@ -0,0 +1,125 @@
+package com.Restaurant_Management.System.cart;
+
+import com.Restaurant_Management.System.repo.CartRepo;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Deletes carts nobody has edited for {@code restaurant.cart.ttl-millis}.
+ *
+ * Each run pages through idle carts on the {@code updated_at} index in batches of
+ * {@code restaurant.cart.sweep-batch-size}, pausing {@code restaurant.cart.sweep-throttle-millis}
+ * between batches and stopping after {@code restaurant.cart.sweep-max-batches}. It takes no
+ * cart locks: carts active in the {@link CartStore} are skipped, and a row is only deleted if
+ * it is still unchanged since the cutoff, so a cart edited mid-sweep simply survives.
+ *
+ * Swept carts are counted as {@code cart.sweeper.swept}; {@code cart.live} is the number of
+ * stored carts after the last run.
+ */
+@Slf4j
+@Component
+public class CartSweeper {
+
+    private static final LocalDateTime START = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final CartRepo cartRepo;
+    private final CartPersister persister;
+    private final CartStore cartStore;
+    private final long ttlMillis;
+    private final int batchSize;
+    private final long throttleMillis;
+    private final int maxBatches;
+    private final Counter swept;
+    private final AtomicLong liveCarts = new AtomicLong();
+
+    public CartSweeper(CartRepo cartRepo,
+                       CartPersister persister,
+                       CartStore cartStore,
+                       MeterRegistry meterRegistry,
+                       @Value("${restaurant.cart.ttl-millis:604800000}") long ttlMillis,
+                       @Value("${restaurant.cart.sweep-batch-size:100}") int batchSize,
+                       @Value("${restaurant.cart.sweep-throttle-millis:200}") long throttleMillis,
+                       @Value("${restaurant.cart.sweep-max-batches:50}") int maxBatches) {
+        this.cartRepo = cartRepo;
+        this.persister = persister;
+        this.cartStore = cartStore;
+        this.ttlMillis = ttlMillis;
+        this.batchSize = batchSize;
+        this.throttleMillis = throttleMillis;
+        this.maxBatches = maxBatches;
+        this.swept = meterRegistry.counter("cart.sweeper.swept");
+        Gauge.builder("cart.live", liveCarts, AtomicLong::get).register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        // Carts saved before updated_at existed count as last edited when created
+        int updated = cartRepo.backfillUpdatedAt();
+        if (updated > 0) {
+            log.info("Backfilled updated_at for {} carts", updated);
+        }
+        // Carts saved before the version column existed start at version 0
+        int versioned = cartRepo.backfillVersion();
+        if (versioned > 0) {
+            log.info("Backfilled version for {} carts", versioned);
+        }
+        liveCarts.set(cartRepo.count());
+    }
+
+    @Scheduled(fixedDelayString = "${restaurant.cart.sweep-millis:300000}",
+            initialDelayString = "${restaurant.cart.sweep-millis:300000}")
+    public void sweep() {
+        LocalDateTime cutoff = LocalDateTime.now().minusNanos(ttlMillis * 1_000_000);
+        LocalDateTime afterUpdatedAt = START;
+        String afterCartId = "";
+        long total = 0;
+
+        for (int batch = 0; batch < maxBatches; batch++) {
+            List<IdleCart> idle = cartRepo.findIdleCarts(cutoff, afterUpdatedAt, afterCartId, PageRequest.of(0, batchSize));
+            if (idle.isEmpty()) {
+                break;
+            }
+            IdleCart last = idle.get(idle.size() - 1);
+            afterUpdatedAt = last.updatedAt();
+            afterCartId = last.cartId();
+
+            List<String> cartIds = idle.stream()
+                    .filter(cart -> !cartStore.isActiveSince(cart.userId(), cutoff))
+                    .map(IdleCart::cartId)
+                    .toList();
+            if (!cartIds.isEmpty()) {
+                List<String> users = persister.deleteIdle(cartIds, cutoff);
+                users.forEach(userId -> cartStore.evictIfIdle(userId, cutoff));
+                swept.increment(users.size());
+                total += users.size();
+            }
+
+            if (idle.size() < batchSize) {
+                break;
+            }
+            try {
+                Thread.sleep(throttleMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        liveCarts.set(cartRepo.count());
+        if (total > 0) {
+            log.info("Swept {} abandoned carts", total);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.Restaurant_Management.System.cart;
+
+import java.time.LocalDateTime;
+
+/**
+ * A stored cart found by the sweeper, without its items.
+ */
+public record IdleCart(String cartId, String userId, LocalDateTime updatedAt) {
+}
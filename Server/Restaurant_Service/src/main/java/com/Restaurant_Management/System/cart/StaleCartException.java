@@ -0,0 +1,11 @@
+package com.Restaurant_Management.System.cart;
+
+/**
+ * Thrown when a cart is written over a stored cart that is at the same or a later revision,
+ * i.e. one that another instance saved from its own copy.
+ */
+public class StaleCartException extends RuntimeException {
+    public StaleCartException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,80 @@
+package com.Restaurant_Management.System.checkout;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClient;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Places and cancels orders in Order_Service.
+ */
+@Component
+public class OrderClient {
+
+    private static final String ORDERS_URL = "http://order/api/v1/orders";
+
+    private final RestClient restClient;
+
+    public OrderClient(RestClient.Builder loadBalancedRestClientBuilder,
+                       @Value("${restaurant.checkout.order-timeout-millis:5000}") int timeoutMillis) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(timeoutMillis);
+        requestFactory.setReadTimeout(timeoutMillis);
+        this.restClient = loadBalancedRestClientBuilder.requestFactory(requestFactory).build();
+    }
+
+    /**
+     * Places the order. Repeating a call with the same idempotency key returns the order the
+     * first call placed, so a call whose outcome is unknown can safely be made again.
+     */
+    public PlacedOrder place(OrderRequest order, String idempotencyKey) {
+        return restClient.post()
+                .uri(ORDERS_URL)
+                .header("Idempotency-Key", idempotencyKey)
+                .body(order)
+                .retrieve()
+                .body(PlacedOrder.class);
+    }
+
+    /**
+     * Finds the order placed with the idempotency key, without placing one. Empty if no
+     * request with the key has created an order.
+     */
+    public Optional<PlacedOrder> findPlaced(String userId, String restaurantId, String idempotencyKey) {
+        try {
+            return Optional.ofNullable(restClient.get()
+                    .uri(ORDERS_URL + "/idempotency-key?userId={userId}&restaurantId={restaurantId}", userId, restaurantId)
+                    .header("Idempotency-Key", idempotencyKey)
+                    .retrieve()
+                    .body(PlacedOrder.class));
+        } catch (HttpClientErrorException.NotFound e) {
+            return Optional.empty();
+        }
+    }
+
+    public void cancel(Long orderId) {
+        restClient.patch()
+                .uri(ORDERS_URL + "/{orderId}/status", orderId)
+                .body(Map.of("status", "CANCELLED"))
+                .retrieve()
+                .toBodilessEntity();
+    }
+
+    public record OrderRequest(String userId, String restaurantId, String deliveryAddress, Double latitude,
+                               Double longitude, String contactPhone, BigDecimal deliveryFee, BigDecimal tax,
+                               List<OrderItemRequest> orderItems) {
+    }
+
+    public record OrderItemRequest(String menuItemId, String itemName, int quantity, BigDecimal unitPrice,
+                                   BigDecimal totalPrice) {
+    }
+
+    public record PlacedOrder(Long orderId, String restaurantId, BigDecimal totalAmount) {
+    }
+}
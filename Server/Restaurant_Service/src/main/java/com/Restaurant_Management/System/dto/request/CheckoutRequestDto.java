@@ -0,0 +1,23 @@
+package com.Restaurant_Management.System.dto.request;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+
+/**
+ * Delivery details for a checkout. A cart holding items of several restaurants becomes one
+ * order per restaurant, and the delivery fee and tax apply to each of them.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class CheckoutRequestDto {
+    private String deliveryAddress;
+    private Double latitude;
+    private Double longitude;
+    private String contactPhone;
+    private BigDecimal deliveryFee;
+    private BigDecimal tax;
+}
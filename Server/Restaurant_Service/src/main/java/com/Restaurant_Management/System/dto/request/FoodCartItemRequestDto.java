@@ -16,5 +16,7 @@ public class FoodCartItemRequestDto {
     private String restaurantId;
     private String restaurantName;
     private double price;
+    private int discount;
+    private boolean available;
     private int quantity;
 }
@@ -17,6 +17,7 @@ public class CartResponseDto {
     private List<FoodCartItemRequestDto> cartItems;
     private double totalPrice;
     private LocalDateTime createdAt;
+    private long version;
 
 
 }
@@ -0,0 +1,16 @@
+package com.Restaurant_Management.System.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CategoryCountResponseDto {
+
+    private String category;
+    private int itemCount;
+}
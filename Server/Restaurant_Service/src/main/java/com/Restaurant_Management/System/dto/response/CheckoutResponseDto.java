@@ -0,0 +1,20 @@
+package com.Restaurant_Management.System.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CheckoutResponseDto {
+
+    private List<Long> orderIds;
+    private BigDecimal totalAmount;
+    private long cartVersion;
+}
@@ -0,0 +1,20 @@
+package com.Restaurant_Management.System.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class FoodItemImportResponseDto {
+
+    private long imported;
+    private long failed;
+    private List<FoodItemImportErrorDto> errors;
+    private boolean errorsTruncated;
+}
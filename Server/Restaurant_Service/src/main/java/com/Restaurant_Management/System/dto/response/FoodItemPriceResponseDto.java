@@ -0,0 +1,21 @@
+package com.Restaurant_Management.System.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
+
+@Data
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+public class FoodItemPriceResponseDto {
+
+    private String foodItemId;
+    private String restaurantId;
+    private double price;
+    private int discount;
+    private boolean available;
+}
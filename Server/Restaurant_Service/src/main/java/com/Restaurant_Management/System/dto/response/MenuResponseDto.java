@@ -0,0 +1,20 @@
+package com.Restaurant_Management.System.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class MenuResponseDto {
+
+    private String restaurantId;
+    private String version;
+    private Map<String, List<FoodItemResponseDto>> categories;
+}
@@ -0,0 +1,43 @@
+package com.Restaurant_Management.System.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * Restaurant card used by list endpoints. Selected directly by the repository, so contact details
+ * and the owner are never loaded and description holds only the first
+ * {@link #DESCRIPTION_EXCERPT_LENGTH} characters.
+ */
+@Data
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+public class RestaurantSummaryResponseDto {
+
+    public static final int DESCRIPTION_EXCERPT_LENGTH = 160;
+
+    private String restaurantId;
+    private String restaurantName;
+    private String restaurantAddress;
+    private String restaurantType;
+    private String city;
+    private boolean availability;
+    private boolean orderAvailability;
+    private double rating;
+    private LocalTime openingTime;
+    private LocalTime closingTime;
+    private String description;
+    private boolean active;
+    private String imageUrl;
+    private String coverImageUrl;
+    private Double latitude;
+    private Double longitude;
+    private LocalDateTime updatedAt;
+}
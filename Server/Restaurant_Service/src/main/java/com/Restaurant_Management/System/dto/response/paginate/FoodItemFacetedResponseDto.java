@@ -0,0 +1,18 @@
+package com.Restaurant_Management.System.dto.response.paginate;
+
+import com.Restaurant_Management.System.dto.response.FoodItemResponseDto;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+public class FoodItemFacetedResponseDto {
+
+    private long dataCount;
+    private boolean hasNext;
+    private List<FoodItemResponseDto> dataList;
+    private Map<String, Map<String, Integer>> facets;
+}
@@ -15,6 +15,7 @@ import java.util.List;
 @Builder
 public class FoodItemResponsePaginateDto {
 
-    private long dataCount;
+    private Long dataCount;
+    private boolean hasNext;
     private List<FoodItemResponseDto> dataList;
 }
@@ -1,6 +1,6 @@
 package com.Restaurant_Management.System.dto.response.paginate;
 
-import com.Restaurant_Management.System.dto.response.RestaurantResponseDto;
+import com.Restaurant_Management.System.dto.response.RestaurantSummaryResponseDto;
 import lombok.Builder;
 import lombok.Data;
 import lombok.Getter;
@@ -13,6 +13,7 @@ import java.util.List;
 @Setter
 @Builder
 public class RestaurantResponsePaginateDto {
-    private long dataCount;
-    private List<RestaurantResponseDto> dataList;
+    private Long dataCount;
+    private boolean hasNext;
+    private List<RestaurantSummaryResponseDto> dataList;
 }
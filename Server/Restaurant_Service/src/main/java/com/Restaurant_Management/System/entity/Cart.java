@@ -9,6 +9,10 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity(name = "cart")
+@Table(name = "cart", indexes = {
+        @Index(name = "idx_cart_user_id", columnList = "user_id"),
+        @Index(name = "idx_cart_updated_at", columnList = "updated_at")
+})
 @AllArgsConstructor
 @NoArgsConstructor
 @Getter
@@ -19,6 +23,7 @@ public class Cart {
     @Id
     private String cartId;
 
+    @Column(name = "user_id")
     private String userId;
 
 
@@ -28,5 +33,15 @@ public class Cart {
     private double totalPrice;
     private LocalDateTime createdAt;
 
+    // Last edit of the cart, used to expire abandoned carts
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // Edit count of the in-memory cart, so versions seen by clients survive a reload
+    private long revision;
+
+    @Version
+    private Long version;
+
 
 }
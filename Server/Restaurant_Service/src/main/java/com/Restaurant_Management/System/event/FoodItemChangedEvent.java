@@ -0,0 +1,9 @@
+package com.Restaurant_Management.System.event;
+
+import com.Restaurant_Management.System.entity.FoodItem;
+
+/**
+ * Published inside the service whenever a food item is saved, updated or deleted.
+ */
+public record FoodItemChangedEvent(FoodItem foodItem, boolean deleted) {
+}
@@ -0,0 +1,17 @@
+package com.Restaurant_Management.System.event;
+
+import com.Restaurant_Management.System.entity.FoodItem;
+
+import java.util.List;
+
+/**
+ * Published once per stored batch of a bulk import, in place of a {@link FoodItemChangedEvent}
+ * per row. The items are new, so nothing holds an older copy of them: they are not sent to the
+ * menu price topic, as Order_Service fetches prices it has not cached, and carts cannot hold them.
+ */
+public record FoodItemsImportedEvent(List<FoodItem> foodItems) {
+
+    public FoodItemsImportedEvent {
+        foodItems = List.copyOf(foodItems);
+    }
+}
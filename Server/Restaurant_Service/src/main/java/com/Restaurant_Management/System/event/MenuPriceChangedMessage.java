@@ -0,0 +1,18 @@
+package com.Restaurant_Management.System.event;
+
+import lombok.*;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+@Builder
+public class MenuPriceChangedMessage {
+    private String foodItemId;
+    private String restaurantId;
+    private double price;
+    private int discount;
+    private boolean available;
+    private boolean deleted;
+}
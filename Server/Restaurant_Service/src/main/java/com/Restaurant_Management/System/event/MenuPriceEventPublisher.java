@@ -0,0 +1,47 @@
+package com.Restaurant_Management.System.event;
+
+import com.Restaurant_Management.System.entity.FoodItem;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Forwards food item changes to the menu price topic so other services can keep their
+ * price caches current.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MenuPriceEventPublisher {
+
+    public static final String MENU_PRICE_TOPIC = "menu-price-changes";
+
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+
+    @EventListener
+    public void onFoodItemChanged(FoodItemChangedEvent event) {
+        FoodItem foodItem = event.foodItem();
+        MenuPriceChangedMessage message = MenuPriceChangedMessage.builder()
+                .foodItemId(foodItem.getFoodItemId())
+                .restaurantId(foodItem.getRestaurant().getRestaurantId())
+                .price(foodItem.getPrice())
+                .discount(foodItem.getDiscount())
+                .available(foodItem.isAvailable())
+                .deleted(event.deleted())
+                .build();
+
+        // Consumers also refresh in bulk, so a lost message only delays the update
+        try {
+            kafkaTemplate.send(MENU_PRICE_TOPIC, message.getFoodItemId(), message)
+                    .whenComplete((result, ex) -> {
+                        if (ex != null) {
+                            log.warn("Failed to publish price change for food item {}", message.getFoodItemId(), ex);
+                        }
+                    });
+        } catch (RuntimeException ex) {
+            log.warn("Failed to publish price change for food item {}", message.getFoodItemId(), ex);
+        }
+    }
+}
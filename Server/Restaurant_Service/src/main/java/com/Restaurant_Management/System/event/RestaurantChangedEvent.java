@@ -0,0 +1,9 @@
+package com.Restaurant_Management.System.event;
+
+import com.Restaurant_Management.System.entity.Restaurant;
+
+/**
+ * Published inside the service whenever a restaurant is saved, updated or deleted.
+ */
+public record RestaurantChangedEvent(Restaurant restaurant, boolean deleted) {
+}
@@ -0,0 +1,8 @@
+package com.Restaurant_Management.System.menu;
+
+/**
+ * The fields of a food item that carts and pricing need, without the entity graph.
+ */
+public record CachedFoodItem(String foodItemId, String name, String imageUrl, String restaurantId,
+                             String restaurantName, double price, int discount, boolean available) {
+}
@@ -0,0 +1,179 @@
+package com.Restaurant_Management.System.menu;
+
+import com.Restaurant_Management.System.entity.FoodItem;
+import com.Restaurant_Management.System.event.FoodItemChangedEvent;
+import com.Restaurant_Management.System.event.FoodItemsImportedEvent;
+import com.Restaurant_Management.System.event.RestaurantChangedEvent;
+import com.Restaurant_Management.System.repo.FoodItemRepo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Food categories with item counts, overall and per restaurant, kept in memory.
+ *
+ * Writes adjust the counts for the one item that changed and republish immutable lists for the
+ * affected scopes, so reads are a map lookup. Categories compare case-insensitively, matching
+ * the database collation that {@code SELECT DISTINCT} relied on.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryCatalog {
+
+    private final FoodItemRepo foodItemRepo;
+
+    private final Map<String, Placement> placements = new HashMap<>();
+    private final Map<String, Integer> counts = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    private final Map<String, Map<String, Integer>> restaurantCounts = new HashMap<>();
+
+    private volatile List<CategoryCount> categories = List.of();
+    private final Map<String, List<CategoryCount>> restaurantCategories = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        placements.clear();
+        counts.clear();
+        restaurantCounts.clear();
+        restaurantCategories.clear();
+        for (FoodItem foodItem : foodItemRepo.findAllWithRestaurant()) {
+            add(foodItem.getFoodItemId(), new Placement(foodItem.getCategory(), foodItem.getRestaurant().getRestaurantId()));
+        }
+        categories = snapshot(counts);
+        restaurantCounts.forEach((restaurantId, perRestaurant) ->
+                restaurantCategories.put(restaurantId, snapshot(perRestaurant)));
+        ready = true;
+        log.info("Category catalog built with {} categories", counts.size());
+    }
+
+    @EventListener
+    public synchronized void onFoodItemChanged(FoodItemChangedEvent event) {
+        if (!ready) {
+            return;
+        }
+        FoodItem foodItem = event.foodItem();
+        Placement previous = remove(foodItem.getFoodItemId());
+        Placement current = null;
+        if (!event.deleted()) {
+            current = new Placement(foodItem.getCategory(), foodItem.getRestaurant().getRestaurantId());
+            add(foodItem.getFoodItemId(), current);
+        }
+
+        categories = snapshot(counts);
+        if (previous != null) {
+            publish(previous.restaurantId());
+        }
+        if (current != null && (previous == null || !current.restaurantId().equals(previous.restaurantId()))) {
+            publish(current.restaurantId());
+        }
+    }
+
+    @EventListener
+    public synchronized void onFoodItemsImported(FoodItemsImportedEvent event) {
+        if (!ready) {
+            return;
+        }
+        Set<String> restaurantIds = new HashSet<>();
+        for (FoodItem foodItem : event.foodItems()) {
+            String restaurantId = foodItem.getRestaurant().getRestaurantId();
+            add(foodItem.getFoodItemId(), new Placement(foodItem.getCategory(), restaurantId));
+            restaurantIds.add(restaurantId);
+        }
+        categories = snapshot(counts);
+        restaurantIds.forEach(this::publish);
+    }
+
+    @EventListener
+    public synchronized void onRestaurantChanged(RestaurantChangedEvent event) {
+        if (!ready || !event.deleted()) {
+            return;
+        }
+        // The restaurant's food items are removed by cascade without their own events
+        String restaurantId = event.restaurant().getRestaurantId();
+        List<String> foodItemIds = new ArrayList<>();
+        placements.forEach((foodItemId, placement) -> {
+            if (placement.restaurantId().equals(restaurantId)) {
+                foodItemIds.add(foodItemId);
+            }
+        });
+        foodItemIds.forEach(this::remove);
+        categories = snapshot(counts);
+        publish(restaurantId);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public List<CategoryCount> getCategories() {
+        return categories;
+    }
+
+    public List<CategoryCount> getCategories(String restaurantId) {
+        return restaurantCategories.getOrDefault(restaurantId, List.of());
+    }
+
+    private void add(String foodItemId, Placement placement) {
+        placements.put(foodItemId, placement);
+        if (placement.category() == null) {
+            return;
+        }
+        counts.merge(placement.category(), 1, Integer::sum);
+        restaurantCounts
+                .computeIfAbsent(placement.restaurantId(), id -> new TreeMap<>(String.CASE_INSENSITIVE_ORDER))
+                .merge(placement.category(), 1, Integer::sum);
+    }
+
+    private Placement remove(String foodItemId) {
+        Placement placement = placements.remove(foodItemId);
+        if (placement == null || placement.category() == null) {
+            return placement;
+        }
+        decrement(counts, placement.category());
+        Map<String, Integer> perRestaurant = restaurantCounts.get(placement.restaurantId());
+        if (perRestaurant != null) {
+            decrement(perRestaurant, placement.category());
+            if (perRestaurant.isEmpty()) {
+                restaurantCounts.remove(placement.restaurantId());
+            }
+        }
+        return placement;
+    }
+
+    private void publish(String restaurantId) {
+        Map<String, Integer> perRestaurant = restaurantCounts.get(restaurantId);
+        if (perRestaurant == null) {
+            restaurantCategories.remove(restaurantId);
+        } else {
+            restaurantCategories.put(restaurantId, snapshot(perRestaurant));
+        }
+    }
+
+    private static void decrement(Map<String, Integer> target, String category) {
+        target.computeIfPresent(category, (key, count) -> count == 1 ? null : count - 1);
+    }
+
+    private static List<CategoryCount> snapshot(Map<String, Integer> source) {
+        List<CategoryCount> snapshot = new ArrayList<>(source.size());
+        source.forEach((category, count) -> snapshot.add(new CategoryCount(category, count)));
+        return List.copyOf(snapshot);
+    }
+
+    public record CategoryCount(String category, int itemCount) {
+    }
+
+    private record Placement(String category, String restaurantId) {
+    }
+}
@@ -0,0 +1,122 @@
+package com.Restaurant_Management.System.menu;
+
+import com.Restaurant_Management.System.entity.FoodItem;
+import com.Restaurant_Management.System.event.FoodItemChangedEvent;
+import com.Restaurant_Management.System.event.RestaurantChangedEvent;
+import com.Restaurant_Management.System.repo.FoodItemRepo;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Read-through cache of {@link CachedFoodItem}s by id. All misses of one lookup are loaded with
+ * a single query, and entries are replaced or dropped by the food item and restaurant change
+ * events so they never outlive the row they came from.
+ *
+ * Every change event bumps a counter before touching the entries. A lookup that loaded rows
+ * while the counter moved drops what it stored, since the rows may predate the change and the
+ * event may already have passed over the empty entry.
+ *
+ * Once {@code restaurant.food-cache.max-entries} items are cached, further misses are served
+ * from the database without being kept.
+ */
+@Component
+public class FoodItemCache {
+
+    private final FoodItemRepo foodItemRepo;
+    private final int maxEntries;
+    private final Map<String, CachedFoodItem> items = new ConcurrentHashMap<>();
+    private final AtomicLong changes = new AtomicLong();
+    private final Counter hits;
+    private final Counter misses;
+
+    public FoodItemCache(FoodItemRepo foodItemRepo,
+                         MeterRegistry meterRegistry,
+                         @Value("${restaurant.food-cache.max-entries:50000}") int maxEntries) {
+        this.foodItemRepo = foodItemRepo;
+        this.maxEntries = maxEntries;
+        this.hits = meterRegistry.counter("food.cache.lookups", "result", "hit");
+        this.misses = meterRegistry.counter("food.cache.lookups", "result", "miss");
+        Gauge.builder("food.cache.size", items, Map::size).register(meterRegistry);
+    }
+
+    /**
+     * Returns the cached items for the ids that exist, keyed by id.
+     */
+    public Map<String, CachedFoodItem> getAll(Collection<String> foodItemIds) {
+        Map<String, CachedFoodItem> found = new HashMap<>();
+        Set<String> missing = new LinkedHashSet<>();
+        for (String id : foodItemIds) {
+            CachedFoodItem item = items.get(id);
+            if (item != null) {
+                found.put(id, item);
+            } else {
+                missing.add(id);
+            }
+        }
+        hits.increment(found.size());
+        if (missing.isEmpty()) {
+            return found;
+        }
+
+        misses.increment(missing.size());
+        long changesBeforeLoad = changes.get();
+        List<CachedFoodItem> loaded = foodItemRepo.findCachedFoodItemsByIds(missing);
+        for (CachedFoodItem item : loaded) {
+            found.put(item.foodItemId(), item);
+            if (items.size() < maxEntries) {
+                items.put(item.foodItemId(), item);
+            }
+        }
+        if (changes.get() != changesBeforeLoad) {
+            // Leaves entries an event has replaced since; they are newer than the loaded rows
+            loaded.forEach(item -> items.remove(item.foodItemId(), item));
+        }
+        return found;
+    }
+
+    // Runs before other listeners, so carts reading the cache after a change see the new entry
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener
+    public void onFoodItemChanged(FoodItemChangedEvent event) {
+        FoodItem foodItem = event.foodItem();
+        changes.incrementAndGet();
+        if (event.deleted() || foodItem.getRestaurant() == null) {
+            items.remove(foodItem.getFoodItemId());
+        } else {
+            // Only refresh entries already cached; others are loaded on first use
+            items.computeIfPresent(foodItem.getFoodItemId(), (id, previous) -> new CachedFoodItem(
+                    id,
+                    foodItem.getName(),
+                    foodItem.getImageUrl(),
+                    foodItem.getRestaurant().getRestaurantId(),
+                    foodItem.getRestaurant().getRestaurantName(),
+                    foodItem.getPrice(),
+                    foodItem.getDiscount(),
+                    foodItem.isAvailable()));
+        }
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener
+    public void onRestaurantChanged(RestaurantChangedEvent event) {
+        // Renames and deletes both invalidate the restaurant's items
+        String restaurantId = event.restaurant().getRestaurantId();
+        changes.incrementAndGet();
+        items.values().removeIf(item -> item.restaurantId().equals(restaurantId));
+    }
+}
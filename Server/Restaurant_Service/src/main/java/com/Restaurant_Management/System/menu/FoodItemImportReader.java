@@ -0,0 +1,168 @@
+package com.Restaurant_Management.System.menu;
+
+import com.Restaurant_Management.System.dto.request.FoodItemsRequestDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Reads food item rows one line at a time from CSV (with a header row) or JSON lines, so an
+ * import holds a single row in memory regardless of file size.
+ *
+ * CSV fields may be quoted with {@code "}, doubling quotes inside, but a record must stay on
+ * one line. Column names match {@link FoodItemsRequestDto} properties case-insensitively; the
+ * restaurant comes from the import request rather than the rows.
+ */
+public class FoodItemImportReader implements Closeable {
+
+    public enum Format {
+        CSV, JSON_LINES
+    }
+
+    private static final List<String> COLUMNS =
+            List.of("name", "type", "category", "price", "discount", "imageurl", "description", "available");
+
+    private final BufferedReader reader;
+    private final Format format;
+    private final ObjectMapper objectMapper;
+    private Map<String, Integer> columnIndexes;
+    private long lineNumber;
+
+    public FoodItemImportReader(Reader reader, Format format, ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(reader);
+        this.format = format;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Returns the next non-blank row, or null at the end of input. A row that cannot be parsed
+     * is returned with an error instead of an item.
+     */
+    public Row next() throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            if (format == Format.CSV && columnIndexes == null) {
+                columnIndexes = readHeader(line);
+                continue;
+            }
+            try {
+                FoodItemsRequestDto item = format == Format.CSV ? parseCsv(line) : parseJson(line);
+                return new Row(lineNumber, item, null);
+            } catch (IllegalArgumentException e) {
+                return new Row(lineNumber, null, e.getMessage());
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private Map<String, Integer> readHeader(String line) {
+        List<String> header = splitCsv(line);
+        Map<String, Integer> indexes = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String column = header.get(i).trim().toLowerCase(Locale.ROOT);
+            if (COLUMNS.contains(column)) {
+                indexes.put(column, i);
+            }
+        }
+        if (!indexes.containsKey("name") || !indexes.containsKey("price")) {
+            throw new IllegalArgumentException("CSV header must include name and price columns");
+        }
+        return indexes;
+    }
+
+    private FoodItemsRequestDto parseCsv(String line) {
+        List<String> fields = splitCsv(line);
+        FoodItemsRequestDto item = new FoodItemsRequestDto();
+        item.setName(field(fields, "name"));
+        item.setType(field(fields, "type"));
+        item.setCategory(field(fields, "category"));
+        item.setImageUrl(field(fields, "imageurl"));
+        item.setDescription(field(fields, "description"));
+
+        String price = field(fields, "price");
+        String discount = field(fields, "discount");
+        String available = field(fields, "available");
+        try {
+            item.setPrice(price == null ? 0 : Double.parseDouble(price));
+            item.setDiscount(discount == null ? 0 : Integer.parseInt(discount));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid number: " + e.getMessage());
+        }
+        item.setAvailable(available == null || Boolean.parseBoolean(available));
+        return item;
+    }
+
+    private FoodItemsRequestDto parseJson(String line) {
+        FoodItemsRequestDto item;
+        try {
+            item = objectMapper.readValue(line, FoodItemsRequestDto.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid JSON: " + e.getOriginalMessage());
+        }
+        if (item == null) {
+            throw new IllegalArgumentException("Row must be a JSON object");
+        }
+        return item;
+    }
+
+    private String field(List<String> fields, String column) {
+        Integer index = columnIndexes.get(column);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    public record Row(long lineNumber, FoodItemsRequestDto item, String error) {
+    }
+}
@@ -0,0 +1,82 @@
+package com.Restaurant_Management.System.menu;
+
+import com.Restaurant_Management.System.dto.response.FoodItemResponseDto;
+import com.Restaurant_Management.System.util.ETags;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable view of one restaurant's menu, grouped by category.
+ *
+ * The version is a hash of the menu content, so every instance derives the same ETag for the
+ * same menu and a restart does not invalidate client caches.
+ */
+public final class MenuSnapshot {
+
+    private final String restaurantId;
+    private final String version;
+    private final Map<String, List<FoodItemResponseDto>> categories;
+
+    private MenuSnapshot(String restaurantId, String version, Map<String, List<FoodItemResponseDto>> categories) {
+        this.restaurantId = restaurantId;
+        this.version = version;
+        this.categories = categories;
+    }
+
+    public static MenuSnapshot of(String restaurantId, List<FoodItemResponseDto> items) {
+        Map<String, List<FoodItemResponseDto>> grouped = items.stream()
+                .sorted(Comparator.comparing(FoodItemResponseDto::getName, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER))
+                        .thenComparing(FoodItemResponseDto::getFoodItemId))
+                .collect(Collectors.groupingBy(
+                        item -> item.getCategory() == null ? "" : item.getCategory(),
+                        () -> new TreeMap<>(String.CASE_INSENSITIVE_ORDER),
+                        Collectors.toUnmodifiableList()));
+        Map<String, List<FoodItemResponseDto>> categories = Collections.unmodifiableMap(new LinkedHashMap<>(grouped));
+        return new MenuSnapshot(restaurantId, versionOf(categories), categories);
+    }
+
+    public String getRestaurantId() {
+        return restaurantId;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public Map<String, List<FoodItemResponseDto>> getCategories() {
+        return categories;
+    }
+
+    /**
+     * Items whose category contains the given text, ignoring case, in menu order.
+     */
+    public List<FoodItemResponseDto> itemsInCategoriesMatching(String category) {
+        String needle = category == null ? "" : category.toLowerCase();
+        return categories.entrySet().stream()
+                .filter(entry -> entry.getKey().toLowerCase().contains(needle))
+                .flatMap(entry -> entry.getValue().stream())
+                .toList();
+    }
+
+    private static String versionOf(Map<String, List<FoodItemResponseDto>> categories) {
+        StringBuilder content = new StringBuilder();
+        categories.values().forEach(items -> items.forEach(item -> content
+                .append(item.getFoodItemId()).append('|')
+                .append(item.getName()).append('|')
+                .append(item.getType()).append('|')
+                .append(item.getCategory()).append('|')
+                .append(item.getPrice()).append('|')
+                .append(item.getDiscount()).append('|')
+                .append(item.getImageUrl()).append('|')
+                .append(item.getDescription()).append('|')
+                .append(item.isAvailable()).append('|')
+                .append(item.getRestaurantName()).append('\n')));
+        return ETags.hash(content);
+    }
+}
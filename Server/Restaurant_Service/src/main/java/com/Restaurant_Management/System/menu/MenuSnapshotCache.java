@@ -0,0 +1,67 @@
+package com.Restaurant_Management.System.menu;
+
+import com.Restaurant_Management.System.event.RestaurantChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Holds one {@link MenuSnapshot} per restaurant. Menus are built on first request and rebuilt
+ * by the write paths, which replace the cached snapshot in a single map update so readers see
+ * either the old or the new menu, never a mix.
+ *
+ * Lookups are counted as {@code menu.snapshot.lookups} tagged {@code result=hit|miss}.
+ */
+@Component
+public class MenuSnapshotCache {
+
+    private final Map<String, MenuSnapshot> snapshots = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter rebuilds;
+
+    public MenuSnapshotCache(MeterRegistry meterRegistry) {
+        this.hits = meterRegistry.counter("menu.snapshot.lookups", "result", "hit");
+        this.misses = meterRegistry.counter("menu.snapshot.lookups", "result", "miss");
+        this.rebuilds = meterRegistry.counter("menu.snapshot.rebuilds");
+        Gauge.builder("menu.snapshot.size", snapshots, Map::size).register(meterRegistry);
+    }
+
+    public MenuSnapshot get(String restaurantId, Function<String, MenuSnapshot> loader) {
+        MenuSnapshot snapshot = snapshots.get(restaurantId);
+        if (snapshot != null) {
+            hits.increment();
+            return snapshot;
+        }
+        misses.increment();
+        // Concurrent misses for one restaurant wait for a single load
+        return snapshots.computeIfAbsent(restaurantId, loader);
+    }
+
+    /**
+     * Rebuilds the restaurant's snapshot if it is cached; uncached menus are built on next read.
+     */
+    public void refresh(String restaurantId, Function<String, MenuSnapshot> loader) {
+        snapshots.computeIfPresent(restaurantId, (id, previous) -> {
+            rebuilds.increment();
+            return loader.apply(id);
+        });
+    }
+
+    public void evict(String restaurantId) {
+        snapshots.remove(restaurantId);
+    }
+
+    @EventListener
+    public void onRestaurantChanged(RestaurantChangedEvent event) {
+        if (event.deleted()) {
+            evict(event.restaurant().getRestaurantId());
+        }
+    }
+}
@@ -1,13 +1,16 @@
 package com.Restaurant_Management.System.repo;
 
+import com.Restaurant_Management.System.cart.IdleCart;
 import com.Restaurant_Management.System.dto.request.FoodCartItemRequestDto;
 import com.Restaurant_Management.System.entity.Cart;
 import com.Restaurant_Management.System.entity.FoodItem;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,6 +22,28 @@ public interface CartRepo extends JpaRepository<Cart, String> {
     @Query(value = "SELECT * FROM cart WHERE user_id = ?1", nativeQuery = true)
     Optional<Cart> findCartByUserId(String userId);
 
+    List<Cart> findAllByUserIdOrderByRevisionDescCreatedAtDesc(String userId);
+
+    /**
+     * Carts last edited before the cutoff, in (updatedAt, cartId) order after the given position,
+     * so a sweep can page through them on the updated_at index.
+     */
+    @Query("SELECT new com.Restaurant_Management.System.cart.IdleCart(c.cartId, c.userId, c.updatedAt) FROM cart c " +
+            "WHERE c.updatedAt < ?1 AND (c.updatedAt > ?2 OR (c.updatedAt = ?2 AND c.cartId > ?3)) " +
+            "ORDER BY c.updatedAt, c.cartId")
+    List<IdleCart> findIdleCarts(LocalDateTime cutoff, LocalDateTime afterUpdatedAt, String afterCartId, Pageable pageable);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE cart c SET c.updatedAt = c.createdAt WHERE c.updatedAt IS NULL")
+    int backfillUpdatedAt();
+
+    // Hibernate treats a null @Version as a new entity, so such rows could never be saved again
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE cart SET version = 0 WHERE version IS NULL", nativeQuery = true)
+    int backfillVersion();
+
     @Query(value = "SELECT * FROM cart WHERE username LIKE %?1%", nativeQuery = true)
     Optional<Cart> findCartByUsername(String username);
 
@@ -0,0 +1,42 @@
+package com.Restaurant_Management.System.repo;
+
+import com.Restaurant_Management.System.entity.FoodItem;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * Inserts food items with JDBC batches, bypassing the persistence context for bulk imports.
+ */
+@Repository
+@RequiredArgsConstructor
+public class FoodItemBatchWriter {
+
+    private static final String INSERT_SQL = "INSERT INTO food_items " +
+            "(food_item_id, items_name, type, category, price, discount, image_url, description, available, " +
+            "created_at, restaurant_name, restaurant_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional
+    public void insertAll(List<FoodItem> foodItems) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, foodItems, foodItems.size(), (statement, foodItem) -> {
+            statement.setString(1, foodItem.getFoodItemId());
+            statement.setString(2, foodItem.getName());
+            statement.setString(3, foodItem.getType());
+            statement.setString(4, foodItem.getCategory());
+            statement.setDouble(5, foodItem.getPrice());
+            statement.setInt(6, foodItem.getDiscount());
+            statement.setString(7, foodItem.getImageUrl());
+            statement.setString(8, foodItem.getDescription());
+            statement.setBoolean(9, foodItem.isAvailable());
+            statement.setTimestamp(10, Timestamp.valueOf(foodItem.getCreatedAt()));
+            statement.setString(11, foodItem.getRestaurantName());
+            statement.setString(12, foodItem.getRestaurant().getRestaurantId());
+        });
+    }
+}
@@ -1,18 +1,21 @@
 package com.Restaurant_Management.System.repo;
 
+import com.Restaurant_Management.System.dto.response.FoodItemPriceResponseDto;
 import com.Restaurant_Management.System.entity.FoodItem;
 import com.Restaurant_Management.System.entity.Restaurant;
-import org.springframework.data.domain.Page;
+import com.Restaurant_Management.System.menu.CachedFoodItem;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface FoodItemRepo extends JpaRepository<FoodItem, String> {
     @Query(nativeQuery = true,value = "SELECT * FROM food_items WHERE items_name LIKE %?1% OR category LIKE %?1%")
-    public Page<FoodItem> findAllFoodItem(String searchText, Pageable pageable);
+    public Slice<FoodItem> findAllFoodItem(String searchText, Pageable pageable);
 
     Optional<FoodItem> findFoodItemByFoodItemId(String id);
 
@@ -23,16 +26,24 @@ public interface FoodItemRepo extends JpaRepository<FoodItem, String> {
     @Query(value = "SELECT DISTINCT category FROM food_items", nativeQuery = true)
     List<String> findAllCategories();
 
-    @Query(
-            value = "SELECT * FROM food_items WHERE restaurant_id = ?1 AND category LIKE ?2",
-            countQuery = "SELECT COUNT(*) FROM food_items WHERE restaurant_id = ?1 AND category LIKE ?2",
-            nativeQuery = true
-    )
-    Page<FoodItem> findFoodItemsByRestaurantIdAndCategory(String restaurantId,String category, Pageable pageable);
+    List<FoodItem> findByRestaurantRestaurantId(String restaurantId);
 
+    @Query("SELECT new com.Restaurant_Management.System.dto.response.FoodItemPriceResponseDto(" +
+            "f.foodItemId, f.restaurant.restaurantId, f.price, f.discount, f.available) FROM food_items f")
+    List<FoodItemPriceResponseDto> findAllFoodItemPrices();
 
-    @Query(nativeQuery = true, value = "SELECT COUNT(*) FROM food_items WHERE restaurant_id = ?1 AND category LIKE ?2")
-    long countAllFoodItemsByRestaurantIdAndCategory(String restaurantId, String category);
+    @Query("SELECT new com.Restaurant_Management.System.dto.response.FoodItemPriceResponseDto(" +
+            "f.foodItemId, f.restaurant.restaurantId, f.price, f.discount, f.available) FROM food_items f " +
+            "WHERE f.foodItemId IN ?1")
+    List<FoodItemPriceResponseDto> findFoodItemPricesByIds(Collection<String> ids);
+
+    @Query("SELECT new com.Restaurant_Management.System.menu.CachedFoodItem(" +
+            "f.foodItemId, f.name, f.imageUrl, r.restaurantId, r.restaurantName, f.price, f.discount, f.available) " +
+            "FROM food_items f JOIN f.restaurant r WHERE f.foodItemId IN ?1")
+    List<CachedFoodItem> findCachedFoodItemsByIds(Collection<String> ids);
+
+    @Query("SELECT f FROM food_items f JOIN FETCH f.restaurant")
+    List<FoodItem> findAllWithRestaurant();
 
 
 
@@ -1,17 +1,30 @@
 package com.Restaurant_Management.System.repo;
 
+import com.Restaurant_Management.System.dto.response.RestaurantSummaryResponseDto;
 import com.Restaurant_Management.System.entity.Restaurant;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface RestaurantRepo extends JpaRepository<Restaurant,String> {
-    @Query(nativeQuery = true, value = "SELECT * FROM restaurant WHERE restaurant_name LIKE %?1% OR restaurant_address LIKE %?1% OR city LIKE %?1% OR restaurant_type LIKE %?1%")
-    public Page<Restaurant> findAllRestaurant(String searchText, Pageable pageable);
+    String SELECT_SUMMARY = "SELECT new com.Restaurant_Management.System.dto.response.RestaurantSummaryResponseDto(" +
+            "r.restaurantId, r.restaurantName, r.restaurantAddress, r.restaurantType, r.city, r.availability, " +
+            "r.orderAvailability, r.rating, r.openingTime, r.closingTime, " +
+            "SUBSTRING(r.description, 1, " + RestaurantSummaryResponseDto.DESCRIPTION_EXCERPT_LENGTH + "), " +
+            "r.active, r.imageUrl, r.coverImageUrl, r.latitude, r.longitude, r.updatedAt) FROM restaurant r ";
+
+    @Query(SELECT_SUMMARY + "WHERE r.restaurantName LIKE %?1% OR r.restaurantAddress LIKE %?1% OR r.city LIKE %?1% OR r.restaurantType LIKE %?1%")
+    public Slice<RestaurantSummaryResponseDto> findAllRestaurant(String searchText, Pageable pageable);
+
+    @Query(SELECT_SUMMARY + "WHERE r.restaurantId IN ?1")
+    List<RestaurantSummaryResponseDto> findSummariesByIds(Collection<String> ids);
 
 
-    @Query(nativeQuery = true,value = "SELECT COUNT(*) FROM restaurant WHERE restaurant_name LIKE %?1% OR restaurant_address LIKE %?1%")
+    @Query(nativeQuery = true,value = "SELECT COUNT(*) FROM restaurant WHERE restaurant_name LIKE %?1% OR restaurant_address LIKE %?1% OR city LIKE %?1% OR restaurant_type LIKE %?1%")
     public long countAllRestaurant(String searchText);
 
     boolean existsRestaurantByRestaurantName(String restaurantName);
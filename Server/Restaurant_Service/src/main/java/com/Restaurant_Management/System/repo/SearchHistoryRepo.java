@@ -7,6 +7,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface SearchHistoryRepo extends JpaRepository<SearchHistory, String> {
@@ -15,4 +16,6 @@ public interface SearchHistoryRepo extends JpaRepository<SearchHistory, String>
 
     @Query(nativeQuery = true,value = "SELECT * FROM search_history ORDER BY search_count DESC LIMIT 5")
     public List<SearchHistory> trendingRestaurants();
+
+    List<SearchHistory> findAllByRestaurantNameIn(Collection<String> restaurantNames);
 }
@@ -0,0 +1,222 @@
+package com.Restaurant_Management.System.search;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Bitmap index over facet values. Every document gets a dense slot number and every
+ * (dimension, value) pair a bitmap of the slots that carry it, so filters are bitwise ANDs and
+ * ORs and facet counts are popcounts.
+ *
+ * Values within a dimension compare case-insensitively. Selecting several values of one
+ * dimension matches any of them; selections in different dimensions must all match. Facet
+ * counts for a dimension ignore that dimension's own selection, so clients can show how many
+ * results each alternative value would give.
+ */
+public class FacetBitmapIndex {
+
+    private final Map<String, Integer> slots = new HashMap<>();
+    private final List<String> documents = new ArrayList<>();
+    private final List<Map<String, String>> documentValues = new ArrayList<>();
+    private final BitSet live = new BitSet();
+    private final BitSet free = new BitSet();
+    private final Map<String, Map<String, BitSet>> bitmaps = new HashMap<>();
+    private final Map<String, Map<String, String>> labels = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Adds the document with one value per dimension, replacing any previous version.
+     * Null values are left out of that dimension.
+     */
+    public void put(String documentId, Map<String, String> values) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(documentId);
+            int slot = free.isEmpty() ? documents.size() : free.nextSetBit(0);
+            Map<String, String> normalized = new HashMap<>();
+            values.forEach((dimension, value) -> {
+                if (value != null) {
+                    String key = value.toLowerCase(Locale.ROOT);
+                    normalized.put(dimension, key);
+                    labels.computeIfAbsent(dimension, d -> new HashMap<>()).putIfAbsent(key, value);
+                    bitmaps.computeIfAbsent(dimension, d -> new HashMap<>())
+                            .computeIfAbsent(key, k -> new BitSet())
+                            .set(slot);
+                }
+            });
+
+            if (slot == documents.size()) {
+                documents.add(documentId);
+                documentValues.add(normalized);
+            } else {
+                free.clear(slot);
+                documents.set(slot, documentId);
+                documentValues.set(slot, normalized);
+            }
+            slots.put(documentId, slot);
+            live.set(slot);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String documentId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(documentId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            slots.clear();
+            documents.clear();
+            documentValues.clear();
+            live.clear();
+            free.clear();
+            bitmaps.clear();
+            labels.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slots.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Filters documents and counts facet values.
+     *
+     * @param candidates ranked document ids to filter, or null to filter every document in slot order
+     * @param filters    selected values per dimension
+     */
+    public Result query(List<String> candidates, Map<String, Set<String>> filters, int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            BitSet base;
+            if (candidates == null) {
+                base = (BitSet) live.clone();
+            } else {
+                base = new BitSet(documents.size());
+                for (String candidate : candidates) {
+                    Integer slot = slots.get(candidate);
+                    if (slot != null) {
+                        base.set(slot);
+                    }
+                }
+            }
+
+            Map<String, BitSet> selections = new LinkedHashMap<>();
+            filters.forEach((dimension, values) -> {
+                if (values != null && !values.isEmpty()) {
+                    selections.put(dimension, selection(dimension, values));
+                }
+            });
+
+            BitSet matching = (BitSet) base.clone();
+            selections.values().forEach(matching::and);
+
+            List<String> page = new ArrayList<>(Math.max(0, limit));
+            int total = matching.cardinality();
+            int skipped = 0;
+            if (candidates == null) {
+                for (int slot = matching.nextSetBit(0); slot >= 0 && page.size() < limit; slot = matching.nextSetBit(slot + 1)) {
+                    if (skipped++ >= offset) {
+                        page.add(documents.get(slot));
+                    }
+                }
+            } else {
+                BitSet emitted = new BitSet(documents.size());
+                for (String candidate : candidates) {
+                    if (page.size() >= limit) {
+                        break;
+                    }
+                    Integer slot = slots.get(candidate);
+                    if (slot != null && matching.get(slot) && !emitted.get(slot)) {
+                        emitted.set(slot);
+                        if (skipped++ >= offset) {
+                            page.add(candidate);
+                        }
+                    }
+                }
+            }
+
+            Map<String, Map<String, Integer>> facets = new TreeMap<>();
+            for (Map.Entry<String, Map<String, BitSet>> dimension : bitmaps.entrySet()) {
+                BitSet scope = (BitSet) base.clone();
+                selections.forEach((selected, bits) -> {
+                    if (!selected.equals(dimension.getKey())) {
+                        scope.and(bits);
+                    }
+                });
+                Map<String, Integer> counts = new TreeMap<>();
+                Map<String, String> dimensionLabels = labels.get(dimension.getKey());
+                dimension.getValue().forEach((value, bits) -> {
+                    BitSet intersection = (BitSet) bits.clone();
+                    intersection.and(scope);
+                    int count = intersection.cardinality();
+                    if (count > 0) {
+                        counts.put(dimensionLabels.get(value), count);
+                    }
+                });
+                facets.put(dimension.getKey(), counts);
+            }
+            return new Result(page, total, facets);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private BitSet selection(String dimension, Set<String> values) {
+        BitSet selection = new BitSet();
+        Map<String, BitSet> valueBitmaps = bitmaps.getOrDefault(dimension, Map.of());
+        for (String value : values) {
+            BitSet bits = valueBitmaps.get(value.toLowerCase(Locale.ROOT));
+            if (bits != null) {
+                selection.or(bits);
+            }
+        }
+        return selection;
+    }
+
+    private void removeLocked(String documentId) {
+        Integer slot = slots.remove(documentId);
+        if (slot == null) {
+            return;
+        }
+        documentValues.get(slot).forEach((dimension, value) -> {
+            Map<String, BitSet> valueBitmaps = bitmaps.get(dimension);
+            BitSet bits = valueBitmaps.get(value);
+            bits.clear(slot);
+            if (bits.isEmpty()) {
+                valueBitmaps.remove(value);
+                labels.get(dimension).remove(value);
+            }
+        });
+        documents.set(slot, null);
+        documentValues.set(slot, Map.of());
+        live.clear(slot);
+        free.set(slot);
+    }
+
+    public record Result(List<String> documentIds, long totalHits, Map<String, Map<String, Integer>> facets) {
+    }
+}
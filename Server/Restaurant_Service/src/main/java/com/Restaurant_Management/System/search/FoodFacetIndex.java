@@ -0,0 +1,121 @@
+package com.Restaurant_Management.System.search;
+
+import com.Restaurant_Management.System.entity.FoodItem;
+import com.Restaurant_Management.System.event.FoodItemChangedEvent;
+import com.Restaurant_Management.System.event.FoodItemsImportedEvent;
+import com.Restaurant_Management.System.event.RestaurantChangedEvent;
+import com.Restaurant_Management.System.repo.FoodItemRepo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Facet bitmaps for food items over type, category, price range, discount and availability,
+ * built on startup and kept current from {@link FoodItemChangedEvent}s and imports.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FoodFacetIndex {
+
+    public static final String TYPE = "type";
+    public static final String CATEGORY = "category";
+    public static final String PRICE_RANGE = "priceRange";
+    public static final String DISCOUNTED = "discounted";
+    public static final String AVAILABLE = "available";
+
+    // Upper bounds of the price range buckets; the last bucket is open-ended
+    private static final double[] PRICE_BOUNDS = {500, 1000, 2000, 5000};
+
+    private final FoodItemRepo foodItemRepo;
+
+    private final FacetBitmapIndex index = new FacetBitmapIndex();
+    private final Map<String, String> restaurantOfFoodItem = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        index.clear();
+        restaurantOfFoodItem.clear();
+        foodItemRepo.findAllWithRestaurant().forEach(this::add);
+        ready = true;
+        log.info("Food facet index built with {} items", index.size());
+    }
+
+    @EventListener
+    public void onFoodItemChanged(FoodItemChangedEvent event) {
+        FoodItem foodItem = event.foodItem();
+        if (event.deleted()) {
+            index.remove(foodItem.getFoodItemId());
+            restaurantOfFoodItem.remove(foodItem.getFoodItemId());
+        } else {
+            add(foodItem);
+        }
+    }
+
+    @EventListener
+    public void onFoodItemsImported(FoodItemsImportedEvent event) {
+        event.foodItems().forEach(this::add);
+    }
+
+    @EventListener
+    public void onRestaurantChanged(RestaurantChangedEvent event) {
+        if (!event.deleted()) {
+            return;
+        }
+        // The restaurant's food items are removed by cascade without their own events
+        String restaurantId = event.restaurant().getRestaurantId();
+        restaurantOfFoodItem.entrySet().removeIf(entry -> {
+            if (entry.getValue().equals(restaurantId)) {
+                index.remove(entry.getKey());
+                return true;
+            }
+            return false;
+        });
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * @param candidates ranked ids from a text search, or null when there is no search text
+     */
+    public FacetBitmapIndex.Result query(List<String> candidates, Map<String, Set<String>> filters, int page, int size) {
+        return index.query(candidates, filters, page * size, size);
+    }
+
+    public static String priceRangeOf(double price) {
+        double lower = 0;
+        for (double upper : PRICE_BOUNDS) {
+            if (price < upper) {
+                return format(lower) + "-" + format(upper);
+            }
+            lower = upper;
+        }
+        return format(lower) + "+";
+    }
+
+    private void add(FoodItem foodItem) {
+        Map<String, String> values = new HashMap<>();
+        values.put(TYPE, foodItem.getType());
+        values.put(CATEGORY, foodItem.getCategory());
+        values.put(PRICE_RANGE, priceRangeOf(foodItem.getPrice()));
+        values.put(DISCOUNTED, String.valueOf(foodItem.getDiscount() > 0));
+        values.put(AVAILABLE, String.valueOf(foodItem.isAvailable()));
+        index.put(foodItem.getFoodItemId(), values);
+        restaurantOfFoodItem.put(foodItem.getFoodItemId(), foodItem.getRestaurant().getRestaurantId());
+    }
+
+    private static String format(double bound) {
+        return String.valueOf((long) bound);
+    }
+}
@@ -0,0 +1,119 @@
+package com.Restaurant_Management.System.search;
+
+import com.Restaurant_Management.System.entity.FoodItem;
+import com.Restaurant_Management.System.event.FoodItemChangedEvent;
+import com.Restaurant_Management.System.event.FoodItemsImportedEvent;
+import com.Restaurant_Management.System.event.RestaurantChangedEvent;
+import com.Restaurant_Management.System.repo.FoodItemRepo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Full-text index over food item name and category, built on startup and kept current from
+ * {@link FoodItemChangedEvent}s and imports.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FoodItemSearchIndex {
+
+    private final FoodItemRepo foodItemRepo;
+
+    private final InvertedIndex index = new InvertedIndex(Map.of(
+            "name", 3.0,
+            "category", 2.0));
+
+    // Deleting a restaurant cascades to its food items without a FoodItemChangedEvent per item
+    private final Map<String, Set<String>> foodItemsByRestaurant = new ConcurrentHashMap<>();
+    private final Map<String, String> restaurantOfFoodItem = new ConcurrentHashMap<>();
+
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        index.clear();
+        foodItemsByRestaurant.clear();
+        restaurantOfFoodItem.clear();
+        foodItemRepo.findAllWithRestaurant().forEach(this::add);
+        ready = true;
+        log.info("Food item search index built with {} items", index.size());
+    }
+
+    @EventListener
+    public void onFoodItemChanged(FoodItemChangedEvent event) {
+        if (event.deleted()) {
+            remove(event.foodItem());
+        } else {
+            add(event.foodItem());
+        }
+    }
+
+    @EventListener
+    public void onFoodItemsImported(FoodItemsImportedEvent event) {
+        event.foodItems().forEach(this::add);
+    }
+
+    @EventListener
+    public void onRestaurantChanged(RestaurantChangedEvent event) {
+        if (!event.deleted()) {
+            return;
+        }
+        Set<String> foodItemIds = foodItemsByRestaurant.remove(event.restaurant().getRestaurantId());
+        if (foodItemIds != null) {
+            foodItemIds.forEach(foodItemId -> {
+                index.remove(foodItemId);
+                restaurantOfFoodItem.remove(foodItemId);
+            });
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public InvertedIndex.SearchResult search(String searchText, int page, int size) {
+        return index.search(searchText, page * size, size);
+    }
+
+    public List<String> searchAll(String searchText) {
+        return index.search(searchText, 0, Integer.MAX_VALUE).documentIds();
+    }
+
+    private void add(FoodItem foodItem) {
+        index.index(foodItem.getFoodItemId(), Map.of(
+                "name", foodItem.getName() == null ? "" : foodItem.getName(),
+                "category", foodItem.getCategory() == null ? "" : foodItem.getCategory()));
+        String restaurantId = foodItem.getRestaurant().getRestaurantId();
+        String previousRestaurantId = restaurantOfFoodItem.put(foodItem.getFoodItemId(), restaurantId);
+        if (previousRestaurantId != null && !previousRestaurantId.equals(restaurantId)) {
+            // The item moved, so deleting its old restaurant must no longer remove it
+            removeFromRestaurant(previousRestaurantId, foodItem.getFoodItemId());
+        }
+        foodItemsByRestaurant
+                .computeIfAbsent(restaurantId, id -> ConcurrentHashMap.newKeySet())
+                .add(foodItem.getFoodItemId());
+    }
+
+    private void remove(FoodItem foodItem) {
+        index.remove(foodItem.getFoodItemId());
+        String restaurantId = restaurantOfFoodItem.remove(foodItem.getFoodItemId());
+        if (restaurantId != null) {
+            removeFromRestaurant(restaurantId, foodItem.getFoodItemId());
+        }
+    }
+
+    private void removeFromRestaurant(String restaurantId, String foodItemId) {
+        Set<String> foodItemIds = foodItemsByRestaurant.get(restaurantId);
+        if (foodItemIds != null) {
+            foodItemIds.remove(foodItemId);
+        }
+    }
+}
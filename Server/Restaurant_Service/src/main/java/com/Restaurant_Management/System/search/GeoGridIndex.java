@@ -0,0 +1,173 @@
+package com.Restaurant_Management.System.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Uniform latitude/longitude grid for radius queries. A query visits only the cells
+ * overlapping the radius's bounding box and then checks the exact great-circle distance,
+ * so its cost depends on local density rather than the total number of points.
+ *
+ * Longitude cells wrap at the antimeridian, and boxes reaching a pole scan the full ring.
+ */
+public class GeoGridIndex {
+
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+    private static final double KM_PER_DEGREE_LATITUDE = 111.32;
+
+    private final double cellDegrees;
+    private final int latitudeCells;
+    private final int longitudeCells;
+    private final Map<Long, Map<String, Point>> cells = new HashMap<>();
+    private final Map<String, Point> points = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public GeoGridIndex(double cellDegrees) {
+        if (cellDegrees <= 0 || cellDegrees > 90) {
+            throw new IllegalArgumentException("cellDegrees must be in (0, 90]");
+        }
+        this.cellDegrees = cellDegrees;
+        this.latitudeCells = (int) Math.ceil(180 / cellDegrees);
+        this.longitudeCells = (int) Math.ceil(360 / cellDegrees);
+    }
+
+    /**
+     * Adds the point, replacing any previous point with the same id.
+     */
+    public void put(Point point) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(point.id());
+            points.put(point.id(), point);
+            cells.computeIfAbsent(cellOf(point.latitude(), point.longitude()), key -> new HashMap<>())
+                    .put(point.id(), point);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            cells.clear();
+            points.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return points.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns every point accepted by the filter within {@code radiusKm} of the origin, unordered.
+     */
+    public List<Hit> within(double latitude, double longitude, double radiusKm, Predicate<Point> filter) {
+        double deltaLatitude = radiusKm / KM_PER_DEGREE_LATITUDE;
+        double minLatitude = Math.max(-90, latitude - deltaLatitude);
+        double maxLatitude = Math.min(90, latitude + deltaLatitude);
+
+        int firstLongitudeCell;
+        int longitudeSpan;
+        double widestLatitude = Math.max(Math.abs(minLatitude), Math.abs(maxLatitude));
+        double deltaLongitude = widestLatitude >= 90 ? 360
+                : radiusKm / (KM_PER_DEGREE_LATITUDE * Math.cos(Math.toRadians(widestLatitude)));
+        if (deltaLongitude >= 180) {
+            firstLongitudeCell = 0;
+            longitudeSpan = longitudeCells;
+        } else {
+            firstLongitudeCell = longitudeIndex(longitude - deltaLongitude);
+            longitudeSpan = Math.min(longitudeCells,
+                    longitudeIndex(longitude + deltaLongitude) - firstLongitudeCell + 1);
+        }
+
+        List<Hit> hits = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (int latitudeCell = latitudeIndex(minLatitude); latitudeCell <= latitudeIndex(maxLatitude); latitudeCell++) {
+                for (int offset = 0; offset < longitudeSpan; offset++) {
+                    int longitudeCell = Math.floorMod(firstLongitudeCell + offset, longitudeCells);
+                    Map<String, Point> cell = cells.get(key(latitudeCell, longitudeCell));
+                    if (cell == null) {
+                        continue;
+                    }
+                    for (Point point : cell.values()) {
+                        double distance = distanceKm(latitude, longitude, point.latitude(), point.longitude());
+                        if (distance <= radiusKm && filter.test(point)) {
+                            hits.add(new Hit(point, distance));
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return hits;
+    }
+
+    public static double distanceKm(double latitude1, double longitude1, double latitude2, double longitude2) {
+        double deltaLatitude = Math.toRadians(latitude2 - latitude1);
+        double deltaLongitude = Math.toRadians(longitude2 - longitude1);
+        double a = Math.sin(deltaLatitude / 2) * Math.sin(deltaLatitude / 2)
+                + Math.cos(Math.toRadians(latitude1)) * Math.cos(Math.toRadians(latitude2))
+                * Math.sin(deltaLongitude / 2) * Math.sin(deltaLongitude / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    private void removeLocked(String id) {
+        Point previous = points.remove(id);
+        if (previous == null) {
+            return;
+        }
+        long key = cellOf(previous.latitude(), previous.longitude());
+        Map<String, Point> cell = cells.get(key);
+        cell.remove(id);
+        if (cell.isEmpty()) {
+            cells.remove(key);
+        }
+    }
+
+    private long cellOf(double latitude, double longitude) {
+        return key(latitudeIndex(latitude), Math.floorMod(longitudeIndex(longitude), longitudeCells));
+    }
+
+    private int latitudeIndex(double latitude) {
+        return Math.min(latitudeCells - 1, (int) Math.floor((latitude + 90) / cellDegrees));
+    }
+
+    // Not wrapped, so a range crossing the antimeridian stays contiguous
+    private int longitudeIndex(double longitude) {
+        return (int) Math.floor((longitude + 180) / cellDegrees);
+    }
+
+    private static long key(int latitudeCell, int longitudeCell) {
+        return ((long) latitudeCell << 32) | (longitudeCell & 0xffffffffL);
+    }
+
+    public record Point(String id, double latitude, double longitude,
+                       boolean availability, boolean orderAvailability, double rating) {
+    }
+
+    public record Hit(Point point, double distanceKm) {
+    }
+}
@@ -0,0 +1,182 @@
+package com.Restaurant_Management.System.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index with BM25 ranking over weighted fields.
+ *
+ * Each field's tokens count towards a document's term frequency with the field's weight, so a
+ * match in a restaurant name outranks the same match in an address. Query tokens are matched
+ * as prefixes, with exact matches scoring higher, and every query token must match for a
+ * document to be returned.
+ */
+public class InvertedIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final double PREFIX_MATCH_WEIGHT = 0.7;
+    private static final int MAX_PREFIX_EXPANSIONS = 64;
+
+    private final Map<String, Double> fieldWeights;
+    private final NavigableMap<String, Map<String, Double>> postings = new TreeMap<>();
+    private final Map<String, Map<String, Double>> documentTerms = new HashMap<>();
+    private final Map<String, Double> documentLengths = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private double totalLength;
+
+    public InvertedIndex(Map<String, Double> fieldWeights) {
+        this.fieldWeights = Map.copyOf(fieldWeights);
+    }
+
+    /**
+     * Adds the document, replacing any previous version with the same id.
+     */
+    public void index(String documentId, Map<String, String> fields) {
+        Map<String, Double> termFrequencies = new HashMap<>();
+        double length = 0;
+        for (Map.Entry<String, String> field : fields.entrySet()) {
+            double weight = fieldWeights.getOrDefault(field.getKey(), 1.0);
+            for (String token : TextTokenizer.tokenize(field.getValue())) {
+                termFrequencies.merge(token, weight, Double::sum);
+                length += weight;
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(documentId);
+            for (Map.Entry<String, Double> term : termFrequencies.entrySet()) {
+                postings.computeIfAbsent(term.getKey(), key -> new HashMap<>()).put(documentId, term.getValue());
+            }
+            documentTerms.put(documentId, termFrequencies);
+            documentLengths.put(documentId, length);
+            totalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String documentId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(documentId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documentTerms.clear();
+            documentLengths.clear();
+            totalLength = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documentLengths.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public SearchResult search(String query, int offset, int limit) {
+        List<String> queryTokens = TextTokenizer.tokenize(query);
+        if (queryTokens.isEmpty()) {
+            return new SearchResult(List.of(), 0);
+        }
+
+        lock.readLock().lock();
+        try {
+            int documentCount = documentLengths.size();
+            double averageLength = documentCount == 0 ? 0 : totalLength / documentCount;
+
+            Map<String, Double> scores = null;
+            for (String token : queryTokens) {
+                Map<String, Double> tokenScores = scoreToken(token, documentCount, averageLength);
+                if (scores == null) {
+                    scores = tokenScores;
+                } else {
+                    // All query tokens must match
+                    Map<String, Double> previous = scores;
+                    tokenScores.keySet().retainAll(previous.keySet());
+                    tokenScores.replaceAll((documentId, score) -> score + previous.get(documentId));
+                    scores = tokenScores;
+                }
+                if (scores.isEmpty()) {
+                    return new SearchResult(List.of(), 0);
+                }
+            }
+
+            List<Map.Entry<String, Double>> ranked = new ArrayList<>(scores.entrySet());
+            ranked.sort(Map.Entry.<String, Double>comparingByValue(Comparator.reverseOrder())
+                    .thenComparing(Map.Entry.comparingByKey()));
+
+            int from = Math.min(Math.max(offset, 0), ranked.size());
+            int to = Math.min(from + Math.max(limit, 0), ranked.size());
+            List<String> ids = new ArrayList<>(to - from);
+            for (Map.Entry<String, Double> entry : ranked.subList(from, to)) {
+                ids.add(entry.getKey());
+            }
+            return new SearchResult(ids, ranked.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Map<String, Double> scoreToken(String token, int documentCount, double averageLength) {
+        Map<String, Double> scores = new HashMap<>();
+        int expansions = 0;
+        for (Map.Entry<String, Map<String, Double>> term : postings.subMap(token, true, token + Character.MAX_VALUE, false).entrySet()) {
+            if (expansions++ == MAX_PREFIX_EXPANSIONS) {
+                break;
+            }
+            double matchWeight = term.getKey().equals(token) ? 1.0 : PREFIX_MATCH_WEIGHT;
+            Map<String, Double> documents = term.getValue();
+            double idf = Math.log(1 + (documentCount - documents.size() + 0.5) / (documents.size() + 0.5));
+
+            for (Map.Entry<String, Double> posting : documents.entrySet()) {
+                double tf = posting.getValue();
+                double norm = averageLength == 0 ? 1 : documentLengths.get(posting.getKey()) / averageLength;
+                double score = matchWeight * idf * (tf * (K1 + 1)) / (tf + K1 * (1 - B + B * norm));
+                // A document matching several expansions of one token keeps its best match
+                scores.merge(posting.getKey(), score, Math::max);
+            }
+        }
+        return scores;
+    }
+
+    private void removeLocked(String documentId) {
+        Map<String, Double> terms = documentTerms.remove(documentId);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms.keySet()) {
+            Map<String, Double> documents = postings.get(term);
+            if (documents != null) {
+                documents.remove(documentId);
+                if (documents.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        totalLength -= documentLengths.remove(documentId);
+    }
+
+    public record SearchResult(List<String> documentIds, long totalHits) {
+    }
+}
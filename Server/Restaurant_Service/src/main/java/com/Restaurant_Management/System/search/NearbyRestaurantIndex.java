@@ -0,0 +1,105 @@
+package com.Restaurant_Management.System.search;
+
+import com.Restaurant_Management.System.entity.Restaurant;
+import com.Restaurant_Management.System.event.RestaurantChangedEvent;
+import com.Restaurant_Management.System.repo.RestaurantRepo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Geospatial index of active restaurants, built on startup and kept current from
+ * {@link RestaurantChangedEvent}s.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NearbyRestaurantIndex {
+
+    private static final double MAX_RATING = 5.0;
+
+    private final RestaurantRepo restaurantRepo;
+
+    @Value("${restaurant.nearby.cell-degrees:0.02}")
+    private double cellDegrees;
+
+    private volatile GeoGridIndex index;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        GeoGridIndex rebuilt = new GeoGridIndex(cellDegrees);
+        restaurantRepo.findAll().stream()
+                .filter(this::indexable)
+                .forEach(restaurant -> rebuilt.put(toPoint(restaurant)));
+        index = rebuilt;
+        log.info("Nearby restaurant index built with {} restaurants", rebuilt.size());
+    }
+
+    @EventListener
+    public void onRestaurantChanged(RestaurantChangedEvent event) {
+        GeoGridIndex current = index;
+        if (current == null) {
+            return;
+        }
+        Restaurant restaurant = event.restaurant();
+        if (!event.deleted() && indexable(restaurant)) {
+            current.put(toPoint(restaurant));
+        } else {
+            current.remove(restaurant.getRestaurantId());
+        }
+    }
+
+    public boolean isReady() {
+        return index != null;
+    }
+
+    /**
+     * Finds restaurants within the radius ranked by distance. A positive {@code ratingWeight}
+     * (at most 1) blends in rating, so a better-rated restaurant can outrank a closer one.
+     * Null availability filters match either value; {@code restaurantFilter} receives restaurant ids.
+     */
+    public List<GeoGridIndex.Hit> nearby(double latitude, double longitude, double radiusKm,
+                                         Boolean availability, Boolean orderAvailability,
+                                         Predicate<String> restaurantFilter,
+                                         double ratingWeight, int limit) {
+        Comparator<GeoGridIndex.Hit> ranking = Comparator
+                .comparingDouble((GeoGridIndex.Hit hit) -> score(hit, radiusKm, ratingWeight))
+                .thenComparingDouble(GeoGridIndex.Hit::distanceKm);
+
+        return index.within(latitude, longitude, radiusKm, point ->
+                        (availability == null || point.availability() == availability)
+                                && (orderAvailability == null || point.orderAvailability() == orderAvailability)
+                                && restaurantFilter.test(point.id()))
+                .stream()
+                .sorted(ranking)
+                .limit(limit)
+                .toList();
+    }
+
+    private static double score(GeoGridIndex.Hit hit, double radiusKm, double ratingWeight) {
+        double distance = radiusKm == 0 ? 0 : hit.distanceKm() / radiusKm;
+        double rating = Math.min(Math.max(hit.point().rating() / MAX_RATING, 0), 1);
+        return (1 - ratingWeight) * distance + ratingWeight * (1 - rating);
+    }
+
+    private boolean indexable(Restaurant restaurant) {
+        return restaurant.isActive() && restaurant.getLatitude() != null && restaurant.getLongitude() != null;
+    }
+
+    private static GeoGridIndex.Point toPoint(Restaurant restaurant) {
+        return new GeoGridIndex.Point(
+                restaurant.getRestaurantId(),
+                restaurant.getLatitude(),
+                restaurant.getLongitude(),
+                restaurant.isAvailability(),
+                restaurant.isOrderAvailability(),
+                restaurant.getRating());
+    }
+}
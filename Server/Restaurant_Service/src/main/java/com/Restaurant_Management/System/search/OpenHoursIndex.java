@@ -0,0 +1,115 @@
+package com.Restaurant_Management.System.search;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * For every minute of the day, a bitmap of the restaurants open during that minute.
+ *
+ * Hours are [opening, closing): a closing time earlier than the opening time runs past
+ * midnight, and equal times mean open all day. Updating a restaurant rewrites its bit in each
+ * minute, so checking one restaurant is a single bit test and listing everything open is one
+ * bitmap scan.
+ */
+public class OpenHoursIndex {
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    private final BitSet[] openByMinute = new BitSet[MINUTES_PER_DAY];
+    private final Map<String, Integer> slots = new HashMap<>();
+    private final List<String> restaurants = new ArrayList<>();
+    private final BitSet free = new BitSet();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public OpenHoursIndex() {
+        for (int i = 0; i < MINUTES_PER_DAY; i++) {
+            openByMinute[i] = new BitSet();
+        }
+    }
+
+    public void put(String restaurantId, LocalTime openingTime, LocalTime closingTime) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slots.get(restaurantId);
+            if (slot == null) {
+                slot = free.isEmpty() ? restaurants.size() : free.nextSetBit(0);
+                if (slot == restaurants.size()) {
+                    restaurants.add(restaurantId);
+                } else {
+                    free.clear(slot);
+                    restaurants.set(slot, restaurantId);
+                }
+                slots.put(restaurantId, slot);
+            }
+
+            int opening = minuteOf(openingTime);
+            int closing = minuteOf(closingTime);
+            for (int minute = 0; minute < MINUTES_PER_DAY; minute++) {
+                openByMinute[minute].set(slot, isOpen(minute, opening, closing));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String restaurantId) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slots.remove(restaurantId);
+            if (slot == null) {
+                return;
+            }
+            for (BitSet open : openByMinute) {
+                open.clear(slot);
+            }
+            restaurants.set(slot, null);
+            free.set(slot);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isOpen(String restaurantId, LocalTime time) {
+        lock.readLock().lock();
+        try {
+            Integer slot = slots.get(restaurantId);
+            return slot != null && openByMinute[minuteOf(time)].get(slot);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<String> openAt(LocalTime time) {
+        lock.readLock().lock();
+        try {
+            BitSet open = openByMinute[minuteOf(time)];
+            List<String> ids = new ArrayList<>(open.cardinality());
+            for (int slot = open.nextSetBit(0); slot >= 0; slot = open.nextSetBit(slot + 1)) {
+                ids.add(restaurants.get(slot));
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static boolean isOpen(int minute, int opening, int closing) {
+        if (opening == closing) {
+            return true;
+        }
+        if (opening < closing) {
+            return minute >= opening && minute < closing;
+        }
+        return minute >= opening || minute < closing;
+    }
+
+    private static int minuteOf(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+}
@@ -0,0 +1,71 @@
+package com.Restaurant_Management.System.search;
+
+import com.Restaurant_Management.System.entity.Restaurant;
+import com.Restaurant_Management.System.event.RestaurantChangedEvent;
+import com.Restaurant_Management.System.repo.RestaurantRepo;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * Tracks which restaurants are open right now in the configured time zone, built on startup
+ * and kept current from {@link RestaurantChangedEvent}s.
+ */
+@Slf4j
+@Component
+public class OpenRestaurantIndex {
+
+    private final RestaurantRepo restaurantRepo;
+    private final ZoneId zone;
+    private final OpenHoursIndex index = new OpenHoursIndex();
+    private volatile boolean ready;
+
+    public OpenRestaurantIndex(RestaurantRepo restaurantRepo,
+                               @Value("${restaurant.open-hours.zone:}") String zone) {
+        this.restaurantRepo = restaurantRepo;
+        this.zone = zone.isBlank() ? ZoneId.systemDefault() : ZoneId.of(zone);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<Restaurant> restaurants = restaurantRepo.findAll();
+        restaurants.forEach(this::put);
+        ready = true;
+        log.info("Open hours index built with {} restaurants", restaurants.size());
+    }
+
+    @EventListener
+    public void onRestaurantChanged(RestaurantChangedEvent event) {
+        if (event.deleted()) {
+            index.remove(event.restaurant().getRestaurantId());
+        } else {
+            put(event.restaurant());
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public boolean isOpenNow(String restaurantId) {
+        return index.isOpen(restaurantId, LocalTime.now(zone));
+    }
+
+    public List<String> openNow() {
+        return index.openAt(LocalTime.now(zone));
+    }
+
+    private void put(Restaurant restaurant) {
+        if (restaurant.getOpeningTime() == null || restaurant.getClosingTime() == null) {
+            index.remove(restaurant.getRestaurantId());
+            return;
+        }
+        index.put(restaurant.getRestaurantId(), restaurant.getOpeningTime(), restaurant.getClosingTime());
+    }
+}
@@ -0,0 +1,74 @@
+package com.Restaurant_Management.System.search;
+
+import com.Restaurant_Management.System.entity.Restaurant;
+import com.Restaurant_Management.System.event.RestaurantChangedEvent;
+import com.Restaurant_Management.System.repo.RestaurantRepo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Full-text index over restaurant name, type, city and address, built on startup and kept
+ * current from {@link RestaurantChangedEvent}s.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RestaurantSearchIndex {
+
+    private final RestaurantRepo restaurantRepo;
+
+    private final InvertedIndex index = new InvertedIndex(Map.of(
+            "name", 3.0,
+            "type", 2.0,
+            "city", 1.5,
+            "address", 1.0));
+
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        index.clear();
+        restaurantRepo.findAll().forEach(this::add);
+        ready = true;
+        log.info("Restaurant search index built with {} restaurants", index.size());
+    }
+
+    @EventListener
+    public void onRestaurantChanged(RestaurantChangedEvent event) {
+        if (event.deleted()) {
+            index.remove(event.restaurant().getRestaurantId());
+        } else {
+            add(event.restaurant());
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public InvertedIndex.SearchResult search(String searchText, int page, int size) {
+        return index.search(searchText, page * size, size);
+    }
+
+    public List<String> searchAll(String searchText) {
+        return index.search(searchText, 0, Integer.MAX_VALUE).documentIds();
+    }
+
+    private void add(Restaurant restaurant) {
+        index.index(restaurant.getRestaurantId(), Map.of(
+                "name", nullToEmpty(restaurant.getRestaurantName()),
+                "type", nullToEmpty(restaurant.getRestaurantType()),
+                "city", nullToEmpty(restaurant.getCity()),
+                "address", nullToEmpty(restaurant.getRestaurantAddress())));
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
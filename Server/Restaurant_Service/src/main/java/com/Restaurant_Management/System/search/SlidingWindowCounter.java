@@ -0,0 +1,85 @@
+package com.Restaurant_Management.System.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-key event counts over a sliding time window made of fixed-size buckets.
+ *
+ * Increments go to the bucket for the current time and are striped through {@link LongAdder},
+ * so concurrent searches for the same key do not contend. A bucket is cleared the first time it
+ * is reused for a newer interval; reads only sum buckets that are still inside the window.
+ */
+public class SlidingWindowCounter {
+
+    private final long bucketMillis;
+    private final Bucket[] buckets;
+
+    public SlidingWindowCounter(long bucketMillis, int bucketCount) {
+        if (bucketMillis <= 0 || bucketCount <= 0) {
+            throw new IllegalArgumentException("bucketMillis and bucketCount must be positive");
+        }
+        this.bucketMillis = bucketMillis;
+        this.buckets = new Bucket[bucketCount];
+        for (int i = 0; i < bucketCount; i++) {
+            buckets[i] = new Bucket();
+        }
+    }
+
+    public void increment(String key, long nowMillis) {
+        long interval = nowMillis / bucketMillis;
+        Bucket bucket = buckets[(int) (interval % buckets.length)];
+        if (bucket.interval != interval) {
+            synchronized (bucket) {
+                if (bucket.interval != interval) {
+                    bucket.counts.clear();
+                    bucket.interval = interval;
+                }
+            }
+        }
+        bucket.counts.computeIfAbsent(key, k -> new LongAdder()).increment();
+    }
+
+    public Map<String, Long> totals(long nowMillis) {
+        long interval = nowMillis / bucketMillis;
+        Map<String, Long> totals = new HashMap<>();
+        for (Bucket bucket : buckets) {
+            if (bucket.interval > interval - buckets.length && bucket.interval <= interval) {
+                bucket.counts.forEach((key, count) -> totals.merge(key, count.sum(), Long::sum));
+            }
+        }
+        return totals;
+    }
+
+    /**
+     * Returns the {@code k} keys with the highest counts in the window, highest first.
+     */
+    public List<Map.Entry<String, Long>> top(int k, long nowMillis) {
+        Comparator<Map.Entry<String, Long>> ascending = Map.Entry.<String, Long>comparingByValue()
+                .thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder()));
+        PriorityQueue<Map.Entry<String, Long>> heap = new PriorityQueue<>(ascending);
+        for (Map.Entry<String, Long> entry : totals(nowMillis).entrySet()) {
+            if (entry.getValue() == 0) {
+                continue;
+            }
+            heap.offer(entry);
+            if (heap.size() > k) {
+                heap.poll();
+            }
+        }
+        List<Map.Entry<String, Long>> top = new ArrayList<>(heap);
+        top.sort(ascending.reversed());
+        return top;
+    }
+
+    private static final class Bucket {
+        private volatile long interval = Long.MIN_VALUE;
+        private final Map<String, LongAdder> counts = new ConcurrentHashMap<>();
+    }
+}
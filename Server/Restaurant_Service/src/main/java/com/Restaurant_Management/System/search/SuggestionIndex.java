@@ -0,0 +1,180 @@
+package com.Restaurant_Management.System.search;
+
+import com.Restaurant_Management.System.entity.FoodItem;
+import com.Restaurant_Management.System.entity.Restaurant;
+import com.Restaurant_Management.System.entity.SearchHistory;
+import com.Restaurant_Management.System.event.FoodItemChangedEvent;
+import com.Restaurant_Management.System.event.FoodItemsImportedEvent;
+import com.Restaurant_Management.System.event.RestaurantChangedEvent;
+import com.Restaurant_Management.System.repo.FoodItemRepo;
+import com.Restaurant_Management.System.repo.RestaurantRepo;
+import com.Restaurant_Management.System.repo.SearchHistoryRepo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Typeahead suggestions over restaurant names, food names and categories.
+ *
+ * Lookups only read the current {@link SuggestionTrie}. Changes mark the index dirty and a
+ * scheduled task rebuilds the trie and swaps it in, so bursts of menu edits cost one rebuild.
+ * Restaurants are weighted by their search count; food names and categories by how many
+ * restaurants serve them, each counted with that restaurant's popularity.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SuggestionIndex {
+
+    public static final String RESTAURANT = "RESTAURANT";
+    public static final String FOOD = "FOOD";
+    public static final String CATEGORY = "CATEGORY";
+
+    private final RestaurantRepo restaurantRepo;
+    private final FoodItemRepo foodItemRepo;
+    private final SearchHistoryRepo searchHistoryRepo;
+
+    @Value("${restaurant.suggest.top-k:10}")
+    private int topK;
+
+    private final Map<String, String> restaurantNames = new ConcurrentHashMap<>();
+    private final Map<String, FoodEntry> foodItems = new ConcurrentHashMap<>();
+    private final AtomicBoolean dirty = new AtomicBoolean();
+
+    private volatile Map<String, Long> searchCounts = Map.of();
+    private volatile SuggestionTrie trie = SuggestionTrie.empty();
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        restaurantRepo.findAll().forEach(restaurant ->
+                restaurantNames.put(restaurant.getRestaurantId(), restaurant.getRestaurantName()));
+        foodItemRepo.findAllWithRestaurant().forEach(this::putFoodItem);
+        loadSearchCounts();
+        ready = true;
+        rebuild();
+    }
+
+    @EventListener
+    public void onRestaurantChanged(RestaurantChangedEvent event) {
+        Restaurant restaurant = event.restaurant();
+        if (event.deleted()) {
+            restaurantNames.remove(restaurant.getRestaurantId());
+            foodItems.values().removeIf(food -> food.restaurantId().equals(restaurant.getRestaurantId()));
+        } else {
+            restaurantNames.put(restaurant.getRestaurantId(), restaurant.getRestaurantName());
+        }
+        dirty.set(true);
+    }
+
+    @EventListener
+    public void onFoodItemChanged(FoodItemChangedEvent event) {
+        if (event.deleted()) {
+            foodItems.remove(event.foodItem().getFoodItemId());
+        } else {
+            putFoodItem(event.foodItem());
+        }
+        dirty.set(true);
+    }
+
+    @EventListener
+    public void onFoodItemsImported(FoodItemsImportedEvent event) {
+        event.foodItems().forEach(this::putFoodItem);
+        dirty.set(true);
+    }
+
+    @Scheduled(fixedDelayString = "${restaurant.suggest.popularity-refresh-millis:60000}",
+            initialDelayString = "${restaurant.suggest.popularity-refresh-millis:60000}")
+    public void refreshPopularity() {
+        if (ready) {
+            loadSearchCounts();
+            dirty.set(true);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${restaurant.suggest.rebuild-delay-millis:2000}")
+    public void rebuildIfDirty() {
+        if (ready && dirty.getAndSet(false)) {
+            rebuild();
+        }
+    }
+
+    public List<SuggestionTrie.Suggestion> suggest(String prefix, int limit) {
+        return trie.suggest(prefix, Math.min(limit, topK));
+    }
+
+    private void rebuild() {
+        Map<String, Long> counts = searchCounts;
+        List<SuggestionTrie.Suggestion> suggestions = new ArrayList<>(restaurantNames.size() * 2);
+        Map<String, Long> restaurantWeights = new HashMap<>();
+
+        restaurantNames.forEach((restaurantId, name) -> {
+            long weight = 1 + counts.getOrDefault(name.toLowerCase(Locale.ROOT), 0L);
+            restaurantWeights.put(restaurantId, weight);
+            suggestions.add(new SuggestionTrie.Suggestion(name, RESTAURANT, restaurantId, weight));
+        });
+
+        // Group by normalized text so "Pizza" and "pizza" on two menus become one suggestion
+        Map<String, WeightedText> foodNames = new HashMap<>();
+        Map<String, WeightedText> categories = new HashMap<>();
+        for (FoodEntry food : foodItems.values()) {
+            long weight = restaurantWeights.getOrDefault(food.restaurantId(), 1L);
+            accumulate(foodNames, food.name(), weight);
+            accumulate(categories, food.category(), weight);
+        }
+        foodNames.values().forEach(food ->
+                suggestions.add(new SuggestionTrie.Suggestion(food.text, FOOD, null, food.weight)));
+        categories.values().forEach(category ->
+                suggestions.add(new SuggestionTrie.Suggestion(category.text, CATEGORY, null, category.weight)));
+
+        trie = SuggestionTrie.build(suggestions, topK);
+        log.debug("Suggestion trie rebuilt with {} entries", suggestions.size());
+    }
+
+    private void loadSearchCounts() {
+        Map<String, Long> counts = new HashMap<>();
+        for (SearchHistory history : searchHistoryRepo.findAll()) {
+            if (history.getRestaurantName() != null) {
+                counts.merge(history.getRestaurantName().toLowerCase(Locale.ROOT), history.getSearchCount(), Long::sum);
+            }
+        }
+        searchCounts = counts;
+    }
+
+    private void putFoodItem(FoodItem foodItem) {
+        foodItems.put(foodItem.getFoodItemId(), new FoodEntry(
+                foodItem.getName(), foodItem.getCategory(), foodItem.getRestaurant().getRestaurantId()));
+    }
+
+    private static void accumulate(Map<String, WeightedText> target, String text, long weight) {
+        String key = String.join(" ", TextTokenizer.tokenize(text));
+        if (key.isEmpty()) {
+            return;
+        }
+        target.computeIfAbsent(key, k -> new WeightedText(text)).weight += weight;
+    }
+
+    private record FoodEntry(String name, String category, String restaurantId) {
+    }
+
+    private static final class WeightedText {
+        private final String text;
+        private long weight;
+
+        private WeightedText(String text) {
+            this.text = text;
+        }
+    }
+}
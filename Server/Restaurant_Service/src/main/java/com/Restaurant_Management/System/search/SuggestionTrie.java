@@ -0,0 +1,184 @@
+package com.Restaurant_Management.System.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Immutable radix trie for typeahead. Every node stores the top-k suggestions found anywhere
+ * below it, so a lookup is a walk down the prefix followed by returning that node's list.
+ *
+ * A suggestion is reachable from the start of each of its words, so "pizza" finds
+ * "Domino's Pizza" as well as "Pizza Hut". Build a new trie and swap it in to apply changes.
+ */
+public final class SuggestionTrie {
+
+    private static final Comparator<Suggestion> RANKING = Comparator
+            .comparingLong(Suggestion::weight).reversed()
+            .thenComparingInt(suggestion -> suggestion.text().length())
+            .thenComparing(Suggestion::text);
+
+    private static final SuggestionTrie EMPTY = new SuggestionTrie(new Node("", new char[0], new Node[0], new Suggestion[0]));
+
+    private final Node root;
+
+    private SuggestionTrie(Node root) {
+        this.root = root;
+    }
+
+    public static SuggestionTrie empty() {
+        return EMPTY;
+    }
+
+    public static SuggestionTrie build(Collection<Suggestion> suggestions, int topK) {
+        BuildNode root = new BuildNode("");
+        for (Suggestion suggestion : suggestions) {
+            List<String> tokens = TextTokenizer.tokenize(suggestion.text());
+            for (int i = 0; i < tokens.size(); i++) {
+                root.insert(String.join(" ", tokens.subList(i, tokens.size())), suggestion);
+            }
+        }
+        return new SuggestionTrie(root.freeze(topK));
+    }
+
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        Node node = root;
+        String remaining = key;
+        while (!remaining.isEmpty()) {
+            Node child = node.child(remaining.charAt(0));
+            if (child == null) {
+                return List.of();
+            }
+            if (remaining.length() <= child.label.length()) {
+                if (!child.label.startsWith(remaining)) {
+                    return List.of();
+                }
+                node = child;
+                break;
+            }
+            if (!remaining.startsWith(child.label)) {
+                return List.of();
+            }
+            remaining = remaining.substring(child.label.length());
+            node = child;
+        }
+        return Arrays.asList(node.top).subList(0, Math.min(limit, node.top.length));
+    }
+
+    /**
+     * Normalizes typed input the same way keys are built. A trailing separator is kept so
+     * "pizza " only matches suggestions with another word after "pizza".
+     */
+    static String normalize(String prefix) {
+        List<String> tokens = TextTokenizer.tokenize(prefix);
+        if (tokens.isEmpty()) {
+            return "";
+        }
+        String key = String.join(" ", tokens);
+        char last = prefix.charAt(prefix.length() - 1);
+        return Character.isLetterOrDigit(last) ? key : key + " ";
+    }
+
+    public record Suggestion(String text, String type, String referenceId, long weight) {
+    }
+
+    private static final class Node {
+        private final String label;
+        private final char[] firstChars;
+        private final Node[] children;
+        private final Suggestion[] top;
+
+        private Node(String label, char[] firstChars, Node[] children, Suggestion[] top) {
+            this.label = label;
+            this.firstChars = firstChars;
+            this.children = children;
+            this.top = top;
+        }
+
+        private Node child(char c) {
+            int index = Arrays.binarySearch(firstChars, c);
+            return index < 0 ? null : children[index];
+        }
+    }
+
+    private static final class BuildNode {
+        private String label;
+        private final TreeMap<Character, BuildNode> children = new TreeMap<>();
+        private final List<Suggestion> terminal = new ArrayList<>(1);
+
+        private BuildNode(String label) {
+            this.label = label;
+        }
+
+        private void insert(String key, Suggestion suggestion) {
+            BuildNode node = this;
+            String remaining = key;
+            while (!remaining.isEmpty()) {
+                BuildNode child = node.children.get(remaining.charAt(0));
+                if (child == null) {
+                    child = new BuildNode(remaining);
+                    child.terminal.add(suggestion);
+                    node.children.put(remaining.charAt(0), child);
+                    return;
+                }
+
+                int common = commonPrefixLength(child.label, remaining);
+                if (common < child.label.length()) {
+                    BuildNode split = new BuildNode(child.label.substring(0, common));
+                    child.label = child.label.substring(common);
+                    split.children.put(child.label.charAt(0), child);
+                    node.children.put(split.label.charAt(0), split);
+                    child = split;
+                }
+                node = child;
+                remaining = remaining.substring(common);
+            }
+            node.terminal.add(suggestion);
+        }
+
+        private Node freeze(int topK) {
+            char[] firstChars = new char[children.size()];
+            Node[] frozen = new Node[children.size()];
+            List<Suggestion> candidates = new ArrayList<>(terminal);
+
+            int i = 0;
+            for (Map.Entry<Character, BuildNode> entry : children.entrySet()) {
+                firstChars[i] = entry.getKey();
+                frozen[i] = entry.getValue().freeze(topK);
+                candidates.addAll(Arrays.asList(frozen[i].top));
+                i++;
+            }
+
+            candidates.sort(RANKING);
+            // A suggestion can arrive through several of its words
+            Set<Suggestion> top = new LinkedHashSet<>();
+            for (Suggestion candidate : candidates) {
+                if (top.size() == topK) {
+                    break;
+                }
+                top.add(candidate);
+            }
+            return new Node(label, firstChars, frozen, top.toArray(new Suggestion[0]));
+        }
+
+        private static int commonPrefixLength(String a, String b) {
+            int max = Math.min(a.length(), b.length());
+            int i = 0;
+            while (i < max && a.charAt(i) == b.charAt(i)) {
+                i++;
+            }
+            return i;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.Restaurant_Management.System.search;
+
+import com.Restaurant_Management.System.entity.Restaurant;
+import com.Restaurant_Management.System.entity.SearchHistory;
+import com.Restaurant_Management.System.event.RestaurantChangedEvent;
+import com.Restaurant_Management.System.repo.RestaurantRepo;
+import com.Restaurant_Management.System.repo.SearchHistoryRepo;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts searches that name a restaurant exactly, in memory, so the search path never writes.
+ *
+ * Trending is ranked by the count over a sliding window. Counts accumulated since the last
+ * flush are added to {@code search_history} on a schedule, keeping its all-time totals for
+ * popularity weighting elsewhere.
+ */
+@Slf4j
+@Component
+public class TrendingRestaurantTracker {
+
+    private final RestaurantRepo restaurantRepo;
+    private final SearchHistoryRepo searchHistoryRepo;
+    private final SlidingWindowCounter window;
+
+    private final Map<String, TrackedRestaurant> restaurantsById = new ConcurrentHashMap<>();
+    private final Map<String, TrackedRestaurant> restaurantsByName = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> unflushed = new ConcurrentHashMap<>();
+
+    public TrendingRestaurantTracker(RestaurantRepo restaurantRepo,
+                                     SearchHistoryRepo searchHistoryRepo,
+                                     @Value("${restaurant.trending.bucket-millis:300000}") long bucketMillis,
+                                     @Value("${restaurant.trending.buckets:12}") int buckets) {
+        this.restaurantRepo = restaurantRepo;
+        this.searchHistoryRepo = searchHistoryRepo;
+        this.window = new SlidingWindowCounter(bucketMillis, buckets);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        restaurantRepo.findAll().forEach(this::put);
+    }
+
+    @EventListener
+    public void onRestaurantChanged(RestaurantChangedEvent event) {
+        if (event.deleted()) {
+            TrackedRestaurant previous = restaurantsById.remove(event.restaurant().getRestaurantId());
+            if (previous != null) {
+                removeName(previous);
+            }
+        } else {
+            put(event.restaurant());
+        }
+    }
+
+    /**
+     * Counts the search if the text is a restaurant name, matched case-insensitively as MySQL does.
+     */
+    public void recordSearch(String searchText) {
+        if (searchText == null) {
+            return;
+        }
+        TrackedRestaurant restaurant = restaurantsByName.get(key(searchText));
+        if (restaurant == null) {
+            return;
+        }
+        String name = restaurant.name();
+        window.increment(name, System.currentTimeMillis());
+        unflushed.computeIfAbsent(name, k -> new LongAdder()).increment();
+    }
+
+    public List<Map.Entry<String, Long>> trending(int limit) {
+        return window.top(limit, System.currentTimeMillis());
+    }
+
+    public String imageUrlOf(String restaurantName) {
+        TrackedRestaurant restaurant = restaurantsByName.get(key(restaurantName));
+        return restaurant == null ? null : restaurant.imageUrl();
+    }
+
+    @Scheduled(fixedDelayString = "${restaurant.trending.flush-millis:30000}")
+    @PreDestroy
+    public void flush() {
+        Map<String, Long> deltas = new HashMap<>();
+        unflushed.forEach((name, count) -> {
+            long delta = count.sumThenReset();
+            if (delta > 0) {
+                deltas.put(name, delta);
+            }
+        });
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            Map<String, SearchHistory> existing = new HashMap<>();
+            searchHistoryRepo.findAllByRestaurantNameIn(deltas.keySet())
+                    .forEach(history -> existing.put(history.getRestaurantName(), history));
+
+            List<SearchHistory> updated = new ArrayList<>(deltas.size());
+            deltas.forEach((name, delta) -> {
+                SearchHistory history = existing.get(name);
+                if (history == null) {
+                    history = SearchHistory.builder()
+                            .search_id(UUID.randomUUID().toString())
+                            .restaurantName(name)
+                            .url(imageUrlOf(name))
+                            .build();
+                }
+                history.setSearchCount(history.getSearchCount() + delta);
+                history.setLatestCountAt(now);
+                updated.add(history);
+            });
+            searchHistoryRepo.saveAll(updated);
+        } catch (RuntimeException e) {
+            // Put the counts back so the next flush retries them
+            deltas.forEach((name, delta) -> unflushed.computeIfAbsent(name, k -> new LongAdder()).add(delta));
+            log.warn("Failed to flush search counts: {}", e.getMessage());
+        }
+    }
+
+    private void put(Restaurant restaurant) {
+        TrackedRestaurant tracked = new TrackedRestaurant(restaurant.getRestaurantId(), restaurant.getRestaurantName(),
+                restaurant.getImageUrl());
+        TrackedRestaurant previous = restaurantsById.put(restaurant.getRestaurantId(), tracked);
+        if (previous != null) {
+            removeName(previous);
+        }
+        if (tracked.name() != null) {
+            restaurantsByName.put(key(tracked.name()), tracked);
+        }
+    }
+
+    // Names are not unique, so the entry is only removed while it is this restaurant's, and
+    // another restaurant of the same name then takes it over
+    private void removeName(TrackedRestaurant previous) {
+        if (previous.name() == null) {
+            return;
+        }
+        String key = key(previous.name());
+        if (restaurantsByName.remove(key, previous)) {
+            restaurantsById.values().stream()
+                    .filter(other -> other.name() != null && key(other.name()).equals(key))
+                    .findFirst()
+                    .ifPresent(other -> restaurantsByName.putIfAbsent(key, other));
+        }
+    }
+
+    private static String key(String restaurantName) {
+        return restaurantName.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record TrackedRestaurant(String restaurantId, String name, String imageUrl) {
+    }
+}
@@ -8,12 +8,16 @@ import com.Restaurant_Management.System.entity.Cart;
 
 import java.util.List;
 
+/**
+ * Cart edits take the cart version the client last saw, or null to apply unconditionally, and
+ * return the version after the edit.
+ */
 public interface CartService {
-    public void addToCart(FoodCartRequestDto dto);
-    public void removeFromCart(String userId,String foodId);
+    public long addToCart(FoodCartRequestDto dto, Long expectedVersion);
+    public long removeFromCart(String userId,String foodId, Long expectedVersion);
     public CartResponseDto getCartByUserId(String userId);
-    void updateCartItemQuantity(String userId, String foodId, int quantity,boolean increase);
-    void addFoodItemsToExistingCart(String userId, List<FoodCartItemRequestDto> foodItems);
-    void clearCart(String userId);
+    long updateCartItemQuantity(String userId, String foodId, int quantity,boolean increase, Long expectedVersion);
+    long addFoodItemsToExistingCart(String userId, List<FoodCartItemRequestDto> foodItems, Long expectedVersion);
+    long clearCart(String userId, Long expectedVersion);
 
 }
@@ -0,0 +1,12 @@
+package com.Restaurant_Management.System.service;
+
+import com.Restaurant_Management.System.dto.request.CheckoutRequestDto;
+import com.Restaurant_Management.System.dto.response.CheckoutResponseDto;
+
+/**
+ * Turns a cart into orders and empties it. Either every order is placed and the cart is
+ * emptied, or the orders already placed are cancelled and the cart is left as it was.
+ */
+public interface CheckoutService {
+    CheckoutResponseDto checkout(String userId, CheckoutRequestDto dto, Long expectedVersion);
+}
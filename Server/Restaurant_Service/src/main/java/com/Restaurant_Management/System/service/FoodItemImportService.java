@@ -0,0 +1,11 @@
+package com.Restaurant_Management.System.service;
+
+import com.Restaurant_Management.System.dto.response.FoodItemImportResponseDto;
+import com.Restaurant_Management.System.menu.FoodItemImportReader;
+
+import java.io.InputStream;
+
+public interface FoodItemImportService {
+
+    public FoodItemImportResponseDto importFoodItems(String restaurantId, InputStream body, FoodItemImportReader.Format format);
+}
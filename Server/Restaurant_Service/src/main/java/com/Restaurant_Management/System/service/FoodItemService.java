@@ -2,10 +2,15 @@ package com.Restaurant_Management.System.service;
 
 import com.Restaurant_Management.System.dto.request.FoodItemsRequestDto;
 import com.Restaurant_Management.System.dto.request.RestaurantRequestDto;
+import com.Restaurant_Management.System.dto.response.CategoryCountResponseDto;
+import com.Restaurant_Management.System.dto.response.FoodItemPriceResponseDto;
 import com.Restaurant_Management.System.dto.response.FoodItemResponseDto;
+import com.Restaurant_Management.System.dto.response.MenuResponseDto;
 import com.Restaurant_Management.System.dto.response.RestaurantResponseDto;
+import com.Restaurant_Management.System.dto.response.paginate.FoodItemFacetedResponseDto;
 import com.Restaurant_Management.System.dto.response.paginate.FoodItemResponsePaginateDto;
 import com.Restaurant_Management.System.dto.response.paginate.RestaurantResponsePaginateDto;
+import com.Restaurant_Management.System.util.CountMode;
 
 import java.util.List;
 
@@ -15,8 +20,15 @@ public interface FoodItemService  {
     public void foodItemUpdate(FoodItemsRequestDto dto, String id);
     public FoodItemResponseDto foodItemFindById(String id);
     public void foodItemDeleteById(String id);
-    public FoodItemResponsePaginateDto findAllFoodItem(String searchText, int page, int size);
+    public FoodItemResponsePaginateDto findAllFoodItem(String searchText, int page, int size, CountMode countMode);
     public List<String> getAllCategories();
+    public List<CategoryCountResponseDto> getCategoryCounts();
+    public List<CategoryCountResponseDto> getCategoryCountsByRestaurant(String restaurantId);
     public FoodItemResponsePaginateDto getFoodItemByRestaurantAndCategory(String searchText, int page, int size,String restaurantId, String category);
+    public List<FoodItemPriceResponseDto> getFoodItemPrices(List<String> ids);
+    public MenuResponseDto getMenu(String restaurantId);
+    public FoodItemFacetedResponseDto searchFoodItems(String searchText, List<String> types, List<String> categories,
+                                                      List<String> priceRanges, Boolean discounted, Boolean available,
+                                                      int page, int size);
 
 }
@@ -3,13 +3,17 @@ package com.Restaurant_Management.System.service;
 import com.Restaurant_Management.System.dto.request.RestaurantAvailabilityDto;
 import com.Restaurant_Management.System.dto.request.RestaurantOrderAvailabilityDto;
 import com.Restaurant_Management.System.dto.request.RestaurantRequestDto;
+import com.Restaurant_Management.System.dto.response.NearbyRestaurantResponseDto;
 import com.Restaurant_Management.System.dto.response.RestaurantResponseDto;
 import com.Restaurant_Management.System.dto.response.SearchHistoryResponseDto;
+import com.Restaurant_Management.System.dto.response.SuggestionResponseDto;
 import com.Restaurant_Management.System.dto.response.paginate.RestaurantResponsePaginateDto;
 import com.Restaurant_Management.System.dto.response.paginate.TrendingRestaurantResponseListDto;
 import com.Restaurant_Management.System.entity.Restaurant;
+import com.Restaurant_Management.System.util.CountMode;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 public interface RestaurantService {
 
@@ -17,10 +21,14 @@ public interface RestaurantService {
     public void restaurantUpdate(RestaurantRequestDto dto, String id);
     public RestaurantResponseDto restaurantFindById(String id);
     public void restaurantDeleteById(String id);
-    public RestaurantResponsePaginateDto findAllRestaurant(String searchText, int page, int size);
+    public RestaurantResponsePaginateDto findAllRestaurant(String searchText, int page, int size, CountMode countMode, boolean openNow);
     public void setRestaurantAvailability(String id, RestaurantAvailabilityDto dto);
     public  void setOrderAvailability(String id, RestaurantOrderAvailabilityDto dto);
     public TrendingRestaurantResponseListDto trendingRestaurant();
     public String getRestaurantIdByRestaurantName(String restaurantName);
     public RestaurantResponseDto getRestaurantByOwnerUsername(String username);
+    public List<SuggestionResponseDto> suggest(String prefix, int limit);
+    public List<NearbyRestaurantResponseDto> findNearbyRestaurants(double latitude, double longitude, double radiusKm,
+                                                                   Boolean availability, Boolean orderAvailability,
+                                                                   boolean openNow, double ratingWeight, int limit);
 }
@@ -1,234 +1,158 @@
 package com.Restaurant_Management.System.service.impl;
 
+import com.Restaurant_Management.System.cart.CartLine;
+import com.Restaurant_Management.System.cart.CartSnapshot;
+import com.Restaurant_Management.System.cart.CartStore;
 import com.Restaurant_Management.System.dto.request.FoodCartItemRequestDto;
 import com.Restaurant_Management.System.dto.request.FoodCartRequestDto;
-import com.Restaurant_Management.System.dto.response.CartItemResponseDto;
 import com.Restaurant_Management.System.dto.response.CartResponseDto;
-import com.Restaurant_Management.System.entity.Cart;
-import com.Restaurant_Management.System.entity.CartItems;
-import com.Restaurant_Management.System.entity.FoodItem;
+import com.Restaurant_Management.System.exception.BadRequestException;
 import com.Restaurant_Management.System.exception.EntryNotFoundException;
-import com.Restaurant_Management.System.repo.CartRepo;
-import com.Restaurant_Management.System.repo.FoodItemRepo;
+import com.Restaurant_Management.System.menu.CachedFoodItem;
+import com.Restaurant_Management.System.menu.FoodItemCache;
 import com.Restaurant_Management.System.service.CartService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class CartServiceImpl implements CartService {
 
-    private final FoodItemRepo foodItemRepo;
-    private final CartRepo cartRepo;
+    private final FoodItemCache foodItemCache;
+    private final CartStore cartStore;
 
     @Override
-    public void addToCart(FoodCartRequestDto dto) {
-        Cart cart = cartRepo.findByUserId(dto.getUserId());
-        if( cart == null ) {
-           cart = createNewCart(dto);
-        }else {
-            updateCartItems(cart, dto);
-        }
-        cartRepo.save(cart);
+    public long addToCart(FoodCartRequestDto dto, Long expectedVersion) {
+        Map<String, CachedFoodItem> foodItems = resolve(dto.getCartItems());
+        List<CartLine> lines = toCartLines(dto.getCartItems(), foodItems);
+        long version = cartStore.update(dto.getUserId(), true, expectedVersion, cart -> lines.forEach(cart::add))
+                .orElseThrow()
+                .version();
+        recheck(dto.getUserId(), foodItems);
+        return version;
     }
 
     @Override
-    public void removeFromCart(String userId, String foodId) {
-        Cart cart = cartRepo.findCartByUserId(userId)
-                .orElseThrow(() -> new EntryNotFoundException("Cart not found for user: " + userId));
-
-
-        CartItems itemToRemove = cart.getCartItems().stream()
-                .filter(item -> item.getFoodItem().getFoodItemId().equals(foodId))
-                .findFirst()
-                .orElseThrow(() -> new EntryNotFoundException("Food item not found in cart"));
-
-
-        cart.getCartItems().remove(itemToRemove);
-
-
-        cart.setTotalPrice(calculateTotalPrice(cart));
-
-
-        cartRepo.save(cart);
+    public long removeFromCart(String userId, String foodId, Long expectedVersion) {
+        return cartStore.update(userId, false, expectedVersion, cart -> {
+            if (cart.remove(foodId) == null) {
+                throw new EntryNotFoundException("Food item not found in cart");
+            }
+        }).orElseThrow(() -> cartNotFound(userId)).version();
     }
 
 
     @Override
-    public void addFoodItemsToExistingCart(String userId, List<FoodCartItemRequestDto> foodItems) {
-        // Find existing cart by userId
-        Cart cart = cartRepo.findCartByUserId(userId)
-                .orElseThrow(() -> new EntryNotFoundException("Cart not found for user: " + userId));
-
-        // Create a FoodCartRequestDto to reuse existing logic
-        FoodCartRequestDto requestDto = FoodCartRequestDto.builder()
-                .userId(userId)
-                .cartItems(foodItems)
-                .build();
-
-        // Update the cart with new items
-        updateCartItems(cart, requestDto);
-
-        // Save the updated cart
-        cartRepo.save(cart);
+    public long addFoodItemsToExistingCart(String userId, List<FoodCartItemRequestDto> foodItems, Long expectedVersion) {
+        Map<String, CachedFoodItem> resolved = resolve(foodItems);
+        List<CartLine> lines = toCartLines(foodItems, resolved);
+        long version = cartStore.update(userId, false, expectedVersion, cart -> lines.forEach(cart::add))
+                .orElseThrow(() -> cartNotFound(userId))
+                .version();
+        recheck(userId, resolved);
+        return version;
     }
 
     @Override
     public CartResponseDto getCartByUserId(String userId) {
-        Cart cart = cartRepo.findCartByUserId(userId)
-                .orElseThrow(() -> new EntryNotFoundException("Cart not found for user: " + userId));
-
-        return toCartResponseDto(cart);
+        return toCartResponseDto(cartStore.get(userId).orElseThrow(() -> cartNotFound(userId)));
     }
 
     @Override
-    public void clearCart(String userId) {
-        Cart cart = cartRepo.findByUserId(userId);
-        if (cart == null) {
-            throw new RuntimeException("Cart not found for user: " + userId);
-        }
-
-        cart.getCartItems().clear();
-        cart.setTotalPrice(0.0);
-        cartRepo.save(cart);
+    public long clearCart(String userId, Long expectedVersion) {
+        return cartStore.update(userId, false, expectedVersion, cart -> cart.clear())
+                .orElseThrow(() -> cartNotFound(userId))
+                .version();
     }
-    @Override
-    public void updateCartItemQuantity(String userId, String foodId, int quantity, boolean increase) {
-        Cart cart = cartRepo.findCartByUserId(userId)
-                .orElseThrow(() -> new EntryNotFoundException("Cart not found for user: " + userId));
-
-        CartItems item = cart.getCartItems().stream()
-                .filter(cartItem -> cartItem.getFoodItem().getFoodItemId().equals(foodId))
-                .findFirst()
-                .orElseThrow(() -> new EntryNotFoundException("Food item not found in cart"));
 
-        int updatedQuantity;
-        if (increase) {
-
-            updatedQuantity = item.getQuantity() + quantity;
-        } else {
-
-            updatedQuantity = item.getQuantity() - quantity;
-            if (updatedQuantity <= 0) {
-                cart.getCartItems().remove(item);
-            }
-        }
-
-        if (updatedQuantity > 0) {
-            item.setQuantity(updatedQuantity);
+    @Override
+    public long updateCartItemQuantity(String userId, String foodId, int quantity, boolean increase, Long expectedVersion) {
+        if (quantity <= 0) {
+            throw new BadRequestException("Quantity must be positive");
         }
-
-        cart.setTotalPrice(calculateTotalPrice(cart));
-        cartRepo.save(cart);
+        return cartStore.update(userId, false, expectedVersion, cart -> {
+            CartLine line = cart.line(foodId);
+            if (line == null) {
+                throw new EntryNotFoundException("Food item not found in cart");
+            }
+            int updatedQuantity = increase ? line.quantity() + quantity : line.quantity() - quantity;
+            if (updatedQuantity > 0) {
+                cart.put(line.withQuantity(updatedQuantity));
+            } else {
+                cart.remove(foodId);
+            }
+        }).orElseThrow(() -> cartNotFound(userId)).version();
     }
 
-    private CartResponseDto toCartResponseDto(Cart cart) {
-        List<FoodCartItemRequestDto> cartItems = cart.getCartItems().stream().map(item ->
+    private CartResponseDto toCartResponseDto(CartSnapshot cart) {
+        List<FoodCartItemRequestDto> cartItems = cart.lines().stream().map(line ->
                 FoodCartItemRequestDto.builder()
-                        .foodItemId(item.getFoodItem().getFoodItemId())
-                        .foodName(item.getFoodItem().getName())
-                        .foodImage(item.getFoodItem().getImageUrl())
-                        .restaurantId(item.getFoodItem().getRestaurant().getRestaurantId())
-                        .restaurantName(item.getFoodItem().getRestaurant().getRestaurantName())
-                        .price(item.getFoodItem().getPrice())
-                        .quantity(item.getQuantity())
+                        .foodItemId(line.foodItemId())
+                        .foodName(line.foodName())
+                        .foodImage(line.foodImage())
+                        .restaurantId(line.restaurantId())
+                        .restaurantName(line.restaurantName())
+                        .price(line.price())
+                        .discount(line.discount())
+                        .available(!line.unavailable())
+                        .quantity(line.quantity())
                         .build()
         ).toList();
 
         return CartResponseDto.builder()
-                .userId(cart.getUserId())
-                .cartId(cart.getCartId())
+                .userId(cart.userId())
+                .cartId(cart.cartId())
                 .cartItems(cartItems)
-                .totalPrice(cart.getTotalPrice())
-                .createdAt(cart.getCreatedAt())
+                .totalPrice(cart.totalPrice())
+                .createdAt(cart.createdAt())
+                .version(cart.version())
                 .build();
     }
 
-    private Cart createNewCart(FoodCartRequestDto dto) {
-        List<CartItems> cartItems = new ArrayList<>();
-        double totalPrice = 0;
-
-        for (FoodCartItemRequestDto cartDto : dto.getCartItems()) {
-            FoodItem foodItem = foodItemRepo.findFoodItemByFoodItemId(cartDto.getFoodItemId())
-                    .orElseThrow(() -> new EntryNotFoundException("Food item not found"));
-
-            CartItems cartItem = CartItems.builder()
-                    .id(UUID.randomUUID().toString())
-                    .foodItem(foodItem)
-                    .foodName(foodItem.getName())
-                    .quantity(cartDto.getQuantity())
-                    .build();
-
-            cartItems.add(cartItem);
-            totalPrice += foodItem.getPrice() * cartDto.getQuantity();
-        }
-
-        Cart newCart = Cart.builder()
-                .cartId(UUID.randomUUID().toString())
-                .userId(dto.getUserId())
-                .cartItems(cartItems)
-                .totalPrice(totalPrice)
-                .createdAt(LocalDateTime.now())
-                .build();
+    // Food items are resolved in one lookup before the cart is locked, so database reads never hold a stripe
+    private Map<String, CachedFoodItem> resolve(List<FoodCartItemRequestDto> items) {
+        return foodItemCache.getAll(items.stream().map(FoodCartItemRequestDto::getFoodItemId).collect(Collectors.toSet()));
+    }
 
-        // Set cart reference for each cart item
-        for (CartItems cartItem : cartItems) {
-            cartItem.setFoodCart(newCart);
+    // A menu change between the lookup and the commit found no cart holding the item, so the
+    // lines are compared with the cache again and any that moved are repriced on next use
+    private void recheck(String userId, Map<String, CachedFoodItem> resolved) {
+        Map<String, CachedFoodItem> current = foodItemCache.getAll(resolved.keySet());
+        List<String> changed = resolved.keySet().stream()
+                .filter(foodItemId -> !resolved.get(foodItemId).equals(current.get(foodItemId)))
+                .toList();
+        if (!changed.isEmpty()) {
+            cartStore.markStale(userId, changed);
         }
-
-        return newCart;
     }
 
-    private void updateCartItems(Cart cart, FoodCartRequestDto dto) {
-        double totalPrice = 0;
-
-        for (FoodCartItemRequestDto cartDto : dto.getCartItems()) {
-            FoodItem foodItem = foodItemRepo.findFoodItemByFoodItemId(cartDto.getFoodItemId())
-                    .orElseThrow(() -> new EntryNotFoundException("Food item not found"));
-
-
-            CartItems existingCartItem = cart.getCartItems().stream()
-                    .filter(item -> item.getFoodItem().getFoodItemId().equals(foodItem.getFoodItemId()))
-                    .findFirst()
-                    .orElse(null);
-
-            if (existingCartItem != null) {
-                int updatedQuantity = existingCartItem.getQuantity() + cartDto.getQuantity();
-                existingCartItem.setQuantity(updatedQuantity);
-                totalPrice += foodItem.getPrice() * existingCartItem.getQuantity();
-            } else {
-
-                CartItems newCartItem = CartItems.builder()
-                        .id(UUID.randomUUID().toString())
-                        .foodItem(foodItem)
-                        .foodName(foodItem.getName())
-                        .quantity(cartDto.getQuantity())
-                        .foodCart(cart)
-                        .build();
-                cart.getCartItems().add(newCartItem);
-                totalPrice += foodItem.getPrice() * cartDto.getQuantity();
+    private List<CartLine> toCartLines(List<FoodCartItemRequestDto> items, Map<String, CachedFoodItem> foodItems) {
+        return items.stream().map(cartDto -> {
+            if (cartDto.getQuantity() <= 0) {
+                throw new BadRequestException("Quantity must be positive");
             }
-
-
-
-        }
-
-
-        cart.setTotalPrice(totalPrice);
+            CachedFoodItem foodItem = foodItems.get(cartDto.getFoodItemId());
+            if (foodItem == null) {
+                throw new EntryNotFoundException("Food item not found");
+            }
+            return new CartLine(
+                    foodItem.foodItemId(),
+                    foodItem.name(),
+                    foodItem.imageUrl(),
+                    foodItem.restaurantId(),
+                    foodItem.restaurantName(),
+                    foodItem.price(),
+                    foodItem.discount(),
+                    !foodItem.available(),
+                    cartDto.getQuantity());
+        }).toList();
     }
 
-    private double calculateTotalPrice(Cart cart) {
-        return cart.getCartItems().stream()
-                .mapToDouble(item -> item.getFoodItem().getPrice() * item.getQuantity())
-                .sum();
+    private static EntryNotFoundException cartNotFound(String userId) {
+        return new EntryNotFoundException("Cart not found for user: " + userId);
     }
-
-
-
 }
-
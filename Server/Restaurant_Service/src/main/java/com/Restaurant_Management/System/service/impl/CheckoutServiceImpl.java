@@ -0,0 +1,238 @@
+package com.Restaurant_Management.System.service.impl;
+
+import com.Restaurant_Management.System.cart.CartDraft;
+import com.Restaurant_Management.System.cart.CartLine;
+import com.Restaurant_Management.System.cart.CartPricing;
+import com.Restaurant_Management.System.cart.CartSnapshot;
+import com.Restaurant_Management.System.cart.CartStore;
+import com.Restaurant_Management.System.checkout.OrderClient;
+import com.Restaurant_Management.System.dto.request.CheckoutRequestDto;
+import com.Restaurant_Management.System.dto.response.CheckoutResponseDto;
+import com.Restaurant_Management.System.exception.BadRequestException;
+import com.Restaurant_Management.System.exception.EntryNotFoundException;
+import com.Restaurant_Management.System.exception.PreconditionFailedException;
+import com.Restaurant_Management.System.exception.ServiceUnavailableException;
+import com.Restaurant_Management.System.menu.CachedFoodItem;
+import com.Restaurant_Management.System.menu.FoodItemCache;
+import com.Restaurant_Management.System.service.CheckoutService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Checkout runs as a saga against Order_Service. The cart is read at one version, its lines are
+ * checked against current menu prices, and the cart is claimed by moving it to a new version.
+ * One order per restaurant is then placed, keyed by cart, claimed version and restaurant, and
+ * the cart is emptied only if it is still at the claimed version. If any step fails, the orders
+ * placed so far are cancelled. For an order whose placement timed out, Order_Service is asked
+ * which order, if any, was placed with its key, and only that order is cancelled.
+ *
+ * Carts live in one instance's memory, so a second checkout of a cart while one is running is
+ * refused here before it reaches Order_Service. A retry after a failed checkout claims a new
+ * version and therefore uses new keys.
+ */
+@Slf4j
+@Service
+public class CheckoutServiceImpl implements CheckoutService {
+
+    private final CartStore cartStore;
+    private final FoodItemCache foodItemCache;
+    private final OrderClient orderClient;
+    private final Counter placed;
+    private final Counter rejected;
+    private final Counter compensated;
+    private final Counter compensationFailures;
+    private final Set<String> checkingOut = ConcurrentHashMap.newKeySet();
+
+    public CheckoutServiceImpl(CartStore cartStore,
+                               FoodItemCache foodItemCache,
+                               OrderClient orderClient,
+                               MeterRegistry meterRegistry) {
+        this.cartStore = cartStore;
+        this.foodItemCache = foodItemCache;
+        this.orderClient = orderClient;
+        this.placed = meterRegistry.counter("cart.checkouts", "result", "placed");
+        this.rejected = meterRegistry.counter("cart.checkouts", "result", "rejected");
+        this.compensated = meterRegistry.counter("cart.checkouts", "result", "compensated");
+        this.compensationFailures = meterRegistry.counter("cart.checkout.compensation.failures");
+    }
+
+    @Override
+    public CheckoutResponseDto checkout(String userId, CheckoutRequestDto dto, Long expectedVersion) {
+        if (!checkingOut.add(userId)) {
+            rejected.increment();
+            throw new PreconditionFailedException("Cart is already being checked out");
+        }
+        try {
+            return checkoutClaimed(userId, dto, expectedVersion);
+        } finally {
+            checkingOut.remove(userId);
+        }
+    }
+
+    private CheckoutResponseDto checkoutClaimed(String userId, CheckoutRequestDto dto, Long expectedVersion) {
+        CartSnapshot cart = cartStore.get(userId)
+                .filter(snapshot -> !snapshot.deleted())
+                .orElseThrow(() -> new EntryNotFoundException("Cart not found for user: " + userId));
+        List<OrderClient.OrderRequest> orders;
+        CartSnapshot claimed;
+        try {
+            if (expectedVersion != null && expectedVersion != cart.version()) {
+                throw new PreconditionFailedException("Cart has changed, expected version " + expectedVersion
+                        + " but is " + cart.version());
+            }
+            orders = toOrderRequests(userId, cart, dto);
+            // A version of its own for this attempt, so its idempotency keys are never reused
+            claimed = cartStore.update(userId, false, cart.version(), draft -> { })
+                    .orElseThrow(() -> new EntryNotFoundException("Cart not found for user: " + userId));
+        } catch (RuntimeException e) {
+            rejected.increment();
+            throw e;
+        }
+
+        List<OrderClient.PlacedOrder> placedOrders = new ArrayList<>();
+        Placement inDoubt = null;
+        long cartVersion;
+        try {
+            for (OrderClient.OrderRequest order : orders) {
+                Placement placement = new Placement(order,
+                        claimed.cartId() + ":" + claimed.version() + ":" + order.restaurantId());
+                try {
+                    placedOrders.add(placeOrder(placement));
+                } catch (ServiceUnavailableException e) {
+                    inDoubt = placement;
+                    throw e;
+                }
+            }
+            // Fails if the cart was edited while orders were placed
+            cartVersion = cartStore.update(userId, false, claimed.version(), CartDraft::clear)
+                    .orElseThrow(() -> new PreconditionFailedException("Cart was removed during checkout"))
+                    .version();
+        } catch (RuntimeException e) {
+            compensate(userId, placedOrders, inDoubt);
+            throw e;
+        }
+
+        try {
+            cartStore.persist(userId);
+        } catch (RuntimeException e) {
+            // The emptied cart is journaled, so the next flush stores it
+            log.warn("Checked out cart of user {} will be stored by the next flush: {}", userId, e.getMessage());
+        }
+        placed.increment();
+
+        return CheckoutResponseDto.builder()
+                .orderIds(placedOrders.stream().map(OrderClient.PlacedOrder::orderId).toList())
+                .totalAmount(placedOrders.stream()
+                        .map(OrderClient.PlacedOrder::totalAmount)
+                        .filter(Objects::nonNull)
+                        .reduce(BigDecimal.ZERO, BigDecimal::add))
+                .cartVersion(cartVersion)
+                .build();
+    }
+
+    // Prices come from the menu, never from the cart the client built
+    private List<OrderClient.OrderRequest> toOrderRequests(String userId, CartSnapshot cart, CheckoutRequestDto dto) {
+        if (dto.getDeliveryAddress() == null || dto.getDeliveryAddress().isBlank()) {
+            throw new BadRequestException("Delivery address cannot be empty");
+        }
+        if (dto.getContactPhone() == null || dto.getContactPhone().isBlank()) {
+            throw new BadRequestException("Contact phone cannot be empty");
+        }
+        if (cart.lines().isEmpty()) {
+            throw new BadRequestException("Cart is empty");
+        }
+
+        Map<String, CachedFoodItem> foodItems = foodItemCache.getAll(
+                cart.lines().stream().map(CartLine::foodItemId).collect(Collectors.toSet()));
+        List<String> unavailable = cart.lines().stream()
+                .filter(line -> {
+                    CachedFoodItem foodItem = foodItems.get(line.foodItemId());
+                    return foodItem == null || !foodItem.available();
+                })
+                .map(CartLine::foodName)
+                .toList();
+        if (!unavailable.isEmpty()) {
+            throw new BadRequestException("Not available anymore: " + String.join(", ", unavailable));
+        }
+
+        Map<String, List<OrderClient.OrderItemRequest>> itemsByRestaurant = new LinkedHashMap<>();
+        for (CartLine line : cart.lines()) {
+            CachedFoodItem foodItem = foodItems.get(line.foodItemId());
+            long unitCents = CartPricing.unitPriceCents(foodItem.price(), foodItem.discount());
+            itemsByRestaurant.computeIfAbsent(foodItem.restaurantId(), id -> new ArrayList<>())
+                    .add(new OrderClient.OrderItemRequest(foodItem.foodItemId(), foodItem.name(), line.quantity(),
+                            BigDecimal.valueOf(unitCents, 2), BigDecimal.valueOf(unitCents * line.quantity(), 2)));
+        }
+
+        return itemsByRestaurant.entrySet().stream()
+                .map(entry -> new OrderClient.OrderRequest(userId, entry.getKey(), dto.getDeliveryAddress(),
+                        dto.getLatitude(), dto.getLongitude(), dto.getContactPhone(), dto.getDeliveryFee(),
+                        dto.getTax(), entry.getValue()))
+                .toList();
+    }
+
+    // Throws ServiceUnavailableException if the order may or may not have been placed
+    private OrderClient.PlacedOrder placeOrder(Placement placement) {
+        OrderClient.OrderRequest order = placement.order();
+        try {
+            OrderClient.PlacedOrder placedOrder = orderClient.place(order, placement.idempotencyKey());
+            if (placedOrder == null || placedOrder.orderId() == null) {
+                throw new ServiceUnavailableException("Order Service did not return the placed order");
+            }
+            return placedOrder;
+        } catch (HttpClientErrorException e) {
+            throw new BadRequestException("Order for restaurant " + order.restaurantId() + " was rejected: "
+                    + e.getResponseBodyAsString());
+        } catch (RestClientException e) {
+            throw new ServiceUnavailableException("Unable to place the order, please try again");
+        }
+    }
+
+    private void compensate(String userId, List<OrderClient.PlacedOrder> placedOrders, Placement inDoubt) {
+        if (placedOrders.isEmpty() && inDoubt == null) {
+            rejected.increment();
+            return;
+        }
+        List<Long> orderIds = new ArrayList<>();
+        placedOrders.forEach(placedOrder -> orderIds.add(placedOrder.orderId()));
+        if (inDoubt != null) {
+            try {
+                // Only looks the key up, so nothing is placed if the timed out request was not
+                orderClient.findPlaced(userId, inDoubt.order().restaurantId(), inDoubt.idempotencyKey())
+                        .ifPresent(placedOrder -> orderIds.add(placedOrder.orderId()));
+            } catch (RuntimeException e) {
+                compensationFailures.increment();
+                log.error("Order {} of user {} may have been placed and could not be cancelled: {}",
+                        inDoubt.idempotencyKey(), userId, e.getMessage());
+            }
+        }
+        for (int i = orderIds.size() - 1; i >= 0; i--) {
+            Long orderId = orderIds.get(i);
+            try {
+                orderClient.cancel(orderId);
+            } catch (RuntimeException e) {
+                compensationFailures.increment();
+                log.error("Failed to cancel order {} of user {} after a failed checkout: {}",
+                        orderId, userId, e.getMessage());
+            }
+        }
+        compensated.increment();
+    }
+
+    private record Placement(OrderClient.OrderRequest order, String idempotencyKey) {
+    }
+}
@@ -0,0 +1,186 @@
+package com.Restaurant_Management.System.service.impl;
+
+import com.Restaurant_Management.System.dto.request.FoodItemsRequestDto;
+import com.Restaurant_Management.System.dto.response.FoodItemImportErrorDto;
+import com.Restaurant_Management.System.dto.response.FoodItemImportResponseDto;
+import com.Restaurant_Management.System.entity.FoodItem;
+import com.Restaurant_Management.System.entity.Restaurant;
+import com.Restaurant_Management.System.event.FoodItemsImportedEvent;
+import com.Restaurant_Management.System.exception.BadRequestException;
+import com.Restaurant_Management.System.exception.EntryNotFoundException;
+import com.Restaurant_Management.System.menu.FoodItemImportReader;
+import com.Restaurant_Management.System.menu.MenuSnapshotCache;
+import com.Restaurant_Management.System.repo.FoodItemBatchWriter;
+import com.Restaurant_Management.System.repo.RestaurantRepo;
+import com.Restaurant_Management.System.service.FoodItemImportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Service
+public class FoodItemImportServiceImpl implements FoodItemImportService {
+
+    private static final int MAX_REPORTED_ERRORS = 1000;
+    private static final int MAX_NAME_LENGTH = 255;
+
+    private final RestaurantRepo restaurantRepo;
+    private final FoodItemBatchWriter foodItemBatchWriter;
+    private final MenuSnapshotCache menuSnapshotCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+
+    public FoodItemImportServiceImpl(RestaurantRepo restaurantRepo,
+                                     FoodItemBatchWriter foodItemBatchWriter,
+                                     MenuSnapshotCache menuSnapshotCache,
+                                     ApplicationEventPublisher eventPublisher,
+                                     ObjectMapper objectMapper,
+                                     @Value("${restaurant.import.batch-size:500}") int batchSize) {
+        this.restaurantRepo = restaurantRepo;
+        this.foodItemBatchWriter = foodItemBatchWriter;
+        this.menuSnapshotCache = menuSnapshotCache;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public FoodItemImportResponseDto importFoodItems(String restaurantId, InputStream body, FoodItemImportReader.Format format) {
+        Restaurant restaurant = restaurantRepo.findById(restaurantId)
+                .orElseThrow(() -> new EntryNotFoundException("Restaurant not found"));
+
+        Import result = new Import();
+        List<FoodItem> batch = new ArrayList<>(batchSize);
+        List<Long> batchLines = new ArrayList<>(batchSize);
+        LocalDateTime now = LocalDateTime.now();
+
+        try (FoodItemImportReader reader = new FoodItemImportReader(
+                new InputStreamReader(body, StandardCharsets.UTF_8), format, objectMapper)) {
+            FoodItemImportReader.Row row;
+            while ((row = reader.next()) != null) {
+                String error = row.error() != null ? row.error() : validate(row.item());
+                if (error != null) {
+                    result.fail(row.lineNumber(), error);
+                    continue;
+                }
+                batch.add(toFoodItem(row.item(), restaurant, now));
+                batchLines.add(row.lineNumber());
+                if (batch.size() == batchSize) {
+                    flush(batch, batchLines, result);
+                }
+            }
+            flush(batch, batchLines, result);
+        } catch (IOException e) {
+            throw new BadRequestException("Failed to read import: " + e.getMessage());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(e.getMessage());
+        } finally {
+            if (result.imported > 0) {
+                menuSnapshotCache.evict(restaurantId);
+            }
+        }
+
+        return FoodItemImportResponseDto.builder()
+                .imported(result.imported)
+                .failed(result.failed)
+                .errors(result.errors)
+                .errorsTruncated(result.failed > result.errors.size())
+                .build();
+    }
+
+    private void flush(List<FoodItem> batch, List<Long> batchLines, Import result) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            foodItemBatchWriter.insertAll(batch);
+            published(batch, result);
+        } catch (DataAccessException e) {
+            // Retry row by row so only the offending rows are reported
+            List<FoodItem> inserted = new ArrayList<>(batch.size());
+            for (int i = 0; i < batch.size(); i++) {
+                try {
+                    foodItemBatchWriter.insertAll(List.of(batch.get(i)));
+                    inserted.add(batch.get(i));
+                } catch (DataAccessException rowException) {
+                    result.fail(batchLines.get(i), rowException.getMostSpecificCause().getMessage());
+                }
+            }
+            published(inserted, result);
+        }
+        batch.clear();
+        batchLines.clear();
+    }
+
+    // One event per batch, so listeners update their indexes once rather than once per row
+    private void published(List<FoodItem> foodItems, Import result) {
+        if (foodItems.isEmpty()) {
+            return;
+        }
+        result.imported += foodItems.size();
+        eventPublisher.publishEvent(new FoodItemsImportedEvent(foodItems));
+    }
+
+    private static String validate(FoodItemsRequestDto item) {
+        if (item.getName() == null || item.getName().isBlank()) {
+            return "Name is required";
+        }
+        if (item.getName().length() > MAX_NAME_LENGTH) {
+            return "Name is longer than " + MAX_NAME_LENGTH + " characters";
+        }
+        // Double.parseDouble and Jackson both accept "NaN" and "Infinity"
+        if (!Double.isFinite(item.getPrice())) {
+            return "Price must be a number";
+        }
+        if (item.getPrice() < 0) {
+            return "Price must not be negative";
+        }
+        if (item.getDiscount() < 0 || item.getDiscount() > 100) {
+            return "Discount must be between 0 and 100";
+        }
+        return null;
+    }
+
+    private static FoodItem toFoodItem(FoodItemsRequestDto dto, Restaurant restaurant, LocalDateTime createdAt) {
+        return FoodItem.builder()
+                .foodItemId(UUID.randomUUID().toString())
+                .name(dto.getName().trim())
+                .type(dto.getType())
+                .category(dto.getCategory())
+                .price(dto.getPrice())
+                .discount(dto.getDiscount())
+                .imageUrl(dto.getImageUrl())
+                .description(dto.getDescription())
+                .available(dto.isAvailable())
+                .restaurantName(restaurant.getRestaurantName())
+                .restaurant(restaurant)
+                .createdAt(createdAt)
+                .build();
+    }
+
+    private static final class Import {
+        private long imported;
+        private long failed;
+        private final List<FoodItemImportErrorDto> errors = new ArrayList<>();
+
+        private void fail(long line, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(FoodItemImportErrorDto.builder().line(line).message(message).build());
+            }
+        }
+    }
+}
@@ -2,24 +2,45 @@ package com.Restaurant_Management.System.service.impl;
 
 import com.Restaurant_Management.System.dto.request.FoodItemsRequestDto;
 
+import com.Restaurant_Management.System.dto.response.CategoryCountResponseDto;
+import com.Restaurant_Management.System.dto.response.FoodItemPriceResponseDto;
 import com.Restaurant_Management.System.dto.response.FoodItemResponseDto;
+import com.Restaurant_Management.System.dto.response.MenuResponseDto;
 
+import com.Restaurant_Management.System.dto.response.paginate.FoodItemFacetedResponseDto;
 import com.Restaurant_Management.System.dto.response.paginate.FoodItemResponsePaginateDto;
 import com.Restaurant_Management.System.entity.FoodItem;
 
 import com.Restaurant_Management.System.entity.Restaurant;
+import com.Restaurant_Management.System.event.FoodItemChangedEvent;
 import com.Restaurant_Management.System.exception.EntryNotFoundException;
+import com.Restaurant_Management.System.menu.CategoryCatalog;
+import com.Restaurant_Management.System.menu.MenuSnapshot;
+import com.Restaurant_Management.System.menu.MenuSnapshotCache;
 import com.Restaurant_Management.System.repo.FoodItemRepo;
 import com.Restaurant_Management.System.repo.RestaurantRepo;
+import com.Restaurant_Management.System.exception.BadRequestException;
+import com.Restaurant_Management.System.search.FacetBitmapIndex;
+import com.Restaurant_Management.System.search.FoodFacetIndex;
+import com.Restaurant_Management.System.search.FoodItemSearchIndex;
+import com.Restaurant_Management.System.search.InvertedIndex;
 import com.Restaurant_Management.System.service.FoodItemService;
+import com.Restaurant_Management.System.util.CountMode;
+import com.Restaurant_Management.System.util.Paginator;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -28,15 +49,24 @@ public class FoodItemServiceImpl implements FoodItemService {
 
     private final FoodItemRepo foodItemRepo;
     private final RestaurantRepo restaurantRepo;
+    private final ApplicationEventPublisher eventPublisher;
+    private final FoodItemSearchIndex foodItemSearchIndex;
+    private final Paginator paginator;
+    private final MenuSnapshotCache menuSnapshotCache;
+    private final CategoryCatalog categoryCatalog;
+    private final FoodFacetIndex foodFacetIndex;
 
     @Override
     public void foodItemSave(FoodItemsRequestDto dto) {
-        foodItemRepo.save(toFoodItem(dto));
+        FoodItem foodItem = foodItemRepo.save(toFoodItem(dto));
+        menuSnapshotCache.refresh(foodItem.getRestaurant().getRestaurantId(), this::loadMenu);
+        eventPublisher.publishEvent(new FoodItemChangedEvent(foodItem, false));
     }
 
     @Override
     public void foodItemUpdate(FoodItemsRequestDto dto, String id) {
         FoodItem foodItem = foodItemRepo.findById(id).orElseThrow(()->new EntryNotFoundException("not found"));
+        String previousRestaurantId = foodItem.getRestaurant().getRestaurantId();
 
         Restaurant restaurant = restaurantRepo.findById(dto.getRestaurantId())
                 .orElseThrow(() -> new EntryNotFoundException("Restaurant not found"));
@@ -52,6 +82,11 @@ public class FoodItemServiceImpl implements FoodItemService {
         foodItem.setRestaurant(restaurant);
 
         foodItemRepo.save(foodItem);
+        menuSnapshotCache.refresh(restaurant.getRestaurantId(), this::loadMenu);
+        if (!previousRestaurantId.equals(restaurant.getRestaurantId())) {
+            menuSnapshotCache.refresh(previousRestaurantId, this::loadMenu);
+        }
+        eventPublisher.publishEvent(new FoodItemChangedEvent(foodItem, false));
     }
 
     @Override
@@ -63,14 +98,37 @@ public class FoodItemServiceImpl implements FoodItemService {
 
     @Override
     public void foodItemDeleteById(String id) {
+        FoodItem foodItem = foodItemRepo.findById(id).orElse(null);
         foodItemRepo.deleteById(id);
+        if (foodItem != null) {
+            menuSnapshotCache.refresh(foodItem.getRestaurant().getRestaurantId(), this::loadMenu);
+            eventPublisher.publishEvent(new FoodItemChangedEvent(foodItem, true));
+        }
     }
 
     @Override
-    public FoodItemResponsePaginateDto findAllFoodItem(String searchText, int page, int size) {
+    public FoodItemResponsePaginateDto findAllFoodItem(String searchText, int page, int size, CountMode countMode) {
+        if (searchText != null && !searchText.isBlank() && foodItemSearchIndex.isReady()) {
+            InvertedIndex.SearchResult result = foodItemSearchIndex.search(searchText, page, size);
+            Map<String, FoodItem> foodItems = foodItemRepo.findAllById(result.documentIds()).stream()
+                    .collect(Collectors.toMap(FoodItem::getFoodItemId, Function.identity()));
+            return FoodItemResponsePaginateDto.builder()
+                    .dataCount(result.totalHits())
+                    .hasNext((long) (page + 1) * size < result.totalHits())
+                    .dataList(result.documentIds().stream()
+                            .map(foodItems::get)
+                            .filter(Objects::nonNull)
+                            .map(this::toFoodItemResponseDto)
+                            .collect(Collectors.toList()))
+                    .build();
+        }
+        Paginator.Result<FoodItem> result = paginator.paginate(countMode, "food_items:" + searchText, page, size,
+                pageable -> foodItemRepo.findAllFoodItem(searchText, pageable),
+                () -> foodItemRepo.countAllFoodItems(searchText));
         return FoodItemResponsePaginateDto.builder()
-                .dataCount(foodItemRepo.countAllFoodItems(searchText))
-                .dataList(foodItemRepo.findAllFoodItem(searchText,PageRequest.of(page,size))
+                .dataCount(result.total())
+                .hasNext(result.hasNext())
+                .dataList(result.content()
                         .stream()
                         .map(this::toFoodItemResponseDto)
                         .collect(Collectors.toList()))
@@ -79,31 +137,113 @@ public class FoodItemServiceImpl implements FoodItemService {
 
     @Override
     public List<String> getAllCategories() {
-        return foodItemRepo.findAllCategories();
+        if (!categoryCatalog.isReady()) {
+            return foodItemRepo.findAllCategories();
+        }
+        return categoryCatalog.getCategories().stream()
+                .map(CategoryCatalog.CategoryCount::category)
+                .toList();
     }
 
     @Override
-    public FoodItemResponsePaginateDto getFoodItemByRestaurantAndCategory(String searchText, int page, int size, String restaurantId, String category) {
-        String categoryPattern = "%" + category + "%";
-        PageRequest pageRequest = PageRequest.of(page, size);
+    public List<CategoryCountResponseDto> getCategoryCounts() {
+        return toCategoryCountResponseDtos(categoryCatalog.getCategories());
+    }
 
-        List<FoodItemResponseDto> foodItems = foodItemRepo
-                .findFoodItemsByRestaurantIdAndCategory(restaurantId, categoryPattern, pageRequest)
-                .stream()
-                .map(this::toFoodItemResponseDto)
-                .collect(Collectors.toList());
+    @Override
+    public List<CategoryCountResponseDto> getCategoryCountsByRestaurant(String restaurantId) {
+        return toCategoryCountResponseDtos(categoryCatalog.getCategories(restaurantId));
+    }
 
-        long count = foodItemRepo.countAllFoodItemsByRestaurantIdAndCategory(restaurantId, categoryPattern);
+    private List<CategoryCountResponseDto> toCategoryCountResponseDtos(List<CategoryCatalog.CategoryCount> counts) {
+        return counts.stream()
+                .map(count -> CategoryCountResponseDto.builder()
+                        .category(count.category())
+                        .itemCount(count.itemCount())
+                        .build())
+                .toList();
+    }
 
+    @Override
+    public FoodItemResponsePaginateDto getFoodItemByRestaurantAndCategory(String searchText, int page, int size, String restaurantId, String category) {
+        List<FoodItemResponseDto> foodItems = menuSnapshotCache.get(restaurantId, this::loadMenu)
+                .itemsInCategoriesMatching(category);
+
+        int from = (int) Math.min((long) page * size, foodItems.size());
+        int to = (int) Math.min((long) from + size, foodItems.size());
         return FoodItemResponsePaginateDto.builder()
-                .dataCount(count)
-                .dataList(foodItems)
+                .dataCount((long) foodItems.size())
+                .hasNext(to < foodItems.size())
+                .dataList(foodItems.subList(from, to))
                 .build();
     }
 
 
 
 
+    @Override
+    public List<FoodItemPriceResponseDto> getFoodItemPrices(List<String> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return foodItemRepo.findAllFoodItemPrices();
+        }
+        return foodItemRepo.findFoodItemPricesByIds(ids);
+    }
+
+    @Override
+    public FoodItemFacetedResponseDto searchFoodItems(String searchText, List<String> types, List<String> categories,
+                                                      List<String> priceRanges, Boolean discounted, Boolean available,
+                                                      int page, int size) {
+        if (page < 0 || size <= 0) {
+            throw new BadRequestException("Invalid page or size.");
+        }
+        if (!foodFacetIndex.isReady() || !foodItemSearchIndex.isReady()) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Food search index is still loading");
+        }
+
+        Map<String, Set<String>> filters = new HashMap<>();
+        filters.put(FoodFacetIndex.TYPE, types == null ? Set.of() : Set.copyOf(types));
+        filters.put(FoodFacetIndex.CATEGORY, categories == null ? Set.of() : Set.copyOf(categories));
+        filters.put(FoodFacetIndex.PRICE_RANGE, priceRanges == null ? Set.of() : Set.copyOf(priceRanges));
+        filters.put(FoodFacetIndex.DISCOUNTED, discounted == null ? Set.of() : Set.of(discounted.toString()));
+        filters.put(FoodFacetIndex.AVAILABLE, available == null ? Set.of() : Set.of(available.toString()));
+
+        List<String> candidates = searchText == null || searchText.isBlank()
+                ? null
+                : foodItemSearchIndex.searchAll(searchText);
+        FacetBitmapIndex.Result result = foodFacetIndex.query(candidates, filters, page, size);
+
+        Map<String, FoodItem> foodItems = foodItemRepo.findAllById(result.documentIds()).stream()
+                .collect(Collectors.toMap(FoodItem::getFoodItemId, Function.identity()));
+        return FoodItemFacetedResponseDto.builder()
+                .dataCount(result.totalHits())
+                .hasNext((long) (page + 1) * size < result.totalHits())
+                .dataList(result.documentIds().stream()
+                        .map(foodItems::get)
+                        .filter(Objects::nonNull)
+                        .map(this::toFoodItemResponseDto)
+                        .collect(Collectors.toList()))
+                .facets(result.facets())
+                .build();
+    }
+
+    @Override
+    public MenuResponseDto getMenu(String restaurantId) {
+        MenuSnapshot snapshot = menuSnapshotCache.get(restaurantId, this::loadMenu);
+        return MenuResponseDto.builder()
+                .restaurantId(snapshot.getRestaurantId())
+                .version(snapshot.getVersion())
+                .categories(snapshot.getCategories())
+                .build();
+    }
+
+    private MenuSnapshot loadMenu(String restaurantId) {
+        List<FoodItem> foodItems = foodItemRepo.findByRestaurantRestaurantId(restaurantId);
+        if (foodItems.isEmpty() && !restaurantRepo.existsById(restaurantId)) {
+            throw new EntryNotFoundException("Restaurant not found");
+        }
+        return MenuSnapshot.of(restaurantId, foodItems.stream().map(this::toFoodItemResponseDto).toList());
+    }
+
     private FoodItem toFoodItem(FoodItemsRequestDto dto) {
         if(dto==null) throw new RuntimeException("null");
 
@@ -3,20 +3,34 @@ package com.Restaurant_Management.System.service.impl;
 import com.Restaurant_Management.System.dto.request.RestaurantAvailabilityDto;
 import com.Restaurant_Management.System.dto.request.RestaurantOrderAvailabilityDto;
 import com.Restaurant_Management.System.dto.request.RestaurantRequestDto;
+import com.Restaurant_Management.System.dto.response.NearbyRestaurantResponseDto;
 import com.Restaurant_Management.System.dto.response.RestaurantResponseDto;
+import com.Restaurant_Management.System.dto.response.RestaurantSummaryResponseDto;
 import com.Restaurant_Management.System.dto.response.SearchHistoryResponseDto;
+import com.Restaurant_Management.System.dto.response.SuggestionResponseDto;
 import com.Restaurant_Management.System.dto.response.paginate.RestaurantResponsePaginateDto;
 import com.Restaurant_Management.System.dto.response.paginate.TrendingRestaurantResponseListDto;
 import com.Restaurant_Management.System.entity.Restaurant;
 import com.Restaurant_Management.System.entity.SearchHistory;
+import com.Restaurant_Management.System.event.RestaurantChangedEvent;
+import com.Restaurant_Management.System.exception.BadRequestException;
 import com.Restaurant_Management.System.exception.DuplicateEntryException;
 import com.Restaurant_Management.System.exception.EntryNotFoundException;
 import com.Restaurant_Management.System.repo.RestaurantRepo;
 import com.Restaurant_Management.System.repo.SearchHistoryRepo;
+import com.Restaurant_Management.System.search.GeoGridIndex;
+import com.Restaurant_Management.System.search.InvertedIndex;
+import com.Restaurant_Management.System.search.NearbyRestaurantIndex;
+import com.Restaurant_Management.System.search.OpenRestaurantIndex;
+import com.Restaurant_Management.System.search.RestaurantSearchIndex;
+import com.Restaurant_Management.System.search.SuggestionIndex;
+import com.Restaurant_Management.System.search.TrendingRestaurantTracker;
 import com.Restaurant_Management.System.service.RestaurantService;
+import com.Restaurant_Management.System.util.CountMode;
+import com.Restaurant_Management.System.util.Paginator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -24,7 +38,10 @@ import org.springframework.web.reactive.function.client.WebClient;
 import javax.management.RuntimeErrorException;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -33,6 +50,17 @@ public class  RestaurantServiceImpl implements RestaurantService {
 
     private final RestaurantRepo restaurantRepo;
     private final SearchHistoryRepo searchHistoryRepo;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RestaurantSearchIndex restaurantSearchIndex;
+    private final SuggestionIndex suggestionIndex;
+    private final NearbyRestaurantIndex nearbyRestaurantIndex;
+    private final TrendingRestaurantTracker trendingRestaurantTracker;
+    private final Paginator paginator;
+    private final OpenRestaurantIndex openRestaurantIndex;
+
+    private static final double MAX_NEARBY_RADIUS_KM = 50;
+    private static final int MAX_NEARBY_RESULTS = 100;
+    private static final int TRENDING_SIZE = 5;
 
 
     @Override
@@ -49,7 +77,8 @@ public class  RestaurantServiceImpl implements RestaurantService {
         if (restaurantRepo.existsRestaurantByRestaurantName(dto.getRestaurantName())) {
             throw new DuplicateEntryException("Restaurant with this name already exists.");
         }
-        restaurantRepo.save(toRestaurant(dto));
+        Restaurant restaurant = restaurantRepo.save(toRestaurant(dto));
+        eventPublisher.publishEvent(new RestaurantChangedEvent(restaurant, false));
 
     }
 
@@ -78,8 +107,7 @@ public class  RestaurantServiceImpl implements RestaurantService {
         restaurant.setOwner_username(dto.getOwner_username() != null ? dto.getOwner_username() : restaurant.getOwner_username());
 
         restaurantRepo.save(restaurant);
-
-
+        eventPublisher.publishEvent(new RestaurantChangedEvent(restaurant, false));
     }
 
 
@@ -102,66 +130,112 @@ public class  RestaurantServiceImpl implements RestaurantService {
 
     @Override
     public void restaurantDeleteById(String id) {
+        Restaurant restaurant = restaurantRepo.findById(id).orElse(null);
         restaurantRepo.deleteById(id);
+        if (restaurant != null) {
+            eventPublisher.publishEvent(new RestaurantChangedEvent(restaurant, true));
+        }
     }
 
     @Override
-    public RestaurantResponsePaginateDto findAllRestaurant(String searchText, int page, int size) {
-
-        if (restaurantRepo.existsRestaurantByRestaurantName(searchText)) {
-            String imageUrl = restaurantRepo.findRestaurantImageUrlByRestaurantName(searchText);
-            SearchHistory searchHistory = searchHistoryRepo.findSearchHistoriesByRestaurantName(searchText);
-
-            if (searchHistory != null) {
-                searchHistory.setSearchCount(searchHistory.getSearchCount() + 1);
-                searchHistory.setLatestCountAt(LocalDateTime.now());
-
-            } else {
-                searchHistory = new SearchHistory();
-                searchHistory.setSearch_id(UUID.randomUUID().toString());
-                searchHistory.setRestaurantName(searchText);
-                searchHistory.setSearchCount(1);
-                searchHistory.setLatestCountAt(LocalDateTime.now());
-                searchHistory.setUrl(imageUrl);
+    public RestaurantResponsePaginateDto findAllRestaurant(String searchText, int page, int size, CountMode countMode, boolean openNow) {
+
+        trendingRestaurantTracker.recordSearch(searchText);
+
+        if (openNow && openRestaurantIndex.isReady()) {
+            boolean hasText = searchText != null && !searchText.isBlank();
+            if (!hasText || restaurantSearchIndex.isReady()) {
+                List<String> ids = hasText
+                        ? restaurantSearchIndex.searchAll(searchText).stream().filter(openRestaurantIndex::isOpenNow).toList()
+                        : openRestaurantIndex.openNow();
+                return toRestaurantPage(ids, page, size);
             }
+        }
 
-            searchHistoryRepo.save(searchHistory);
+        if (searchText != null && !searchText.isBlank() && restaurantSearchIndex.isReady()) {
+            InvertedIndex.SearchResult result = restaurantSearchIndex.search(searchText, page, size);
+            return RestaurantResponsePaginateDto.builder()
+                    .dataCount(result.totalHits())
+                    .hasNext((long) (page + 1) * size < result.totalHits())
+                    .dataList(findSummariesInOrder(result.documentIds()))
+                    .build();
         }
+        Paginator.Result<RestaurantSummaryResponseDto> result = paginator.paginate(countMode, "restaurant:" + searchText, page, size,
+                pageable -> restaurantRepo.findAllRestaurant(searchText, pageable),
+                () -> restaurantRepo.countAllRestaurant(searchText));
+        return RestaurantResponsePaginateDto.builder()
+                .dataCount(result.total())
+                .hasNext(result.hasNext())
+                .dataList(result.content())
+                .build();
+    }
+
+    private RestaurantResponsePaginateDto toRestaurantPage(List<String> ids, int page, int size) {
+        int from = (int) Math.min((long) page * size, ids.size());
+        int to = (int) Math.min((long) from + size, ids.size());
         return RestaurantResponsePaginateDto.builder()
-                .dataCount(restaurantRepo.countAllRestaurant(searchText))
-                .dataList(
-                        restaurantRepo.findAllRestaurant(searchText, PageRequest.of(page,size))
-                .stream()
-                .map(this::toRestaurantResponseDto)
-                .collect(Collectors.toList()))
+                .dataCount((long) ids.size())
+                .hasNext(to < ids.size())
+                .dataList(findSummariesInOrder(ids.subList(from, to)))
                 .build();
     }
 
+    private List<RestaurantSummaryResponseDto> findSummariesInOrder(List<String> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<String, RestaurantSummaryResponseDto> summaries = restaurantRepo.findSummariesByIds(ids).stream()
+                .collect(Collectors.toMap(RestaurantSummaryResponseDto::getRestaurantId, Function.identity()));
+        return ids.stream()
+                .map(summaries::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public void setRestaurantAvailability(String id, RestaurantAvailabilityDto dto) {
         Restaurant restaurant = restaurantRepo.findById(id).orElseThrow(()-> new EntryNotFoundException("not found"));
         restaurant.setAvailability(dto.isAvailability());
+        restaurant.setUpdatedAt(LocalDateTime.now());
         restaurantRepo.save(restaurant);
+        eventPublisher.publishEvent(new RestaurantChangedEvent(restaurant, false));
     }
 
     @Override
     public void setOrderAvailability(String id, RestaurantOrderAvailabilityDto dto) {
         Restaurant restaurant = restaurantRepo.findById(id).orElseThrow(()-> new EntryNotFoundException("not found"));
         restaurant.setOrderAvailability(dto.isOrderAvailability());
+        restaurant.setUpdatedAt(LocalDateTime.now());
         restaurantRepo.save(restaurant);
+        eventPublisher.publishEvent(new RestaurantChangedEvent(restaurant, false));
     }
 
     @Override
     public TrendingRestaurantResponseListDto trendingRestaurant() {
-        List<SearchHistory> trendingRestaurants = searchHistoryRepo.trendingRestaurants();
-
-        List<SearchHistoryResponseDto> trendingRestaurantDto = trendingRestaurants.stream()
-                .map(searchHistory -> SearchHistoryResponseDto.builder()
-                        .search_id(searchHistory.getSearch_id())
-                        .restaurantName(searchHistory.getRestaurantName())
-                        .searchCount(searchHistory.getSearchCount())
-                        .url(searchHistory.getUrl())
-                        .build())
+        List<Map.Entry<String, Long>> trending = trendingRestaurantTracker.trending(TRENDING_SIZE);
+        if (trending.isEmpty()) {
+            // Nothing searched within the window yet, e.g. right after startup
+            return TrendingRestaurantResponseListDto.builder()
+                    .trendingRestaurants(searchHistoryRepo.trendingRestaurants().stream()
+                            .map(this::toSearchHistoryResponseDto)
+                            .toList())
+                    .build();
+        }
+
+        Map<String, SearchHistory> histories = searchHistoryRepo.findAllByRestaurantNameIn(
+                        trending.stream().map(Map.Entry::getKey).toList()).stream()
+                .collect(Collectors.toMap(SearchHistory::getRestaurantName, Function.identity(), (a, b) -> a));
+
+        List<SearchHistoryResponseDto> trendingRestaurantDto = trending.stream()
+                .map(entry -> {
+                    SearchHistory history = histories.get(entry.getKey());
+                    return SearchHistoryResponseDto.builder()
+                            .search_id(history == null ? null : history.getSearch_id())
+                            .restaurantName(entry.getKey())
+                            .searchCount(entry.getValue())
+                            .url(history == null ? trendingRestaurantTracker.imageUrlOf(entry.getKey()) : history.getUrl())
+                            .build();
+                })
                 .toList();
 
         return TrendingRestaurantResponseListDto.builder()
@@ -169,6 +243,64 @@ public class  RestaurantServiceImpl implements RestaurantService {
                 .build();
     }
 
+    private SearchHistoryResponseDto toSearchHistoryResponseDto(SearchHistory searchHistory) {
+        return SearchHistoryResponseDto.builder()
+                .search_id(searchHistory.getSearch_id())
+                .restaurantName(searchHistory.getRestaurantName())
+                .searchCount(searchHistory.getSearchCount())
+                .url(searchHistory.getUrl())
+                .build();
+    }
+
+    @Override
+    public List<SuggestionResponseDto> suggest(String prefix, int limit) {
+        return suggestionIndex.suggest(prefix, limit).stream()
+                .map(suggestion -> SuggestionResponseDto.builder()
+                        .text(suggestion.text())
+                        .type(suggestion.type())
+                        .restaurantId(suggestion.referenceId())
+                        .build())
+                .toList();
+    }
+
+    @Override
+    public List<NearbyRestaurantResponseDto> findNearbyRestaurants(double latitude, double longitude, double radiusKm,
+                                                                   Boolean availability, Boolean orderAvailability,
+                                                                   boolean openNow, double ratingWeight, int limit) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new BadRequestException("Invalid coordinates.");
+        }
+        if (radiusKm <= 0 || radiusKm > MAX_NEARBY_RADIUS_KM) {
+            throw new BadRequestException("Radius must be between 0 and " + MAX_NEARBY_RADIUS_KM + " km.");
+        }
+        if (ratingWeight < 0 || ratingWeight > 1) {
+            throw new BadRequestException("Rating weight must be between 0 and 1.");
+        }
+        if (limit <= 0 || limit > MAX_NEARBY_RESULTS) {
+            throw new BadRequestException("Limit must be between 1 and " + MAX_NEARBY_RESULTS + ".");
+        }
+        if (!nearbyRestaurantIndex.isReady()) {
+            return List.of();
+        }
+
+        List<GeoGridIndex.Hit> hits = nearbyRestaurantIndex.nearby(
+                latitude, longitude, radiusKm, availability, orderAvailability,
+                openNow ? openRestaurantIndex::isOpenNow : id -> true, ratingWeight, limit);
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+        Map<String, RestaurantSummaryResponseDto> restaurants = restaurantRepo.findSummariesByIds(
+                        hits.stream().map(hit -> hit.point().id()).toList()).stream()
+                .collect(Collectors.toMap(RestaurantSummaryResponseDto::getRestaurantId, Function.identity()));
+
+        return hits.stream()
+                .filter(hit -> restaurants.containsKey(hit.point().id()))
+                .map(hit -> NearbyRestaurantResponseDto.builder()
+                        .restaurant(restaurants.get(hit.point().id()))
+                        .distanceKm(hit.distanceKm())
+                        .build())
+                .toList();
+    }
 
     private Restaurant toRestaurant(RestaurantRequestDto dto) {
         if(dto==null) throw new RuntimeException("null");
@@ -215,7 +347,7 @@ public class  RestaurantServiceImpl implements RestaurantService {
                 .active(restaurant.isActive())
                 .imageUrl(restaurant.getImageUrl())
                 .coverImageUrl(restaurant.getCoverImageUrl())
-                .updatedAt(LocalDateTime.now())
+                .updatedAt(restaurant.getUpdatedAt())
                 .createdAt(restaurant.getCreatedAt())
                 .rating(restaurant.getRating())
                 .owner_username(restaurant.getOwner_username())
@@ -0,0 +1,35 @@
+package com.Restaurant_Management.System.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HexFormat;
+
+/**
+ * Helpers for deriving ETags from response content, so every instance computes the same tag
+ * for the same data.
+ */
+public final class ETags {
+
+    private ETags() {
+    }
+
+    /**
+     * First 16 bytes of the SHA-256 of the content, hex encoded.
+     */
+    public static String hash(CharSequence content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(content.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static long epochMillis(LocalDateTime time) {
+        return time == null ? -1 : time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
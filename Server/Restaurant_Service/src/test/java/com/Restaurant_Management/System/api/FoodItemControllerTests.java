@@ -0,0 +1,97 @@
+package com.Restaurant_Management.System.api;
+
+import com.Restaurant_Management.System.dto.request.FoodItemsRequestDto;
+import com.Restaurant_Management.System.entity.FoodItem;
+import com.Restaurant_Management.System.entity.Restaurant;
+import com.Restaurant_Management.System.menu.CategoryCatalog;
+import com.Restaurant_Management.System.menu.MenuSnapshotCache;
+import com.Restaurant_Management.System.repo.FoodItemRepo;
+import com.Restaurant_Management.System.repo.RestaurantRepo;
+import com.Restaurant_Management.System.search.FoodFacetIndex;
+import com.Restaurant_Management.System.search.FoodItemSearchIndex;
+import com.Restaurant_Management.System.service.FoodItemImportService;
+import com.Restaurant_Management.System.service.impl.FoodItemServiceImpl;
+import com.Restaurant_Management.System.util.Paginator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class FoodItemControllerTests {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final Restaurant restaurant = Restaurant.builder().restaurantId("r1").restaurantName("Restaurant").build();
+	private final FoodItem pizza = FoodItem.builder()
+			.foodItemId("f1")
+			.name("Margherita")
+			.category("Pizza")
+			.price(1200)
+			.available(true)
+			.restaurant(restaurant)
+			.build();
+
+	private FoodItemServiceImpl foodItemService;
+	private MockMvc mockMvc;
+
+	@BeforeEach
+	void setUp() {
+		FoodItemRepo foodItemRepo = mock(FoodItemRepo.class);
+		RestaurantRepo restaurantRepo = mock(RestaurantRepo.class);
+		when(foodItemRepo.findByRestaurantRestaurantId("r1")).thenReturn(List.of(pizza));
+		when(foodItemRepo.findById("f1")).thenReturn(Optional.of(pizza));
+		when(restaurantRepo.findById("r1")).thenReturn(Optional.of(restaurant));
+		foodItemService = new FoodItemServiceImpl(foodItemRepo, restaurantRepo, mock(ApplicationEventPublisher.class),
+				mock(FoodItemSearchIndex.class), mock(Paginator.class), new MenuSnapshotCache(meterRegistry),
+				mock(CategoryCatalog.class), mock(FoodFacetIndex.class));
+		mockMvc = MockMvcBuilders
+				.standaloneSetup(new FoodItemController(foodItemService, mock(FoodItemImportService.class)))
+				.build();
+	}
+
+	@Test
+	void answersUnchangedMenusWithNotModifiedFromTheSnapshot() throws Exception {
+		String eTag = mockMvc.perform(get("/api/v1/foods/menu/r1"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data.categories.Pizza[0].name").value("Margherita"))
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+		assertNotNull(eTag);
+		assertLookups(0, 1);
+
+		mockMvc.perform(get("/api/v1/foods/menu/r1").header(HttpHeaders.IF_NONE_MATCH, eTag))
+				.andExpect(status().isNotModified())
+				.andExpect(content().string(""));
+		assertLookups(1, 1);
+
+		foodItemService.foodItemUpdate(new FoodItemsRequestDto("Margherita", null, "Pizza", 1300, 0, null, null, true, "r1"), "f1");
+
+		String changedETag = mockMvc.perform(get("/api/v1/foods/menu/r1").header(HttpHeaders.IF_NONE_MATCH, eTag))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data.categories.Pizza[0].price").value(1300.0))
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+		assertNotEquals(eTag, changedETag);
+		// The update rebuilt the cached snapshot, so the read after it is still a hit
+		assertLookups(2, 1);
+		assertEquals(1, meterRegistry.counter("menu.snapshot.rebuilds").count());
+	}
+
+	private void assertLookups(int hits, int misses) {
+		assertEquals(hits, meterRegistry.counter("menu.snapshot.lookups", "result", "hit").count());
+		assertEquals(misses, meterRegistry.counter("menu.snapshot.lookups", "result", "miss").count());
+	}
+}
@@ -0,0 +1,88 @@
+package com.Restaurant_Management.System.cart;
+
+import com.Restaurant_Management.System.entity.Cart;
+import com.Restaurant_Management.System.menu.FoodItemCache;
+import com.Restaurant_Management.System.repo.CartRepo;
+import com.Restaurant_Management.System.repo.FoodItemRepo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CartPersisterTests {
+
+	private final LocalDateTime updatedAt = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+	private CartRepo cartRepo;
+	private CartPersister persister;
+
+	@BeforeEach
+	void setUp() {
+		cartRepo = mock(CartRepo.class);
+		FoodItemCache foodItemCache = mock(FoodItemCache.class);
+		when(foodItemCache.getAll(anyCollection())).thenReturn(Map.of());
+		persister = new CartPersister(cartRepo, mock(FoodItemRepo.class), foodItemCache);
+	}
+
+	@Test
+	void replacesAnOlderStoredCart() {
+		Cart stored = stored(4);
+
+		persister.persist(snapshot(5, false));
+
+		verify(cartRepo).save(stored);
+		assertEquals(5, stored.getRevision());
+	}
+
+	@Test
+	void refusesToOverwriteOrDeleteANewerStoredCart() {
+		stored(6);
+
+		assertThrows(StaleCartException.class, () -> persister.persist(snapshot(5, false)));
+		assertThrows(StaleCartException.class, () -> persister.persist(snapshot(5, true)));
+		verify(cartRepo, never()).save(any());
+		verify(cartRepo, never()).delete(any());
+	}
+
+	@Test
+	void refusesAnotherCopyAtTheStoredRevision() {
+		Cart stored = stored(5);
+
+		persister.persist(snapshot(5, false));
+		stored.setUpdatedAt(updatedAt.plusSeconds(1));
+
+		assertThrows(StaleCartException.class, () -> persister.persist(snapshot(5, false)));
+		verify(cartRepo, never()).save(any());
+	}
+
+	private Cart stored(long revision) {
+		Cart cart = Cart.builder()
+				.cartId("c1")
+				.userId("u1")
+				.createdAt(updatedAt)
+				.updatedAt(updatedAt)
+				.revision(revision)
+				.version(0L)
+				.cartItems(new ArrayList<>())
+				.build();
+		when(cartRepo.findById("c1")).thenReturn(Optional.of(cart));
+		return cart;
+	}
+
+	private CartSnapshot snapshot(long version, boolean deleted) {
+		return new CartSnapshot("c1", "u1", updatedAt, updatedAt, version, List.of(), 0, deleted);
+	}
+}
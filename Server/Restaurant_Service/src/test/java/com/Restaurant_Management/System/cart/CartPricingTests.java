@@ -0,0 +1,71 @@
+package com.Restaurant_Management.System.cart;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CartPricingTests {
+
+	private static final double[] PRICES = {0, 0.01, 0.1, 1.005, 9.99, 250, 1199.5, 2499.99};
+	private static final int[] DISCOUNTS = {0, 5, 10, 15, 33, 50, 99, 100};
+
+	@Test
+	void convertsAmountsToCentsWithoutBinaryDrift() {
+		assertEquals(101, CartPricing.toCents(1.005));
+		assertEquals(999, CartPricing.toCents(9.99));
+		assertEquals(9.99, CartPricing.toAmount(999));
+	}
+
+	@Test
+	void appliesDiscountRoundedHalfUp() {
+		assertEquals(1000, CartPricing.unitPriceCents(10, 0));
+		assertEquals(850, CartPricing.unitPriceCents(10, 15));
+		assertEquals(669, CartPricing.unitPriceCents(9.99, 33));
+		assertEquals(0, CartPricing.unitPriceCents(10, 100));
+		assertEquals(1000, CartPricing.unitPriceCents(10, -5));
+	}
+
+	@Test
+	void incrementalTotalMatchesFullRecompute() {
+		// Property check over seeded random edit sequences, so any failure is reproducible
+		for (long seed = 0; seed < 500; seed++) {
+			Random random = new Random(seed);
+			CartDraft draft = new CartDraft(emptyCart());
+			for (int step = 0; step < 200; step++) {
+				String foodItemId = "f" + random.nextInt(12);
+				switch (random.nextInt(5)) {
+					case 0, 1 -> draft.add(randomLine(random, foodItemId));
+					case 2 -> {
+						CartLine line = draft.line(foodItemId);
+						if (line != null) {
+							draft.put(line.withQuantity(1 + random.nextInt(20)));
+						}
+					}
+					case 3 -> draft.remove(foodItemId);
+					default -> {
+						if (random.nextInt(20) == 0) {
+							draft.clear();
+						}
+					}
+				}
+				assertEquals(CartPricing.totalCents(draft.lines()), draft.totalCents(), "seed " + seed + " step " + step);
+			}
+		}
+	}
+
+	private static CartLine randomLine(Random random, String foodItemId) {
+		// Price and discount are fixed per food item, as they are for a real menu item
+		int index = Math.floorMod(foodItemId.hashCode(), PRICES.length);
+		return new CartLine(foodItemId, foodItemId, null, "r1", "Restaurant",
+				PRICES[index], DISCOUNTS[index], false, 1 + random.nextInt(5));
+	}
+
+	private static CartSnapshot emptyCart() {
+		LocalDateTime now = LocalDateTime.now();
+		return new CartSnapshot("c1", "u1", now, now, 0, List.of(), 0, false);
+	}
+}
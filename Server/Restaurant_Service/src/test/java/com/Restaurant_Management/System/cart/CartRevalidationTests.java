@@ -0,0 +1,102 @@
+package com.Restaurant_Management.System.cart;
+
+import com.Restaurant_Management.System.entity.FoodItem;
+import com.Restaurant_Management.System.entity.Restaurant;
+import com.Restaurant_Management.System.event.FoodItemChangedEvent;
+import com.Restaurant_Management.System.event.RestaurantChangedEvent;
+import com.Restaurant_Management.System.menu.CachedFoodItem;
+import com.Restaurant_Management.System.menu.FoodItemCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CartRevalidationTests {
+
+	@TempDir
+	Path journalDir;
+
+	private FoodItemCache foodItemCache;
+	private CartStore store;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		CartPersister persister = mock(CartPersister.class);
+		when(persister.load(anyString())).thenReturn(Optional.empty());
+		foodItemCache = mock(FoodItemCache.class);
+		store = new CartStore(persister, new CartJournal(journalDir.toString(), new ObjectMapper().findAndRegisterModules()),
+				foodItemCache, new SimpleMeterRegistry(), 8, 60_000);
+		store.recover();
+
+		store.update("u1", true, cart -> cart.add(line("f1", "r1", 10, 2)));
+		store.update("u2", true, cart -> cart.add(line("f2", "r2", 5, 1)));
+	}
+
+	@Test
+	void repricesOnlyCartsHoldingTheChangedItem() {
+		when(foodItemCache.getAll(Set.of("f1"))).thenReturn(Map.of("f1", cached("f1", "r1", 12, true)));
+
+		store.onFoodItemChanged(new FoodItemChangedEvent(food("f1", "r1"), false));
+		CartSnapshot first = store.get("u1").orElseThrow();
+		CartSnapshot second = store.get("u2").orElseThrow();
+
+		assertEquals(12, first.lines().get(0).price());
+		assertEquals(24, first.totalPrice());
+		assertEquals(2, first.version());
+		assertEquals(1, second.version());
+		verify(foodItemCache, never()).getAll(Set.of("f2"));
+	}
+
+	@Test
+	void keepsUnavailableLinesOutOfTheTotalAndDropsDeletedItems() {
+		store.update("u1", false, cart -> cart.add(line("f3", "r1", 4, 1)));
+		when(foodItemCache.getAll(Set.of("f1", "f3"))).thenReturn(Map.of("f1", cached("f1", "r1", 10, false)));
+
+		store.onRestaurantChanged(new RestaurantChangedEvent(Restaurant.builder().restaurantId("r1").build(), false));
+		CartSnapshot cart = store.get("u1").orElseThrow();
+
+		assertEquals(1, cart.lines().size());
+		assertTrue(cart.lines().get(0).unavailable());
+		assertEquals(0, cart.totalPrice());
+	}
+
+	@Test
+	void ignoresChangesToItemsNoCartHolds() {
+		store.update("u1", false, cart -> cart.remove("f1"));
+
+		store.onFoodItemChanged(new FoodItemChangedEvent(food("f1", "r1"), false));
+		store.get("u1");
+
+		verify(foodItemCache, never()).getAll(any());
+	}
+
+	private static CartLine line(String foodItemId, String restaurantId, double price, int quantity) {
+		return new CartLine(foodItemId, foodItemId, null, restaurantId, "Restaurant", price, 0, false, quantity);
+	}
+
+	private static CachedFoodItem cached(String foodItemId, String restaurantId, double price, boolean available) {
+		return new CachedFoodItem(foodItemId, foodItemId, null, restaurantId, "Restaurant", price, 0, available);
+	}
+
+	private static FoodItem food(String foodItemId, String restaurantId) {
+		return FoodItem.builder().foodItemId(foodItemId)
+				.restaurant(Restaurant.builder().restaurantId(restaurantId).build()).build();
+	}
+}
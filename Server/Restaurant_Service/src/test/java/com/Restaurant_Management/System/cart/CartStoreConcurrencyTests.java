@@ -0,0 +1,138 @@
+package com.Restaurant_Management.System.cart;
+
+import com.Restaurant_Management.System.exception.PreconditionFailedException;
+import com.Restaurant_Management.System.menu.FoodItemCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CartStoreConcurrencyTests {
+
+	private static final int THREADS = 8;
+	private static final int EDITS_PER_THREAD = 2_000;
+	private static final long MIN_EDITS_PER_SECOND = 2_000;
+
+	@TempDir
+	Path journalDir;
+
+	private CartStore store;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		CartPersister persister = mock(CartPersister.class);
+		when(persister.load(anyString())).thenReturn(Optional.empty());
+		store = new CartStore(persister, new CartJournal(journalDir.toString(), new ObjectMapper().findAndRegisterModules()),
+				mock(FoodItemCache.class), new SimpleMeterRegistry(), 16, 60_000);
+		store.recover();
+	}
+
+	@Test
+	void parallelEditsOfOneCartAreNeverLost() throws Exception {
+		long editsPerSecond = runInParallel(thread -> {
+			for (int i = 0; i < EDITS_PER_THREAD; i++) {
+				// Half the threads add to a shared line, the rest each own a line
+				String foodItemId = thread % 2 == 0 ? "shared" : "f" + thread;
+				store.update("u1", true, cart -> cart.add(line(foodItemId, 1)));
+			}
+		});
+
+		CartSnapshot cart = store.get("u1").orElseThrow();
+		assertEquals((long) THREADS * EDITS_PER_THREAD, cart.version());
+		assertEquals(THREADS / 2 * EDITS_PER_THREAD, cart.lines().stream()
+				.filter(line -> line.foodItemId().equals("shared")).findFirst().orElseThrow().quantity());
+		assertEquals(THREADS / 2 + 1, cart.lines().size());
+		assertEquals(CartPricing.totalCents(cart.lines()), cart.totalCents());
+		// Every edit of one cart is serialized and journaled, so this is the single-cart ceiling
+		assertTrue(editsPerSecond >= MIN_EDITS_PER_SECOND, editsPerSecond + " edits/s of one cart");
+	}
+
+	@Test
+	void versionCheckedEditsRetryUntilApplied() throws Exception {
+		store.update("u1", true, cart -> cart.add(line("f1", 1)));
+
+		runInParallel(thread -> {
+			for (int i = 0; i < EDITS_PER_THREAD / 10; i++) {
+				// Read-modify-write from a possibly stale view, as a client holding an ETag would
+				while (true) {
+					CartSnapshot seen = store.get("u1").orElseThrow();
+					int quantity = seen.lines().get(0).quantity();
+					try {
+						store.update("u1", false, seen.version(),
+								cart -> cart.put(cart.line("f1").withQuantity(quantity + 1)));
+						break;
+					} catch (PreconditionFailedException e) {
+						// Someone else edited first; read again and retry
+					}
+				}
+			}
+		});
+
+		assertEquals(1 + THREADS * (EDITS_PER_THREAD / 10), store.get("u1").orElseThrow().lines().get(0).quantity());
+	}
+
+	@Test
+	void usersOnDifferentStripesEditIndependently() throws Exception {
+		long editsPerSecond = runInParallel(thread -> {
+			for (int i = 0; i < EDITS_PER_THREAD; i++) {
+				store.update("user-" + thread, true, cart -> cart.add(line("f1", 1)));
+			}
+		});
+
+		for (int thread = 0; thread < THREADS; thread++) {
+			assertEquals(EDITS_PER_THREAD, store.get("user-" + thread).orElseThrow().lines().get(0).quantity());
+		}
+		assertTrue(editsPerSecond >= MIN_EDITS_PER_SECOND, editsPerSecond + " edits/s over " + THREADS + " carts");
+	}
+
+	// Returns the edits per second over all threads, counting EDITS_PER_THREAD edits per thread
+	private static long runInParallel(ThreadTask task) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int thread = 0; thread < THREADS; thread++) {
+				int index = thread;
+				futures.add(executor.submit(() -> {
+					start.await();
+					task.run(index);
+					return null;
+				}));
+			}
+			long started = System.nanoTime();
+			start.countDown();
+			for (Future<?> future : futures) {
+				future.get(60, TimeUnit.SECONDS);
+			}
+			return (long) (THREADS * EDITS_PER_THREAD / ((System.nanoTime() - started) / 1e9));
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static CartLine line(String foodItemId, int quantity) {
+		return new CartLine(foodItemId, foodItemId, null, "r1", "Restaurant", 9.99, 10, false, quantity);
+	}
+
+	private interface ThreadTask {
+		void run(int thread) throws Exception;
+	}
+}
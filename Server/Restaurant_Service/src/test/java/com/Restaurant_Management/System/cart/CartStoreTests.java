@@ -0,0 +1,166 @@
+package com.Restaurant_Management.System.cart;
+
+import com.Restaurant_Management.System.menu.FoodItemCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CartStoreTests {
+
+	private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+	@TempDir
+	Path journalDir;
+
+	private CartPersister persister;
+	private CartStore store;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		persister = mock(CartPersister.class);
+		when(persister.load(anyString())).thenReturn(Optional.empty());
+		store = newStore();
+	}
+
+	@Test
+	void mergesAddedLinesAndBumpsVersion() {
+		store.update("u1", true, cart -> cart.add(line("f1", 2)));
+		CartSnapshot cart = store.update("u1", false, draft -> draft.add(line("f1", 3))).orElseThrow();
+
+		assertEquals(List.of(line("f1", 5)), cart.lines());
+		assertEquals(2, cart.version());
+		assertEquals(5000, cart.totalPrice());
+	}
+
+	@Test
+	void leavesCartUnchangedWhenMutationFails() {
+		store.update("u1", true, cart -> cart.add(line("f1", 1)));
+
+		assertThrows(IllegalStateException.class, () -> store.update("u1", false, cart -> {
+			cart.clear();
+			throw new IllegalStateException("rejected");
+		}));
+		assertEquals(List.of(line("f1", 1)), store.get("u1").orElseThrow().lines());
+	}
+
+	@Test
+	void doesNotCreateCartUnlessAsked() {
+		assertTrue(store.update("u1", false, cart -> cart.add(line("f1", 1))).isEmpty());
+		assertTrue(store.get("u1").isEmpty());
+	}
+
+	@Test
+	void flushPersistsDirtyCartsOnceAndDiscardsJournal() throws IOException {
+		store.update("u1", true, cart -> cart.add(line("f1", 1)));
+		store.update("u1", false, cart -> cart.add(line("f2", 1)));
+
+		store.flush();
+		store.flush();
+
+		verify(persister, times(1)).persist(any());
+		store.flush();
+		assertEquals(0, journalEntries());
+	}
+
+	@Test
+	void keepsFailedCartsDirtyAndJournaled() throws IOException {
+		doThrow(new IllegalStateException("database down")).when(persister).persist(any());
+		store.update("u1", true, cart -> cart.add(line("f1", 1)));
+
+		store.flush();
+
+		assertTrue(journalEntries() > 0);
+		CartStore restarted = newStore();
+		assertEquals(List.of(line("f1", 1)), restarted.get("u1").orElseThrow().lines());
+	}
+
+	@Test
+	void discardsTheJournalOfOtherCartsWhileOneKeepsFailing() throws IOException {
+		doThrow(new IllegalStateException("constraint violation")).when(persister)
+				.persist(argThat(snapshot -> snapshot.userId().equals("u1")));
+		store.update("u1", true, cart -> cart.add(line("f1", 1)));
+		store.update("u2", true, cart -> cart.add(line("f2", 1)));
+		store.update("u2", false, cart -> cart.add(line("f2", 1)));
+
+		store.flush();
+		store.flush();
+
+		assertEquals(1, journalEntries());
+		CartStore restarted = newStore();
+		assertEquals(List.of(line("f1", 1)), restarted.get("u1").orElseThrow().lines());
+	}
+
+	@Test
+	void recoversUnflushedCartsFromJournal() throws IOException {
+		store.update("u1", true, cart -> cart.add(line("f1", 1)));
+		store.update("u1", false, cart -> cart.add(line("f1", 1)));
+		store.update("u2", true, cart -> cart.add(line("f2", 4)));
+		store.delete("u2");
+
+		CartStore restarted = newStore();
+
+		assertEquals(List.of(line("f1", 2)), restarted.get("u1").orElseThrow().lines());
+		assertTrue(restarted.get("u2").isEmpty());
+		verify(persister, never()).persist(any());
+	}
+
+	@Test
+	void dropsItsCopyWhenAnotherInstanceStoredANewerCart() throws IOException {
+		store.update("u1", true, cart -> cart.add(line("f1", 1)));
+		doThrow(new StaleCartException("stored at a later revision")).when(persister).persist(any());
+		CartSnapshot newer = new CartSnapshot("other", "u1", LocalDateTime.now(), LocalDateTime.now(), 7,
+				List.of(line("f2", 3)), 3000, false);
+		when(persister.load("u1")).thenReturn(Optional.of(newer));
+
+		store.flush();
+		store.flush();
+
+		assertEquals(newer, store.get("u1").orElseThrow());
+		verify(persister, times(1)).persist(any());
+		assertEquals(0, journalEntries());
+	}
+
+	private CartStore newStore() throws IOException {
+		CartStore cartStore = new CartStore(persister, new CartJournal(journalDir.toString(), objectMapper),
+				mock(FoodItemCache.class), new SimpleMeterRegistry(), 8, 60_000);
+		cartStore.recover();
+		return cartStore;
+	}
+
+	private long journalEntries() throws IOException {
+		try (Stream<Path> files = Files.list(journalDir)) {
+			long entries = 0;
+			for (Path file : files.toList()) {
+				entries += Files.readAllLines(file).stream().filter(line -> !line.isBlank()).count();
+			}
+			return entries;
+		}
+	}
+
+	private static CartLine line(String foodItemId, int quantity) {
+		return new CartLine(foodItemId, "Food " + foodItemId, null, "r1", "Restaurant", 1000, 0, false, quantity);
+	}
+}
@@ -0,0 +1,62 @@
+package com.Restaurant_Management.System.cart;
+
+import com.Restaurant_Management.System.repo.CartRepo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CartSweeperTests {
+
+	private final LocalDateTime longAgo = LocalDateTime.now().minusDays(30);
+
+	private CartRepo cartRepo;
+	private CartPersister persister;
+	private CartStore cartStore;
+	private SimpleMeterRegistry meterRegistry;
+	private CartSweeper sweeper;
+
+	@BeforeEach
+	void setUp() {
+		cartRepo = mock(CartRepo.class);
+		persister = mock(CartPersister.class);
+		cartStore = mock(CartStore.class);
+		meterRegistry = new SimpleMeterRegistry();
+		sweeper = new CartSweeper(cartRepo, persister, cartStore, meterRegistry, 60_000, 2, 0, 10);
+	}
+
+	@Test
+	void pagesThroughIdleCartsAndSkipsActiveOnes() {
+		IdleCart first = new IdleCart("c1", "u1", longAgo);
+		IdleCart second = new IdleCart("c2", "u2", longAgo.plusSeconds(1));
+		IdleCart third = new IdleCart("c3", "u3", longAgo.plusSeconds(2));
+		when(cartRepo.findIdleCarts(any(), any(), anyString(), any())).thenReturn(List.of(first, second), List.of(third));
+		when(cartStore.isActiveSince(eq("u2"), any())).thenReturn(true);
+		when(persister.deleteIdle(anyCollection(), any())).thenAnswer(invocation -> {
+			List<String> cartIds = List.copyOf(invocation.getArgument(0));
+			return cartIds.stream().map(id -> "u" + id.substring(1)).toList();
+		});
+		when(cartRepo.count()).thenReturn(7L);
+
+		sweeper.sweep();
+
+		verify(persister).deleteIdle(eq(List.of("c1")), any());
+		verify(persister).deleteIdle(eq(List.of("c3")), any());
+		// The second page starts after the last cart of the first
+		verify(cartRepo).findIdleCarts(any(), eq(second.updatedAt()), eq("c2"), any());
+		verify(cartStore).evictIfIdle(eq("u1"), any());
+		assertEquals(2, meterRegistry.get("cart.sweeper.swept").counter().count());
+		assertEquals(7, meterRegistry.get("cart.live").gauge().value());
+	}
+}
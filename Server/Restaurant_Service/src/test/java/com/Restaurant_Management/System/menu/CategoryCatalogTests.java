@@ -0,0 +1,67 @@
+package com.Restaurant_Management.System.menu;
+
+import com.Restaurant_Management.System.entity.FoodItem;
+import com.Restaurant_Management.System.entity.Restaurant;
+import com.Restaurant_Management.System.event.FoodItemChangedEvent;
+import com.Restaurant_Management.System.event.RestaurantChangedEvent;
+import com.Restaurant_Management.System.repo.FoodItemRepo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CategoryCatalogTests {
+
+	private final Restaurant first = Restaurant.builder().restaurantId("r1").build();
+	private final Restaurant second = Restaurant.builder().restaurantId("r2").build();
+	private CategoryCatalog catalog;
+
+	@BeforeEach
+	void setUp() {
+		FoodItemRepo foodItemRepo = mock(FoodItemRepo.class);
+		when(foodItemRepo.findAllWithRestaurant()).thenReturn(List.of(
+				food("f1", "Pizza", first),
+				food("f2", "pizza", second),
+				food("f3", "Drinks", first)));
+		catalog = new CategoryCatalog(foodItemRepo);
+		catalog.load();
+	}
+
+	@Test
+	void countsCategoriesCaseInsensitively() {
+		assertEquals(List.of(
+				new CategoryCatalog.CategoryCount("Drinks", 1),
+				new CategoryCatalog.CategoryCount("Pizza", 2)), catalog.getCategories());
+		assertEquals(List.of(new CategoryCatalog.CategoryCount("pizza", 1)), catalog.getCategories("r2"));
+	}
+
+	@Test
+	void appliesUpdatesMovesAndDeletes() {
+		catalog.onFoodItemChanged(new FoodItemChangedEvent(food("f3", "Desserts", second), false));
+		catalog.onFoodItemChanged(new FoodItemChangedEvent(food("f1", "Pizza", first), true));
+
+		assertTrue(catalog.getCategories("r1").isEmpty());
+		assertEquals(List.of(
+				new CategoryCatalog.CategoryCount("Desserts", 1),
+				new CategoryCatalog.CategoryCount("pizza", 1)), catalog.getCategories("r2"));
+		assertEquals(2, catalog.getCategories().size());
+	}
+
+	@Test
+	void dropsItemsOfDeletedRestaurant() {
+		catalog.onRestaurantChanged(new RestaurantChangedEvent(first, true));
+
+		// The label stays with the first spelling seen
+		assertEquals(List.of(new CategoryCatalog.CategoryCount("Pizza", 1)), catalog.getCategories());
+		assertTrue(catalog.getCategories("r1").isEmpty());
+	}
+
+	private static FoodItem food(String id, String category, Restaurant restaurant) {
+		return FoodItem.builder().foodItemId(id).name(id).category(category).restaurant(restaurant).build();
+	}
+}
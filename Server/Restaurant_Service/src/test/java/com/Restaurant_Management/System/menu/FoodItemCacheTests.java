@@ -0,0 +1,87 @@
+package com.Restaurant_Management.System.menu;
+
+import com.Restaurant_Management.System.entity.FoodItem;
+import com.Restaurant_Management.System.entity.Restaurant;
+import com.Restaurant_Management.System.event.FoodItemChangedEvent;
+import com.Restaurant_Management.System.event.RestaurantChangedEvent;
+import com.Restaurant_Management.System.repo.FoodItemRepo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FoodItemCacheTests {
+
+	private FoodItemRepo foodItemRepo;
+	private FoodItemCache cache;
+
+	@BeforeEach
+	void setUp() {
+		foodItemRepo = mock(FoodItemRepo.class);
+		when(foodItemRepo.findCachedFoodItemsByIds(anyCollection())).thenAnswer(invocation -> {
+			Collection<String> ids = invocation.getArgument(0);
+			return ids.stream().filter(id -> !id.equals("missing")).map(id -> item(id, 1000)).toList();
+		});
+		cache = new FoodItemCache(foodItemRepo, new SimpleMeterRegistry(), 100);
+	}
+
+	@Test
+	void loadsAllMissesWithOneQuery() {
+		assertEquals(Set.of("f1", "f2"), cache.getAll(List.of("f1", "f2", "f1", "missing")).keySet());
+		assertEquals(Set.of("f1", "f2"), cache.getAll(List.of("f1", "f2")).keySet());
+
+		verify(foodItemRepo, times(1)).findCachedFoodItemsByIds(anyCollection());
+	}
+
+	@Test
+	void refreshesCachedItemsFromChangeEvents() {
+		cache.getAll(List.of("f1"));
+		Restaurant restaurant = Restaurant.builder().restaurantId("r1").restaurantName("Renamed").build();
+
+		cache.onFoodItemChanged(new FoodItemChangedEvent(
+				FoodItem.builder().foodItemId("f1").name("Updated").price(1500).restaurant(restaurant).build(), false));
+
+		assertEquals(1500, cache.getAll(List.of("f1")).get("f1").price());
+		verify(foodItemRepo, times(1)).findCachedFoodItemsByIds(anyCollection());
+	}
+
+	@Test
+	void dropsItemsOfChangedRestaurants() {
+		cache.getAll(List.of("f1"));
+
+		cache.onRestaurantChanged(new RestaurantChangedEvent(Restaurant.builder().restaurantId("r1").build(), true));
+		cache.getAll(List.of("f1"));
+
+		verify(foodItemRepo, times(2)).findCachedFoodItemsByIds(anyCollection());
+	}
+
+	@Test
+	void doesNotKeepRowsLoadedWhileTheItemChanged() {
+		when(foodItemRepo.findCachedFoodItemsByIds(anyCollection())).thenAnswer(invocation -> {
+			// The update commits and publishes its event after this load read the old row
+			cache.onFoodItemChanged(new FoodItemChangedEvent(FoodItem.builder().foodItemId("f1").name("Updated")
+					.price(1500).restaurant(Restaurant.builder().restaurantId("r1").build()).build(), false));
+			return List.of(item("f1", 1000));
+		}).thenReturn(List.of(item("f1", 1500)));
+
+		assertEquals(1000, cache.getAll(List.of("f1")).get("f1").price());
+		assertEquals(1500, cache.getAll(List.of("f1")).get("f1").price());
+		assertEquals(1500, cache.getAll(List.of("f1")).get("f1").price());
+
+		verify(foodItemRepo, times(2)).findCachedFoodItemsByIds(anyCollection());
+	}
+
+	private static CachedFoodItem item(String id, double price) {
+		return new CachedFoodItem(id, "Food " + id, null, "r1", "Restaurant", price, 0, true);
+	}
+}
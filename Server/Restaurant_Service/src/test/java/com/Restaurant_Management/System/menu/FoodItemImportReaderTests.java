@@ -0,0 +1,71 @@
+package com.Restaurant_Management.System.menu;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FoodItemImportReaderTests {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	void splitsQuotedCsvFields() {
+		assertEquals(List.of("a", "b, c", "say \"hi\"", ""), FoodItemImportReader.splitCsv("a,\"b, c\",\"say \"\"hi\"\"\","));
+	}
+
+	@Test
+	void mapsCsvColumnsByHeader() throws IOException {
+		String csv = "Price,Name,Category,available\n"
+				+ "\n"
+				+ "1200,Margherita,Pizza,false\n"
+				+ "abc,Broken,Pizza,true\n";
+
+		try (FoodItemImportReader reader = reader(csv, FoodItemImportReader.Format.CSV)) {
+			FoodItemImportReader.Row first = reader.next();
+			assertEquals(3, first.lineNumber());
+			assertEquals("Margherita", first.item().getName());
+			assertEquals("Pizza", first.item().getCategory());
+			assertEquals(1200, first.item().getPrice());
+			assertFalse(first.item().isAvailable());
+
+			FoodItemImportReader.Row second = reader.next();
+			assertEquals(4, second.lineNumber());
+			assertNull(second.item());
+			assertNotNull(second.error());
+
+			assertNull(reader.next());
+		}
+	}
+
+	@Test
+	void rejectsHeaderWithoutRequiredColumns() throws IOException {
+		try (FoodItemImportReader reader = reader("name,category\nCola,Drinks\n", FoodItemImportReader.Format.CSV)) {
+			assertThrows(IllegalArgumentException.class, reader::next);
+		}
+	}
+
+	@Test
+	void readsJsonLines() throws IOException {
+		String lines = "{\"name\":\"Cola\",\"price\":300}\n{not json}\nnull\n";
+
+		try (FoodItemImportReader reader = reader(lines, FoodItemImportReader.Format.JSON_LINES)) {
+			assertEquals("Cola", reader.next().item().getName());
+			assertNotNull(reader.next().error());
+			assertEquals("Row must be a JSON object", reader.next().error());
+			assertNull(reader.next());
+		}
+	}
+
+	private FoodItemImportReader reader(String content, FoodItemImportReader.Format format) {
+		return new FoodItemImportReader(new StringReader(content), format, objectMapper);
+	}
+}
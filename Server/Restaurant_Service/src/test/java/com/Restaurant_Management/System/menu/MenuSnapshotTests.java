@@ -0,0 +1,46 @@
+package com.Restaurant_Management.System.menu;
+
+import com.Restaurant_Management.System.dto.response.FoodItemResponseDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class MenuSnapshotTests {
+
+	@Test
+	void groupsItemsByCategoryInNameOrder() {
+		MenuSnapshot snapshot = MenuSnapshot.of("r1", List.of(
+				item("f1", "Margherita", "Pizza", 1200),
+				item("f2", "Cola", "Drinks", 300),
+				item("f3", "Hawaiian", "Pizza", 1500)));
+
+		assertEquals(List.of("Drinks", "Pizza"), List.copyOf(snapshot.getCategories().keySet()));
+		assertEquals(List.of("Hawaiian", "Margherita"),
+				snapshot.getCategories().get("Pizza").stream().map(FoodItemResponseDto::getName).toList());
+		assertEquals(2, snapshot.itemsInCategoriesMatching("piz").size());
+	}
+
+	@Test
+	void versionDependsOnContentOnly() {
+		List<FoodItemResponseDto> items = List.of(item("f1", "Margherita", "Pizza", 1200), item("f2", "Cola", "Drinks", 300));
+
+		String version = MenuSnapshot.of("r1", items).getVersion();
+
+		assertEquals(version, MenuSnapshot.of("r1", List.of(items.get(1), items.get(0))).getVersion());
+		assertNotEquals(version, MenuSnapshot.of("r1", List.of(item("f1", "Margherita", "Pizza", 1300), items.get(1))).getVersion());
+	}
+
+	private static FoodItemResponseDto item(String id, String name, String category, double price) {
+		return FoodItemResponseDto.builder()
+				.foodItemId(id)
+				.name(name)
+				.category(category)
+				.price(price)
+				.available(true)
+				.restaurantId("r1")
+				.build();
+	}
+}
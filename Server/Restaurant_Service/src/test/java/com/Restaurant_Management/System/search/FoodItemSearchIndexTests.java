@@ -0,0 +1,48 @@
+package com.Restaurant_Management.System.search;
+
+import com.Restaurant_Management.System.entity.FoodItem;
+import com.Restaurant_Management.System.entity.Restaurant;
+import com.Restaurant_Management.System.event.FoodItemChangedEvent;
+import com.Restaurant_Management.System.event.RestaurantChangedEvent;
+import com.Restaurant_Management.System.repo.FoodItemRepo;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+class FoodItemSearchIndexTests {
+
+	private final FoodItemSearchIndex index = new FoodItemSearchIndex(mock(FoodItemRepo.class));
+
+	@Test
+	void keepsAMovedItemWhenItsOldRestaurantIsDeleted() {
+		Restaurant oldRestaurant = restaurant("r1");
+		index.onFoodItemChanged(new FoodItemChangedEvent(item("f1", oldRestaurant), false));
+		index.onFoodItemChanged(new FoodItemChangedEvent(item("f1", restaurant("r2")), false));
+
+		index.onRestaurantChanged(new RestaurantChangedEvent(oldRestaurant, true));
+
+		assertEquals(List.of("f1"), index.searchAll("pizza"));
+	}
+
+	@Test
+	void dropsTheItemsOfADeletedRestaurant() {
+		Restaurant restaurant = restaurant("r1");
+		index.onFoodItemChanged(new FoodItemChangedEvent(item("f1", restaurant), false));
+		index.onFoodItemChanged(new FoodItemChangedEvent(item("f2", restaurant("r2")), false));
+
+		index.onRestaurantChanged(new RestaurantChangedEvent(restaurant, true));
+
+		assertEquals(List.of("f2"), index.searchAll("pizza"));
+	}
+
+	private static Restaurant restaurant(String restaurantId) {
+		return Restaurant.builder().restaurantId(restaurantId).build();
+	}
+
+	private static FoodItem item(String foodItemId, Restaurant restaurant) {
+		return FoodItem.builder().foodItemId(foodItemId).name("Pizza").category("Mains").restaurant(restaurant).build();
+	}
+}
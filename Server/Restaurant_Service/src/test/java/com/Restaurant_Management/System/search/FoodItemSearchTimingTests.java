@@ -0,0 +1,107 @@
+package com.Restaurant_Management.System.search;
+
+import com.Restaurant_Management.System.repo.FoodItemRepo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.sql.Time;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Times food item search through the in-memory index against the LIKE queries it replaced,
+ * both over the same seeded database.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+		// IGNORECASE matches the case-insensitive collation MySQL gives the LIKE queries
+		"spring.datasource.url=jdbc:h2:mem:food_search;MODE=MySQL;DATABASE_TO_LOWER=TRUE;IGNORECASE=TRUE;DB_CLOSE_DELAY=-1",
+		"spring.datasource.driver-class-name=org.h2.Driver",
+		"spring.datasource.username=sa",
+		"spring.datasource.password=",
+		"spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+		"spring.jpa.hibernate.ddl-auto=create-drop",
+		"spring.jpa.show-sql=false"
+})
+class FoodItemSearchTimingTests {
+
+	private static final int RESTAURANTS = 50;
+	private static final int FOOD_ITEMS = 20_000;
+	private static final String[] NAMES = {"Pizza", "Burger", "Noodles", "Kottu", "Biryani", "Salad", "Curry", "Wrap"};
+	private static final String[] CATEGORIES = {"Mains", "Starters", "Desserts", "Drinks", "Sides"};
+	private static final List<String> QUERIES = List.of("pizza", "kottu", "desserts", "curry", "salad");
+	private static final int ROUNDS = 10;
+
+	@Autowired
+	private FoodItemRepo foodItemRepo;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private FoodItemSearchIndex searchIndex;
+
+	@BeforeEach
+	void seed() {
+		List<Object[]> restaurants = new ArrayList<>();
+		for (int i = 0; i < RESTAURANTS; i++) {
+			restaurants.add(new Object[]{"r" + i, "Restaurant " + i, "Address " + i, "0770000000", "r" + i + "@example.com",
+					"Casual", "Colombo", 6.9, 79.8, true, true, 4.0, Time.valueOf("08:00:00"), Time.valueOf("22:00:00"),
+					"Description", true, "image.png"});
+		}
+		jdbcTemplate.batchUpdate("INSERT INTO restaurant (restaurant_id, restaurant_name, restaurant_address, "
+				+ "restaurant_phone, restaurant_email, restaurant_type, city, latitude, longitude, availability, "
+				+ "order_availability, rating, opening_time, closing_time, description, active, image_url) "
+				+ "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", restaurants);
+
+		List<Object[]> foodItems = new ArrayList<>();
+		for (int i = 0; i < FOOD_ITEMS; i++) {
+			foodItems.add(new Object[]{"f" + i, NAMES[i % NAMES.length] + " " + i, CATEGORIES[i % CATEGORIES.length],
+					1000, 0, true, "r" + (i % RESTAURANTS)});
+		}
+		jdbcTemplate.batchUpdate("INSERT INTO food_items (food_item_id, items_name, category, price, discount, "
+				+ "available, restaurant_id) VALUES (?, ?, ?, ?, ?, ?, ?)", foodItems);
+
+		searchIndex = new FoodItemSearchIndex(foodItemRepo);
+		searchIndex.rebuild();
+	}
+
+	@Test
+	void indexAnswersAPageFasterThanTheLikeQueries() {
+		for (String query : QUERIES) {
+			assertEquals(foodItemRepo.countAllFoodItems(query), searchIndex.search(query, 0, 20).totalHits(), query);
+		}
+
+		// The first rounds warm up both paths; the best of the remaining rounds is compared
+		long likeNanos = Long.MAX_VALUE;
+		long indexNanos = Long.MAX_VALUE;
+		for (int round = 0; round < ROUNDS; round++) {
+			long started = System.nanoTime();
+			for (String query : QUERIES) {
+				foodItemRepo.findAllFoodItem(query, PageRequest.of(0, 20));
+				foodItemRepo.countAllFoodItems(query);
+			}
+			likeNanos = Math.min(likeNanos, System.nanoTime() - started);
+
+			started = System.nanoTime();
+			for (String query : QUERIES) {
+				searchIndex.search(query, 0, 20);
+			}
+			indexNanos = Math.min(indexNanos, System.nanoTime() - started);
+		}
+
+		long likeMicros = likeNanos / QUERIES.size() / 1000;
+		long indexMicros = indexNanos / QUERIES.size() / 1000;
+		assertTrue(indexNanos * 5 < likeNanos, "index " + indexMicros + "us per query, LIKE " + likeMicros
+				+ "us per query over " + FOOD_ITEMS + " food items");
+	}
+}
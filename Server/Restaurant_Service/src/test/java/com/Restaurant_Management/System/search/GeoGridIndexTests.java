@@ -0,0 +1,108 @@
+package com.Restaurant_Management.System.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GeoGridIndexTests {
+
+	private final GeoGridIndex index = new GeoGridIndex(0.02);
+
+	@Test
+	void matchesBruteForceWithinRadius() {
+		Random random = new Random(7);
+		List<GeoGridIndex.Point> points = IntStream.range(0, 5000)
+				.mapToObj(i -> new GeoGridIndex.Point("r" + i,
+						6.8 + random.nextDouble() * 0.3, 79.8 + random.nextDouble() * 0.3, true, true, 4.0))
+				.toList();
+		points.forEach(index::put);
+
+		Set<String> expected = points.stream()
+				.filter(p -> GeoGridIndex.distanceKm(6.93, 79.85, p.latitude(), p.longitude()) <= 3)
+				.map(GeoGridIndex.Point::id)
+				.collect(Collectors.toSet());
+		Set<String> actual = index.within(6.93, 79.85, 3, point -> true).stream()
+				.map(hit -> hit.point().id())
+				.collect(Collectors.toSet());
+
+		assertTrue(expected.size() > 0);
+		assertEquals(expected, actual);
+	}
+
+	@Test
+	void answersRadiusQueriesOverFiftyThousandPointsFasterThanAScan() {
+		Random random = new Random(11);
+		List<GeoGridIndex.Point> points = IntStream.range(0, 50_000)
+				.mapToObj(i -> new GeoGridIndex.Point("r" + i,
+						6.0 + random.nextDouble() * 3.8, 79.7 + random.nextDouble() * 2.2, true, true, 4.0))
+				.toList();
+		points.forEach(index::put);
+		double[][] centres = new double[500][];
+		for (int i = 0; i < centres.length; i++) {
+			centres[i] = new double[]{6.0 + random.nextDouble() * 3.8, 79.7 + random.nextDouble() * 2.2};
+		}
+
+		// The first pass warms up both paths; the second is measured
+		long[] gridNanos = new long[centres.length];
+		long scanNanos = 0;
+		for (int pass = 0; pass < 2; pass++) {
+			scanNanos = 0;
+			for (int i = 0; i < centres.length; i++) {
+				double[] centre = centres[i];
+				long started = System.nanoTime();
+				int found = index.within(centre[0], centre[1], 5, point -> true).size();
+				gridNanos[i] = System.nanoTime() - started;
+
+				started = System.nanoTime();
+				long expected = points.stream()
+						.filter(p -> GeoGridIndex.distanceKm(centre[0], centre[1], p.latitude(), p.longitude()) <= 5)
+						.count();
+				scanNanos += System.nanoTime() - started;
+				assertEquals(expected, found);
+			}
+		}
+
+		long[] sorted = gridNanos.clone();
+		Arrays.sort(sorted);
+		long gridTotal = Arrays.stream(gridNanos).sum();
+		long p99Micros = sorted[sorted.length * 99 / 100] / 1000;
+		assertTrue(gridTotal * 10 < scanNanos, "5 km query over 50k points: grid " + gridTotal / centres.length / 1000
+				+ "us mean, " + p99Micros + "us p99; scan " + scanNanos / centres.length / 1000 + "us mean");
+	}
+
+	@Test
+	void wrapsAroundTheAntimeridian() {
+		index.put(new GeoGridIndex.Point("east", 0, 179.99, true, true, 3));
+		index.put(new GeoGridIndex.Point("west", 0, -179.99, true, true, 3));
+
+		List<String> ids = index.within(0, 179.999, 5, point -> true).stream()
+				.sorted(Comparator.comparingDouble(GeoGridIndex.Hit::distanceKm))
+				.map(hit -> hit.point().id())
+				.toList();
+
+		assertEquals(List.of("east", "west"), ids);
+	}
+
+	@Test
+	void appliesFilterAndTracksMovesAndRemovals() {
+		index.put(new GeoGridIndex.Point("a", 6.90, 79.86, true, false, 4));
+		index.put(new GeoGridIndex.Point("b", 6.91, 79.86, true, true, 4));
+
+		assertEquals(1, index.within(6.90, 79.86, 5, GeoGridIndex.Point::orderAvailability).size());
+
+		index.put(new GeoGridIndex.Point("a", 7.30, 80.63, true, true, 4));
+		index.remove("b");
+
+		assertTrue(index.within(6.90, 79.86, 5, point -> true).isEmpty());
+		assertEquals(1, index.size());
+	}
+}
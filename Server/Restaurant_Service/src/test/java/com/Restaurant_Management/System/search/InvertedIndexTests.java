@@ -0,0 +1,61 @@
+package com.Restaurant_Management.System.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InvertedIndexTests {
+
+	private final InvertedIndex index = new InvertedIndex(Map.of("name", 3.0, "address", 1.0));
+
+	@Test
+	void ranksWeightedFieldMatchesFirst() {
+		index.index("r1", Map.of("name", "Green Leaf", "address", "12 Pizza Street"));
+		index.index("r2", Map.of("name", "Pizza Palace", "address", "4 Main Road"));
+
+		InvertedIndex.SearchResult result = index.search("pizza", 0, 10);
+
+		assertEquals(List.of("r2", "r1"), result.documentIds());
+		assertEquals(2, result.totalHits());
+	}
+
+	@Test
+	void matchesPrefixesAndRequiresEveryToken() {
+		index.index("r1", Map.of("name", "Café Colombo", "address", "Galle Road"));
+		index.index("r2", Map.of("name", "Colombo Grill", "address", "Kandy Road"));
+
+		assertEquals(List.of("r1"), index.search("cafe col", 0, 10).documentIds());
+		assertEquals(2, index.search("colom", 0, 10).totalHits());
+		assertTrue(index.search("colombo kandy galle", 0, 10).documentIds().isEmpty());
+	}
+
+	@Test
+	void reindexAndRemoveUpdateResults() {
+		index.index("r1", Map.of("name", "Spice Hut", "address", "Kandy"));
+		index.index("r1", Map.of("name", "Noodle Hut", "address", "Kandy"));
+
+		assertTrue(index.search("spice", 0, 10).documentIds().isEmpty());
+		assertEquals(List.of("r1"), index.search("noodle", 0, 10).documentIds());
+
+		index.remove("r1");
+
+		assertEquals(0, index.search("hut", 0, 10).totalHits());
+		assertEquals(0, index.size());
+	}
+
+	@Test
+	void pagesThroughRankedResults() {
+		for (int i = 0; i < 25; i++) {
+			index.index("r" + i, Map.of("name", "Burger " + i, "address", "Colombo"));
+		}
+
+		InvertedIndex.SearchResult page = index.search("burger", 20, 10);
+
+		assertEquals(5, page.documentIds().size());
+		assertEquals(25, page.totalHits());
+	}
+}
@@ -0,0 +1,45 @@
+package com.Restaurant_Management.System.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OpenHoursIndexTests {
+
+	private final OpenHoursIndex index = new OpenHoursIndex();
+
+	@Test
+	void closingTimeIsExclusive() {
+		index.put("r1", LocalTime.of(9, 0), LocalTime.of(17, 30));
+
+		assertFalse(index.isOpen("r1", LocalTime.of(8, 59)));
+		assertTrue(index.isOpen("r1", LocalTime.of(9, 0)));
+		assertTrue(index.isOpen("r1", LocalTime.of(17, 29, 59)));
+		assertFalse(index.isOpen("r1", LocalTime.of(17, 30)));
+	}
+
+	@Test
+	void hoursCanCrossMidnight() {
+		index.put("late", LocalTime.of(18, 0), LocalTime.of(2, 0));
+		index.put("allDay", LocalTime.MIDNIGHT, LocalTime.MIDNIGHT);
+
+		assertEquals(List.of("late", "allDay"), index.openAt(LocalTime.of(1, 15)));
+		assertEquals(List.of("allDay"), index.openAt(LocalTime.of(12, 0)));
+	}
+
+	@Test
+	void updatesAndRemovalsApply() {
+		index.put("r1", LocalTime.of(9, 0), LocalTime.of(17, 0));
+		index.put("r1", LocalTime.of(12, 0), LocalTime.of(22, 0));
+		index.put("r2", LocalTime.of(9, 0), LocalTime.of(17, 0));
+		index.remove("r2");
+
+		assertEquals(List.of(), index.openAt(LocalTime.of(10, 0)));
+		assertEquals(List.of("r1"), index.openAt(LocalTime.of(20, 0)));
+	}
+}
@@ -0,0 +1,41 @@
+package com.Restaurant_Management.System.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SlidingWindowCounterTests {
+
+	private final SlidingWindowCounter counter = new SlidingWindowCounter(1000, 4);
+
+	@Test
+	void ranksKeysByCountInsideWindow() {
+		counter.increment("a", 100);
+		counter.increment("b", 1100);
+		counter.increment("b", 2100);
+		counter.increment("c", 3100);
+
+		List<Map.Entry<String, Long>> top = counter.top(2, 3500);
+
+		assertEquals("b", top.get(0).getKey());
+		assertEquals(2L, top.get(0).getValue());
+		assertEquals(2, top.size());
+	}
+
+	@Test
+	void oldBucketsExpireAndAreReused() {
+		counter.increment("old", 100);
+		counter.increment("new", 4100);
+
+		assertEquals(Map.of("new", 1L), counter.totals(4500));
+
+		counter.increment("newer", 8200);
+
+		assertEquals(Map.of("newer", 1L), counter.totals(8200));
+		assertTrue(counter.top(5, 20_000).isEmpty());
+	}
+}
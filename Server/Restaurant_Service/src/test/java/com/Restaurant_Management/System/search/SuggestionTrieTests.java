@@ -0,0 +1,46 @@
+package com.Restaurant_Management.System.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SuggestionTrieTests {
+
+	private final SuggestionTrie trie = SuggestionTrie.build(List.of(
+			new SuggestionTrie.Suggestion("Pizza Hut", "RESTAURANT", "r1", 40),
+			new SuggestionTrie.Suggestion("Domino's Pizza", "RESTAURANT", "r2", 90),
+			new SuggestionTrie.Suggestion("Pizzeria Uno", "RESTAURANT", "r3", 10),
+			new SuggestionTrie.Suggestion("Pizza", "CATEGORY", null, 25),
+			new SuggestionTrie.Suggestion("Pasta Carbonara", "FOOD", null, 5)), 3);
+
+	@Test
+	void returnsTopWeightedSuggestionsForPrefix() {
+		assertEquals(List.of("Domino's Pizza", "Pizza Hut", "Pizza"), texts(trie.suggest("piz", 10)));
+		assertEquals(List.of("Pasta Carbonara"), texts(trie.suggest("pa", 10)));
+	}
+
+	@Test
+	void matchesFromAnyWordAndIgnoresCase() {
+		assertEquals(List.of("Pasta Carbonara"), texts(trie.suggest("CARB", 10)));
+		assertEquals(List.of("Domino's Pizza"), texts(trie.suggest("domi", 10)));
+	}
+
+	@Test
+	void trailingSpaceRequiresAnotherWord() {
+		assertEquals(List.of("Pizza Hut"), texts(trie.suggest("pizza ", 10)));
+	}
+
+	@Test
+	void limitsAndMissesReturnShortLists() {
+		assertEquals(1, trie.suggest("pizz", 1).size());
+		assertTrue(trie.suggest("sushi", 10).isEmpty());
+		assertTrue(trie.suggest("  ", 10).isEmpty());
+	}
+
+	private static List<String> texts(List<SuggestionTrie.Suggestion> suggestions) {
+		return suggestions.stream().map(SuggestionTrie.Suggestion::text).toList();
+	}
+}
@@ -0,0 +1,47 @@
+package com.Restaurant_Management.System.search;
+
+import com.Restaurant_Management.System.entity.Restaurant;
+import com.Restaurant_Management.System.event.RestaurantChangedEvent;
+import com.Restaurant_Management.System.repo.RestaurantRepo;
+import com.Restaurant_Management.System.repo.SearchHistoryRepo;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+
+class TrendingRestaurantTrackerTests {
+
+	private final TrendingRestaurantTracker tracker = new TrendingRestaurantTracker(mock(RestaurantRepo.class),
+			mock(SearchHistoryRepo.class), 60_000, 4);
+
+	@Test
+	void keepsANameSharedByTwoRestaurantsWhenOneChanges() {
+		tracker.onRestaurantChanged(changed("r1", "Pizza Hub", "one.png", false));
+		tracker.onRestaurantChanged(changed("r2", "pizza hub", "two.png", false));
+
+		tracker.onRestaurantChanged(changed("r1", "Burger Hub", "one.png", false));
+		assertEquals("two.png", tracker.imageUrlOf("Pizza Hub"));
+
+		tracker.onRestaurantChanged(changed("r3", "Pizza Hub", "three.png", false));
+		tracker.onRestaurantChanged(changed("r3", null, null, true));
+		assertEquals("two.png", tracker.imageUrlOf("Pizza Hub"));
+		assertEquals("one.png", tracker.imageUrlOf("burger hub"));
+	}
+
+	@Test
+	void ignoresRestaurantsWithoutAName() {
+		tracker.onRestaurantChanged(changed("r1", null, "one.png", false));
+		tracker.onRestaurantChanged(changed("r1", "Pizza Hub", "one.png", false));
+		tracker.onRestaurantChanged(changed("r1", null, "one.png", false));
+
+		assertNull(tracker.imageUrlOf("Pizza Hub"));
+		tracker.recordSearch("Pizza Hub");
+		assertEquals(0, tracker.trending(5).size());
+	}
+
+	private static RestaurantChangedEvent changed(String restaurantId, String name, String imageUrl, boolean deleted) {
+		return new RestaurantChangedEvent(Restaurant.builder().restaurantId(restaurantId).restaurantName(name)
+				.imageUrl(imageUrl).build(), deleted);
+	}
+}
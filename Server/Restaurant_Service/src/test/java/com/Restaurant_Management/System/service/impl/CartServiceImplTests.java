@@ -0,0 +1,123 @@
+package com.Restaurant_Management.System.service.impl;
+
+import com.Restaurant_Management.System.cart.CartJournal;
+import com.Restaurant_Management.System.cart.CartPersister;
+import com.Restaurant_Management.System.cart.CartStore;
+import com.Restaurant_Management.System.dto.request.FoodCartItemRequestDto;
+import com.Restaurant_Management.System.dto.request.FoodCartRequestDto;
+import com.Restaurant_Management.System.entity.FoodItem;
+import com.Restaurant_Management.System.entity.Restaurant;
+import com.Restaurant_Management.System.event.FoodItemChangedEvent;
+import com.Restaurant_Management.System.menu.CachedFoodItem;
+import com.Restaurant_Management.System.menu.FoodItemCache;
+import com.Restaurant_Management.System.repo.FoodItemRepo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CartServiceImplTests {
+
+	private static final int CARTS = 300;
+
+	@TempDir
+	Path journalDir;
+
+	private FoodItemRepo foodItemRepo;
+	private CartPersister persister;
+	private FoodItemCache foodItemCache;
+	private CartStore cartStore;
+	private CartServiceImpl cartService;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		foodItemRepo = mock(FoodItemRepo.class);
+		when(foodItemRepo.findCachedFoodItemsByIds(anyCollection())).thenAnswer(invocation -> {
+			Collection<String> ids = invocation.getArgument(0);
+			return ids.stream().map(id -> new CachedFoodItem(id, "Food " + id, null, "r1", "Restaurant", 1000, 0, true)).toList();
+		});
+		persister = mock(CartPersister.class);
+		when(persister.load(anyString())).thenReturn(Optional.empty());
+		foodItemCache = new FoodItemCache(foodItemRepo, new SimpleMeterRegistry(), 1000);
+		cartStore = new CartStore(persister, new CartJournal(journalDir.toString(), new ObjectMapper().findAndRegisterModules()),
+				foodItemCache, new SimpleMeterRegistry(), 64, 60_000);
+		cartStore.recover();
+		cartService = new CartServiceImpl(foodItemCache, cartStore);
+	}
+
+	@Test
+	void resolvesAndMergesLargerCartsInLinearTime() {
+		// Loads every food item once, so the timed rounds only hit the cache
+		addCarts("warmup", 100);
+		verify(foodItemRepo, times(1)).findCachedFoodItemsByIds(anyCollection());
+
+		long perLine1 = nanosPerLine(1);
+		long perLine10 = nanosPerLine(10);
+		long perLine100 = nanosPerLine(100);
+
+		assertEquals(100, cartStore.get("lines-100-0").orElseThrow().lines().size());
+		assertEquals(2, cartStore.get("lines-100-0").orElseThrow().lines().get(0).quantity());
+		verify(foodItemRepo, times(1)).findCachedFoodItemsByIds(anyCollection());
+		// Per line, a 100 line cart may not cost much more than a 10 line one
+		assertTrue(perLine100 < perLine10 * 3, "resolve and merge per line: 1 line " + perLine1 / 1000.0
+				+ "us, 10 lines " + perLine10 / 1000.0 + "us, 100 lines " + perLine100 / 1000.0 + "us");
+	}
+
+	@Test
+	void repricesLinesWhoseItemChangedBeforeTheCartHeldThem() {
+		// The change lands after the item was resolved and before the cart is committed
+		when(persister.load("u1")).thenAnswer(invocation -> {
+			FoodItemChangedEvent event = new FoodItemChangedEvent(FoodItem.builder().foodItemId("f1").name("Food f1")
+					.price(1500).discount(0).available(true)
+					.restaurant(Restaurant.builder().restaurantId("r1").restaurantName("Restaurant").build()).build(), false);
+			foodItemCache.onFoodItemChanged(event);
+			cartStore.onFoodItemChanged(event);
+			return Optional.empty();
+		});
+
+		cartService.addToCart(FoodCartRequestDto.builder().userId("u1")
+				.cartItems(List.of(FoodCartItemRequestDto.builder().foodItemId("f1").quantity(2).build())).build(), null);
+
+		assertEquals(1500, cartStore.get("u1").orElseThrow().lines().get(0).price());
+	}
+
+	// Best of three rounds, each creating and then adding to CARTS carts of the given size
+	private long nanosPerLine(int lines) {
+		long best = Long.MAX_VALUE;
+		for (int round = 0; round < 3; round++) {
+			long started = System.nanoTime();
+			addCarts("lines-" + lines, lines);
+			best = Math.min(best, System.nanoTime() - started);
+		}
+		return best / ((long) CARTS * 2 * lines);
+	}
+
+	private void addCarts(String prefix, int lines) {
+		List<FoodCartItemRequestDto> items = IntStream.range(0, lines)
+				.mapToObj(i -> FoodCartItemRequestDto.builder().foodItemId("f" + i).quantity(1).build())
+				.toList();
+		for (int i = 0; i < CARTS; i++) {
+			String userId = prefix + "-" + i;
+			cartStore.delete(userId);
+			cartService.addToCart(FoodCartRequestDto.builder().userId(userId).cartItems(items).build(), null);
+			cartService.addFoodItemsToExistingCart(userId, items, null);
+		}
+	}
+}
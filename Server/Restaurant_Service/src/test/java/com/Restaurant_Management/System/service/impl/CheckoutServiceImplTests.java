@@ -0,0 +1,191 @@
+package com.Restaurant_Management.System.service.impl;
+
+import com.Restaurant_Management.System.cart.CartJournal;
+import com.Restaurant_Management.System.cart.CartLine;
+import com.Restaurant_Management.System.cart.CartPersister;
+import com.Restaurant_Management.System.cart.CartStore;
+import com.Restaurant_Management.System.checkout.OrderClient;
+import com.Restaurant_Management.System.dto.request.CheckoutRequestDto;
+import com.Restaurant_Management.System.dto.response.CheckoutResponseDto;
+import com.Restaurant_Management.System.exception.BadRequestException;
+import com.Restaurant_Management.System.exception.PreconditionFailedException;
+import com.Restaurant_Management.System.exception.ServiceUnavailableException;
+import com.Restaurant_Management.System.menu.CachedFoodItem;
+import com.Restaurant_Management.System.menu.FoodItemCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CheckoutServiceImplTests {
+
+	@TempDir
+	Path journalDir;
+
+	private final CheckoutRequestDto request =
+			new CheckoutRequestDto("1 Main Street", null, null, "0770000000", null, null);
+
+	private FoodItemCache foodItemCache;
+	private OrderClient orderClient;
+	private CartStore cartStore;
+	private CheckoutServiceImpl checkoutService;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		CartPersister persister = mock(CartPersister.class);
+		when(persister.load(anyString())).thenReturn(Optional.empty());
+		foodItemCache = mock(FoodItemCache.class);
+		orderClient = mock(OrderClient.class);
+		cartStore = new CartStore(persister, new CartJournal(journalDir.toString(), new ObjectMapper().findAndRegisterModules()),
+				foodItemCache, new SimpleMeterRegistry(), 8, 60_000);
+		cartStore.recover();
+		checkoutService = new CheckoutServiceImpl(cartStore, foodItemCache, orderClient, new SimpleMeterRegistry());
+
+		cartStore.update("u1", true, cart -> {
+			cart.add(line("f1", "r1", 2));
+			cart.add(line("f2", "r2", 1));
+		});
+		when(foodItemCache.getAll(anyCollection())).thenReturn(Map.of(
+				"f1", food("f1", "r1", 10, true),
+				"f2", food("f2", "r2", 4, true)));
+	}
+
+	@Test
+	void placesOneOrderPerRestaurantAtMenuPricesAndEmptiesCart() {
+		when(foodItemCache.getAll(anyCollection())).thenReturn(Map.of(
+				"f1", food("f1", "r1", 12, true),
+				"f2", food("f2", "r2", 4, true)));
+		when(orderClient.place(any(), anyString())).thenReturn(
+				new OrderClient.PlacedOrder(11L, "r1", new BigDecimal("24.00")),
+				new OrderClient.PlacedOrder(12L, "r2", new BigDecimal("4.00")));
+
+		CheckoutResponseDto checkout = checkoutService.checkout("u1", request, 1L);
+
+		ArgumentCaptor<OrderClient.OrderRequest> orders = ArgumentCaptor.forClass(OrderClient.OrderRequest.class);
+		verify(orderClient, times(2)).place(orders.capture(), anyString());
+		assertEquals(new BigDecimal("24.00"), orders.getAllValues().get(0).orderItems().get(0).totalPrice());
+		assertEquals(List.of(11L, 12L), checkout.getOrderIds());
+		assertEquals(new BigDecimal("28.00"), checkout.getTotalAmount());
+		assertTrue(cartStore.get("u1").orElseThrow().lines().isEmpty());
+	}
+
+	@Test
+	void cancelsPlacedOrdersAndTheTimedOutOneAndKeepsCart() {
+		when(orderClient.place(any(), anyString()))
+				.thenReturn(new OrderClient.PlacedOrder(11L, "r1", new BigDecimal("20.00")))
+				.thenThrow(new ResourceAccessException("timeout"));
+		when(orderClient.findPlaced(anyString(), anyString(), anyString()))
+				.thenReturn(Optional.of(new OrderClient.PlacedOrder(12L, "r2", new BigDecimal("4.00"))));
+
+		assertThrows(ServiceUnavailableException.class, () -> checkoutService.checkout("u1", request, null));
+
+		// The timed out order is looked up under its key, never placed again
+		ArgumentCaptor<OrderClient.OrderRequest> orders = ArgumentCaptor.forClass(OrderClient.OrderRequest.class);
+		ArgumentCaptor<String> keys = ArgumentCaptor.forClass(String.class);
+		verify(orderClient, times(2)).place(orders.capture(), keys.capture());
+		verify(orderClient).findPlaced("u1", orders.getAllValues().get(1).restaurantId(), keys.getAllValues().get(1));
+		verify(orderClient).cancel(11L);
+		verify(orderClient).cancel(12L);
+		assertEquals(2, cartStore.get("u1").orElseThrow().lines().size());
+	}
+
+	@Test
+	void cancelsNothingMoreWhenTheTimedOutOrderWasNotPlaced() {
+		when(orderClient.place(any(), anyString()))
+				.thenReturn(new OrderClient.PlacedOrder(11L, "r1", new BigDecimal("20.00")))
+				.thenThrow(new ResourceAccessException("timeout"));
+		when(orderClient.findPlaced(anyString(), anyString(), anyString())).thenReturn(Optional.empty());
+
+		assertThrows(ServiceUnavailableException.class, () -> checkoutService.checkout("u1", request, null));
+
+		verify(orderClient, times(2)).place(any(), anyString());
+		verify(orderClient).cancel(11L);
+		verify(orderClient, times(1)).cancel(anyLong());
+	}
+
+	@Test
+	void usesNewIdempotencyKeysWhenRetriedAfterAFailure() {
+		when(orderClient.place(any(), anyString()))
+				.thenThrow(new HttpClientErrorException(HttpStatus.BAD_REQUEST))
+				.thenReturn(new OrderClient.PlacedOrder(11L, "r1", BigDecimal.TEN),
+						new OrderClient.PlacedOrder(12L, "r2", BigDecimal.ONE));
+
+		assertThrows(BadRequestException.class, () -> checkoutService.checkout("u1", request, null));
+		checkoutService.checkout("u1", request, null);
+
+		ArgumentCaptor<String> keys = ArgumentCaptor.forClass(String.class);
+		verify(orderClient, times(3)).place(any(), keys.capture());
+		assertNotEquals(keys.getAllValues().get(0), keys.getAllValues().get(1));
+		verify(orderClient, never()).cancel(anyLong());
+	}
+
+	@Test
+	void refusesASecondCheckoutWhileOneIsRunning() {
+		when(orderClient.place(any(), anyString())).thenAnswer(invocation -> {
+			assertThrows(PreconditionFailedException.class, () -> checkoutService.checkout("u1", request, null));
+			return new OrderClient.PlacedOrder(11L, "r1", BigDecimal.TEN);
+		});
+
+		checkoutService.checkout("u1", request, null);
+
+		verify(orderClient, times(2)).place(any(), anyString());
+		assertTrue(cartStore.get("u1").orElseThrow().lines().isEmpty());
+	}
+
+	@Test
+	void cancelsOrdersWhenCartChangedDuringCheckout() {
+		when(orderClient.place(any(), anyString())).thenAnswer(invocation -> {
+			cartStore.update("u1", false, cart -> cart.remove("f2"));
+			return new OrderClient.PlacedOrder(11L, "r1", BigDecimal.TEN);
+		});
+
+		assertThrows(RuntimeException.class, () -> checkoutService.checkout("u1", request, null));
+
+		verify(orderClient, times(2)).cancel(11L);
+		assertEquals(1, cartStore.get("u1").orElseThrow().lines().size());
+	}
+
+	@Test
+	void rejectsUnavailableItemsBeforePlacingOrders() {
+		when(foodItemCache.getAll(anyCollection())).thenReturn(Map.of("f1", food("f1", "r1", 10, false)));
+
+		assertThrows(BadRequestException.class, () -> checkoutService.checkout("u1", request, null));
+
+		verify(orderClient, never()).place(any(), anyString());
+		verify(orderClient, never()).cancel(anyLong());
+	}
+
+	private static CartLine line(String foodItemId, String restaurantId, int quantity) {
+		return new CartLine(foodItemId, foodItemId, null, restaurantId, "Restaurant", 10, 0, false, quantity);
+	}
+
+	private static CachedFoodItem food(String foodItemId, String restaurantId, double price, boolean available) {
+		return new CachedFoodItem(foodItemId, foodItemId, null, restaurantId, "Restaurant", price, 0, available);
+	}
+}
@@ -0,0 +1,102 @@
+package com.Restaurant_Management.System.service.impl;
+
+import com.Restaurant_Management.System.dto.response.FoodItemImportResponseDto;
+import com.Restaurant_Management.System.entity.Restaurant;
+import com.Restaurant_Management.System.event.FoodItemsImportedEvent;
+import com.Restaurant_Management.System.menu.CategoryCatalog;
+import com.Restaurant_Management.System.menu.FoodItemImportReader;
+import com.Restaurant_Management.System.menu.MenuSnapshotCache;
+import com.Restaurant_Management.System.repo.FoodItemBatchWriter;
+import com.Restaurant_Management.System.repo.FoodItemRepo;
+import com.Restaurant_Management.System.repo.RestaurantRepo;
+import com.Restaurant_Management.System.search.FoodFacetIndex;
+import com.Restaurant_Management.System.search.FoodItemSearchIndex;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class FoodItemImportServiceImplTests {
+
+	private final List<FoodItemsImportedEvent> events = new ArrayList<>();
+
+	private FoodItemBatchWriter batchWriter;
+	private FoodItemSearchIndex searchIndex;
+	private FoodFacetIndex facetIndex;
+	private CategoryCatalog categoryCatalog;
+	private FoodItemImportServiceImpl importService;
+
+	@BeforeEach
+	void setUp() {
+		RestaurantRepo restaurantRepo = mock(RestaurantRepo.class);
+		when(restaurantRepo.findById("r1")).thenReturn(Optional.of(
+				Restaurant.builder().restaurantId("r1").restaurantName("Restaurant").build()));
+		FoodItemRepo foodItemRepo = mock(FoodItemRepo.class);
+		searchIndex = new FoodItemSearchIndex(foodItemRepo);
+		facetIndex = new FoodFacetIndex(foodItemRepo);
+		categoryCatalog = new CategoryCatalog(foodItemRepo);
+		categoryCatalog.load();
+		batchWriter = mock(FoodItemBatchWriter.class);
+
+		importService = new FoodItemImportServiceImpl(restaurantRepo, batchWriter,
+				new MenuSnapshotCache(new SimpleMeterRegistry()), event -> {
+					FoodItemsImportedEvent imported = (FoodItemsImportedEvent) event;
+					events.add(imported);
+					searchIndex.onFoodItemsImported(imported);
+					facetIndex.onFoodItemsImported(imported);
+					categoryCatalog.onFoodItemsImported(imported);
+				}, new ObjectMapper(), 500);
+	}
+
+	@Test
+	void publishesOneEventPerStoredBatch() {
+		doThrow(new DataIntegrityViolationException("duplicate")).when(batchWriter)
+				.insertAll(argThat(items -> items.stream().anyMatch(item -> item.getName().equals("Dish 7"))));
+
+		FoodItemImportResponseDto result = importService.importFoodItems("r1", csv(1200), FoodItemImportReader.Format.CSV);
+
+		assertEquals(1199, result.getImported());
+		assertEquals(1, result.getFailed());
+		assertEquals(List.of(499, 500, 200), events.stream().map(event -> event.foodItems().size()).toList());
+		assertEquals(1199, searchIndex.searchAll("dish").size());
+		assertEquals(1199, categoryCatalog.getCategories("r1").stream().mapToInt(CategoryCatalog.CategoryCount::itemCount).sum());
+	}
+
+	@Test
+	void importsAtLeastFiveThousandRowsPerSecond() {
+		int rows = 100_000;
+		// Warms up the reader, validation and the indexes on a smaller file first
+		importService.importFoodItems("r1", csv(10_000), FoodItemImportReader.Format.CSV);
+
+		long started = System.nanoTime();
+		FoodItemImportResponseDto result = importService.importFoodItems("r1", csv(rows), FoodItemImportReader.Format.CSV);
+		double seconds = (System.nanoTime() - started) / 1e9;
+
+		assertEquals(rows, result.getImported());
+		long rowsPerSecond = (long) (rows / seconds);
+		assertTrue(rowsPerSecond >= 5_000, rowsPerSecond + " rows/s into the search, facet and category indexes");
+	}
+
+	private static ByteArrayInputStream csv(int rows) {
+		StringBuilder csv = new StringBuilder("name,category,type,price,discount,available\n");
+		for (int i = 0; i < rows; i++) {
+			csv.append("Dish ").append(i).append(",Category ").append(i % 30).append(",Veg,")
+					.append(500 + i % 2000).append(',').append(i % 20).append(",true\n");
+		}
+		return new ByteArrayInputStream(csv.toString().getBytes(StandardCharsets.UTF_8));
+	}
+}
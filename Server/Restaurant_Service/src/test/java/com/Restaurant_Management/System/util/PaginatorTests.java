@@ -0,0 +1,55 @@
+package com.Restaurant_Management.System.util;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PaginatorTests {
+
+	private final Paginator paginator = new Paginator(60_000);
+	private final AtomicInteger counts = new AtomicInteger();
+
+	@Test
+	void exactModeCountsEveryTime() {
+		paginate(CountMode.EXACT, "a");
+		Paginator.Result<String> result = paginate(CountMode.EXACT, "a");
+
+		assertEquals(42L, result.total());
+		assertEquals(2, counts.get());
+	}
+
+	@Test
+	void cachedModeReusesCountPerKey() {
+		paginate(CountMode.CACHED, "a");
+		paginate(CountMode.CACHED, "a");
+		Paginator.Result<String> result = paginate(CountMode.CACHED, "b");
+
+		assertEquals(42L, result.total());
+		assertEquals(2, counts.get());
+	}
+
+	@Test
+	void hasNextModeSkipsCount() {
+		Paginator.Result<String> result = paginate(CountMode.HAS_NEXT, "a");
+
+		assertNull(result.total());
+		assertTrue(result.hasNext());
+		assertEquals(List.of("x", "y"), result.content());
+		assertEquals(0, counts.get());
+	}
+
+	private Paginator.Result<String> paginate(CountMode mode, String key) {
+		return paginator.paginate(mode, key, 0, 2,
+				pageable -> new SliceImpl<>(List.of("x", "y"), pageable, true),
+				() -> {
+					counts.incrementAndGet();
+					return 42;
+				});
+	}
+}
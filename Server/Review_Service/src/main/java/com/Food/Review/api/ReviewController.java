@@ -2,6 +2,7 @@ package com.Food.Review.api;
 
 import com.Food.Review.dto.request.ReviewRequestDto;
 import com.Food.Review.service.ReviewService;
+import com.Food.Review.util.CountMode;
 import com.Food.Review.util.StandardResponseDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -48,14 +49,15 @@ public class ReviewController {
             @PathVariable("id") String Id,
             @RequestParam String searchText,
             @RequestParam int page,
-            @RequestParam int size
+            @RequestParam int size,
+            @RequestParam(defaultValue = "EXACT") CountMode countMode
     ) {
 
         return new ResponseEntity<>(
                 StandardResponseDto.builder()
                         .code(200)
                         .message("Review List")
-                        .data(reviewService.getAllReviewsByRestaurantId(Id,searchText, page, size))
+                        .data(reviewService.getAllReviewsByRestaurantId(Id,searchText, page, size, countMode))
                         .build(),
                 HttpStatus.OK
         );
@@ -13,6 +13,7 @@ import java.util.List;
 @Setter
 @Builder
 public class ReviewResponsePaginateDto {
-    private long dataCount;
+    private Long dataCount;
+    private boolean hasNext;
     private List<ReviewResponseDto> dataList;
 }
@@ -3,6 +3,7 @@ package com.Food.Review.service;
 import com.Food.Review.dto.request.ReviewRequestDto;
 import com.Food.Review.dto.response.ReviewResponseDto;
 import com.Food.Review.dto.response.paginate.ReviewResponsePaginateDto;
+import com.Food.Review.util.CountMode;
 
 public interface ReviewService {
 
@@ -11,5 +12,5 @@ public interface ReviewService {
     public ReviewResponseDto getReviewById(String id);
     public void deleteReviewById(String id);
     public ReviewResponsePaginateDto
-    getAllReviewsByRestaurantId(String restaurantId,String searchText,int page,int size);
+    getAllReviewsByRestaurantId(String restaurantId,String searchText,int page,int size,CountMode countMode);
 }
@@ -7,8 +7,9 @@ import com.Food.Review.entity.Reviews;
 import com.Food.Review.exception.EntryNotFoundException;
 import com.Food.Review.repo.ReviewRepo;
 import com.Food.Review.service.ReviewService;
+import com.Food.Review.util.CountMode;
+import com.Food.Review.util.Paginator;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -20,6 +21,7 @@ import java.util.stream.Collectors;
 public class reviewServiceImpl implements ReviewService {
 
     private final ReviewRepo reviewRepo;
+    private final Paginator paginator;
 
     @Override
     public void createReview(ReviewRequestDto dto) {
@@ -51,11 +53,15 @@ public class reviewServiceImpl implements ReviewService {
     }
 
     @Override
-    public ReviewResponsePaginateDto getAllReviewsByRestaurantId(String restaurantId, String searchText, int page, int size) {
+    public ReviewResponsePaginateDto getAllReviewsByRestaurantId(String restaurantId, String searchText, int page, int size, CountMode countMode) {
+        Paginator.Result<Reviews> result = paginator.paginate(countMode, restaurantId + ":" + searchText, page, size,
+                pageable -> reviewRepo.findAllReviewsByRestaurantId(restaurantId, searchText, pageable),
+                () -> reviewRepo.countAllReviewsByRestaurantId(restaurantId, searchText));
         return ReviewResponsePaginateDto.builder()
-                .dataCount(reviewRepo.countAllReviewsByRestaurantId(restaurantId,searchText))
+                .dataCount(result.total())
+                .hasNext(result.hasNext())
                 .dataList(
-                        reviewRepo.findAllReviewsByRestaurantId(restaurantId,searchText, PageRequest.of(page,size))
+                        result.content()
                                 .stream()
                                 .map(this::toReviewResponseDto)
                                 .collect(Collectors.toList())
@@ -0,0 +1,68 @@
+package com.Food.Review.util;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Runs a page query together with the count the caller asked for.
+ *
+ * Page queries return a {@link Slice}, which fetches one row past the page to decide
+ * {@code hasNext} without a COUNT. Counts are only run in {@link CountMode#EXACT} mode, or in
+ * {@link CountMode#CACHED} mode when no fresh count is cached under the given key.
+ */
+@Component
+public class Paginator {
+
+    private static final int MAX_CACHED_COUNTS = 1000;
+
+    private final long countTtlMillis;
+    private final Map<String, CachedCount> counts = new ConcurrentHashMap<>();
+
+    public Paginator(@Value("${pagination.count-cache.ttl-millis:30000}") long countTtlMillis) {
+        this.countTtlMillis = countTtlMillis;
+    }
+
+    public <T> Result<T> paginate(CountMode mode, String countKey, int page, int size,
+                                  Function<Pageable, Slice<T>> pageQuery, LongSupplier countQuery) {
+        Slice<T> slice = pageQuery.apply(PageRequest.of(page, size));
+        Long total = switch (mode == null ? CountMode.EXACT : mode) {
+            case EXACT -> countQuery.getAsLong();
+            case CACHED -> cachedCount(countKey, countQuery);
+            case HAS_NEXT -> null;
+        };
+        return new Result<>(slice.getContent(), total, slice.hasNext());
+    }
+
+    private long cachedCount(String key, LongSupplier countQuery) {
+        long now = System.currentTimeMillis();
+        CachedCount cached = counts.get(key);
+        if (cached != null && cached.expiresAt() > now) {
+            return cached.count();
+        }
+
+        long count = countQuery.getAsLong();
+        if (counts.size() >= MAX_CACHED_COUNTS) {
+            counts.values().removeIf(entry -> entry.expiresAt() <= now);
+            if (counts.size() >= MAX_CACHED_COUNTS) {
+                counts.clear();
+            }
+        }
+        counts.put(key, new CachedCount(count, now + countTtlMillis));
+        return count;
+    }
+
+    public record Result<T>(List<T> content, Long total, boolean hasNext) {
+    }
+
+    private record CachedCount(long count, long expiresAt) {
+    }
+}